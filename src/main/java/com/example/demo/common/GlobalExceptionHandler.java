@@ -1,6 +1,7 @@
 package com.example.demo.common;
 
 import com.example.demo.common.ApiResponse;
+import com.example.demo.util.cursor.InvalidCursorException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -39,6 +40,12 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(ApiResponse.fail("Resource not found: " + ex.getRequestURL()), HttpStatus.NOT_FOUND);
     }
 
+    // 형식이 올바르지 않은 페이지 커서 (클라이언트 입력 오류만 400으로 응답)
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidCursorException(InvalidCursorException ex) {
+        return new ResponseEntity<>(ApiResponse.fail(ex.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
     // 4. 모든 예상치 못한 예외 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleAllExceptions(Exception ex) {
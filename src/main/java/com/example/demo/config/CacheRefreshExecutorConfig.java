@@ -0,0 +1,38 @@
+package com.example.demo.config;
+
+import com.example.demo.util.concurrent.BoundedExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 백그라운드 갱신 전용 ThreadPool 설정
+ *
+ * 목적:
+ * - 조기 갱신/stale 갱신/hot key 갱신을 요청 스레드와 분리 (조회자는 갱신을 기다리지 않음)
+ * - 갱신은 best-effort이므로 큐가 가득 차면 거절하고 거절 횟수를 메트릭으로 노출
+ *   (거절된 키는 기존 값을 계속 제공하고 다음 조회 시 다시 갱신 대상이 됨)
+ */
+@Slf4j
+@Configuration
+public class CacheRefreshExecutorConfig {
+
+    @Bean(name = "cacheRefreshExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor cacheRefreshExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${cache.refresh.executor.core-size:4}") int coreSize,
+            @Value("${cache.refresh.executor.max-size:8}") int maxSize,
+            @Value("${cache.refresh.executor.queue-capacity:1024}") int queueCapacity) {
+
+        ThreadPoolExecutor executor = BoundedExecutors.create(meterRegistry,
+                "cacheRefreshExecutor", "cache.refresh.executor", "cache-refresh",
+                "캐시 백그라운드 갱신 작업 거절 횟수 (큐 포화)",
+                coreSize, maxSize, queueCapacity);
+
+        log.info("캐시 갱신 Executor 생성 - core: {}, max: {}, queue: {}", coreSize, maxSize, queueCapacity);
+        return executor;
+    }
+}
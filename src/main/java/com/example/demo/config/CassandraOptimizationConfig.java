@@ -1,11 +1,15 @@
 package com.example.demo.config;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.InsertOptions;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 
+import java.time.Duration;
+
 /**
  * 카산드라 성능 최적화 설정
  * 
@@ -21,12 +25,17 @@ public class CassandraOptimizationConfig {
      * 타임라인 전용 WriteOptions (성능 최적화)
      * - ConsistencyLevel.ONE: 빠른 쓰기 성능
      * - 타임라인은 Eventually Consistent 허용
+     * - 행 단위 TTL: 오래된 타임라인 행은 자동 만료 (0이면 만료 없음)
+     *   만료된 구간은 tweets_by_user Fan-out on Read로 조회
      */
     @Bean("timelineWriteOptions")
-    public WriteOptions timelineWriteOptions() {
-        return WriteOptions.builder()
-                .consistencyLevel(ConsistencyLevel.ONE)
-                .build();
+    public InsertOptions timelineWriteOptions(@Value("${timeline.ttl-seconds:2592000}") long ttlSeconds) {
+        InsertOptions.InsertOptionsBuilder builder = InsertOptions.builder()
+                .consistencyLevel(ConsistencyLevel.ONE);
+        if (ttlSeconds > 0) {
+            builder.ttl(Duration.ofSeconds(ttlSeconds));
+        }
+        return builder.build();
     }
 
     /**
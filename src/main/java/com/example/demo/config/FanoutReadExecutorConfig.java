@@ -0,0 +1,38 @@
+package com.example.demo.config;
+
+import com.example.demo.util.concurrent.BoundedExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Fan-out on Read 조회 전용 ThreadPool 설정
+ *
+ * 목적:
+ * - 타임라인 조회의 블로킹 Cassandra 호출을 ForkJoinPool.commonPool에서 분리
+ * - 큐 크기를 제한해 부하 시 대기열이 무한히 쌓이지 않도록 backpressure 적용
+ * - 큐가 가득 차면 즉시 거절(RejectedExecutionException)하고 거절 횟수를 메트릭으로 노출
+ */
+@Slf4j
+@Configuration
+public class FanoutReadExecutorConfig {
+
+    @Bean(name = "fanoutReadExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor fanoutReadExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${fanout.read.executor.core-size:16}") int coreSize,
+            @Value("${fanout.read.executor.max-size:32}") int maxSize,
+            @Value("${fanout.read.executor.queue-capacity:512}") int queueCapacity) {
+
+        ThreadPoolExecutor executor = BoundedExecutors.create(meterRegistry,
+                "fanoutReadExecutor", "fanout.read.executor", "fanout-read",
+                "Fan-out on Read 조회 작업 거절 횟수 (큐 포화)",
+                coreSize, maxSize, queueCapacity);
+
+        log.info("Fan-out on Read Executor 생성 - core: {}, max: {}, queue: {}", coreSize, maxSize, queueCapacity);
+        return executor;
+    }
+}
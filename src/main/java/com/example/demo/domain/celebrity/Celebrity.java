@@ -0,0 +1,45 @@
+package com.example.demo.domain.celebrity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.cassandra.core.mapping.Column;
+import org.springframework.data.cassandra.core.mapping.PrimaryKey;
+import org.springframework.data.cassandra.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 셀럽(인플루언서) 레지스트리
+ * - 팔로워 수가 임계치를 넘어 Fan-out on Write 대상에서 제외된 작성자 목록
+ * - 이 테이블에 등록된 작성자의 트윗은 celebrity_tweets에만 저장되고
+ *   팔로워의 타임라인 조회 시점에 병합됨 (Hybrid Fan-out)
+ */
+@Table("celebrities")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Celebrity {
+
+    /**
+     * 셀럽 사용자 ID (파티션 키)
+     */
+    @PrimaryKey
+    @Column("user_id")
+    private UUID userId;
+
+    /**
+     * 승격 당시 팔로워 수
+     */
+    @Column("follower_count")
+    private long followerCount;
+
+    /**
+     * 셀럽으로 승격된 시간
+     */
+    @Column("promoted_at")
+    private LocalDateTime promotedAt;
+}
@@ -0,0 +1,14 @@
+package com.example.demo.domain.celebrity;
+
+import org.springframework.data.cassandra.repository.CassandraRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Celebrity 레지스트리를 위한 Cassandra Repository
+ * 셀럽 수는 전체 사용자 대비 매우 적으므로 findAll()로 전체 로딩하여 메모리에 캐싱
+ */
+@Repository
+public interface CelebrityRepository extends CassandraRepository<Celebrity, UUID> {
+}
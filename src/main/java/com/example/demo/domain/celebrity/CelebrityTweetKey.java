@@ -41,7 +41,8 @@ public class CelebrityTweetKey implements Serializable {
      * 트윗 고유 ID (두 번째 클러스터링 키)
      * - 동일한 created_at을 가진 트윗들의 고유성 보장
      * - tweets 테이블의 원본 트윗과 연결되는 참조 키
+     * - 내림차순 (같은 시각이면 큰 tweet_id부터)
      */
-    @PrimaryKeyColumn(name = "tweet_id", type = PrimaryKeyType.CLUSTERED)
+    @PrimaryKeyColumn(name = "tweet_id", type = PrimaryKeyType.CLUSTERED, ordering = Ordering.DESCENDING)
     private UUID tweetId;
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.example.demo.domain.celebrity;
 
+import com.example.demo.util.cassandra.CassandraPaging;
+import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.repository.CassandraRepository;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -18,17 +20,30 @@ public interface CelebrityTweetRepository extends CassandraRepository<CelebrityT
     /**
      * 특정 인플루언서의 최신 트윗 조회
      * @param authorId 인플루언서 ID
-     * @return 최신순 트윗 목록 (최대 20개)
+     * @param limit 조회 개수 (LIMIT 바인드 값)
+     * @param options 드라이버 page size 등 조회 옵션
+     * @return 최신순 트윗 목록 (최대 limit개)
      */
-    @Query("SELECT * FROM celebrity_tweets WHERE author_id = ?0 LIMIT 20")
-    List<CelebrityTweet> findLatestTweets(UUID authorId);
+    @Query("SELECT * FROM celebrity_tweets WHERE author_id = ?0 LIMIT ?1")
+    List<CelebrityTweet> findLatestTweets(UUID authorId, int limit, QueryOptions options);
+
+    default List<CelebrityTweet> findLatestTweets(UUID authorId, int limit) {
+        return findLatestTweets(authorId, limit, CassandraPaging.pageOf(limit));
+    }
 
     /**
-     * 커서 기반 페이지네이션
+     * Keyset 커서 기반 페이지네이션 ((created_at, tweet_id) 튜플 비교)
      * @param authorId 인플루언서 ID
-     * @param cursor 기준 시간
+     * @param createdAt 이전 페이지 마지막 트윗 시간
+     * @param tweetId 이전 페이지 마지막 트윗 ID
+     * @param limit 조회 개수
+     * @param options 조회 옵션
      * @return 트윗 목록
      */
-    @Query("SELECT * FROM celebrity_tweets WHERE author_id = ?0 AND created_at < ?1 LIMIT 20")
-    List<CelebrityTweet> findTweetsWithCursor(UUID authorId, LocalDateTime cursor);
+    @Query("SELECT * FROM celebrity_tweets WHERE author_id = ?0 AND (created_at, tweet_id) < (?1, ?2) LIMIT ?3")
+    List<CelebrityTweet> findTweetsAfter(UUID authorId, LocalDateTime createdAt, UUID tweetId, int limit, QueryOptions options);
+
+    default List<CelebrityTweet> findTweetsAfter(UUID authorId, LocalDateTime createdAt, UUID tweetId, int limit) {
+        return findTweetsAfter(authorId, createdAt, tweetId, limit, CassandraPaging.pageOf(limit));
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,216 @@
+package com.example.demo.domain.celebrity.service;
+
+import com.example.demo.domain.celebrity.Celebrity;
+import com.example.demo.domain.celebrity.CelebrityRepository;
+import com.example.demo.domain.celebrity.CelebrityTweet;
+import com.example.demo.domain.celebrity.CelebrityTweetKey;
+import com.example.demo.domain.celebrity.CelebrityTweetRepository;
+import com.example.demo.util.concurrent.BoundedFanout;
+import com.example.demo.util.cursor.TimelineCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 셀럽(인플루언서) Hybrid Fan-out 서비스
+ *
+ * 전략:
+ * - 팔로워 수가 임계치 미만인 작성자 → Fan-out on Write (user_timeline에 Push)
+ * - 팔로워 수가 임계치 이상인 작성자 → celebrity_tweets에만 저장 (Pull)
+ * - 타임라인 조회 시 내가 팔로우하는 셀럽들의 최신 트윗을 병합
+ *
+ * 셀럽 한 명의 트윗이 수백만 건의 타임라인 쓰기로 증폭되는 것을 막는 것이 목적
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CelebrityService {
+
+    private final CelebrityRepository celebrityRepository;
+    private final CelebrityTweetRepository celebrityTweetRepository;
+    private final CelebrityTweetHeadCache celebrityTweetHeadCache;
+
+    // 셀럽 레지스트리 백그라운드 재로딩용 (조회 스레드는 재로딩을 기다리지 않음)
+    @Qualifier("cacheRefreshExecutor")
+    private final Executor cacheRefreshExecutor;
+
+    // 셀럽 트윗 병렬 조회용 (Fan-out on Read와 같은 큐 크기 제한 Executor 공유)
+    @Qualifier("fanoutReadExecutor")
+    private final ThreadPoolExecutor fanoutReadExecutor;
+
+    // 이 값 이상의 팔로워를 가진 작성자는 Fan-out on Write 대상에서 제외
+    @Value("${fanout.celebrity.threshold:10000}")
+    private long celebrityThreshold;
+
+    // 셀럽 레지스트리 메모리 캐시 갱신 주기
+    @Value("${fanout.celebrity.registry-refresh-ms:60000}")
+    private long registryRefreshMs;
+
+    // 셀럽별 조회 대기 한도 (초과 시 도착한 셀럽 트윗만 병합)
+    @Value("${fanout.read.deadline-ms:300}")
+    private long readDeadlineMs;
+
+    // 요청 하나가 fanoutReadExecutor에서 동시에 점유할 최대 작업 수
+    @Value("${fanout.read.max-tasks-per-request:8}")
+    private int maxTasksPerRequest;
+
+    private volatile Set<UUID> celebrityIds = Set.of();
+    private volatile long registryLoadedAt = 0L;
+    private final AtomicBoolean registryReloading = new AtomicBoolean();
+
+    /**
+     * 셀럽 여부 확인 (메모리 레지스트리 기반, I/O 없음)
+     */
+    public boolean isCelebrity(UUID userId) {
+        return getCelebrityIds().contains(userId);
+    }
+
+    /**
+     * 팔로워 수가 임계치 이상이면 셀럽으로 승격
+     *
+     * @param userId 작성자 ID
+     * @param followerCount 현재 팔로워 수
+     * @return 셀럽으로 처리해야 하면 true
+     */
+    public boolean promoteIfOverThreshold(UUID userId, long followerCount) {
+        if (followerCount < celebrityThreshold) {
+            return false;
+        }
+
+        celebrityRepository.save(new Celebrity(userId, followerCount, LocalDateTime.now()));
+
+        // 다음 갱신 주기를 기다리지 않고 로컬 레지스트리에 즉시 반영
+        synchronized (this) {
+            Set<UUID> updated = new HashSet<>(celebrityIds);
+            updated.add(userId);
+            celebrityIds = Set.copyOf(updated);
+        }
+
+        log.info("셀럽 승격 - userId: {}, 팔로워 수: {}, 임계치: {}", userId, followerCount, celebrityThreshold);
+        return true;
+    }
+
+    /**
+     * 셀럽 트윗 저장 (팔로워 타임라인 대신 작성자 파티션 한 곳에만 저장)
+     */
+    public void saveCelebrityTweet(UUID authorId, UUID tweetId, String tweetText, LocalDateTime createdAt) {
+        CelebrityTweet celebrityTweet = new CelebrityTweet(authorId, tweetId, tweetText, createdAt);
+        celebrityTweetRepository.save(celebrityTweet);
+        celebrityTweetHeadCache.prepend(celebrityTweet);
+        log.info("셀럽 트윗 저장 (Fan-out 생략) - authorId: {}, tweetId: {}", authorId, tweetId);
+    }
+
+    /**
+     * 셀럽 트윗 삭제 (트윗 삭제 시 호출, 행이 없어도 안전)
+     */
+    public void deleteCelebrityTweet(UUID authorId, UUID tweetId, LocalDateTime createdAt) {
+        celebrityTweetRepository.deleteById(new CelebrityTweetKey(authorId, createdAt, tweetId));
+        celebrityTweetHeadCache.remove(authorId, tweetId);
+    }
+
+    /**
+     * 팔로잉 목록 중 셀럽들의 최신 트윗 조회 (타임라인 병합용)
+     *
+     * @param followingIds 타임라인 소유자가 팔로우하는 사용자 ID 목록
+     * @param cursor 이전 페이지 마지막 (created_at, tweet_id) (null이면 최신)
+     * @param size 최대 반환 개수
+     * @return 최신순 셀럽 트윗 목록 (deadline 초과/거절된 셀럽은 제외)
+     */
+    public List<CelebrityTweet> getCelebrityTweets(Collection<UUID> followingIds, TimelineCursor cursor, int size) {
+        Set<UUID> registry = getCelebrityIds();
+        List<UUID> celebrityFollowings = followingIds.stream()
+                .filter(registry::contains)
+                .toList();
+
+        if (celebrityFollowings.isEmpty()) {
+            return List.of();
+        }
+
+        BoundedFanout.Result<UUID, List<CelebrityTweet>> fetched = BoundedFanout.run(celebrityFollowings,
+                authorId -> fetchCelebrityTweets(authorId, cursor, size), fanoutReadExecutor,
+                maxTasksPerRequest, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(readDeadlineMs));
+        if (fetched.partial()) {
+            log.warn("셀럽 트윗 부분 병합 - 요청 셀럽 수: {}, 병합 셀럽 수: {}",
+                    celebrityFollowings.size(), fetched.completed().size());
+        }
+
+        List<CelebrityTweet> merged = new ArrayList<>();
+        fetched.completed().values().forEach(merged::addAll);
+
+        return merged.stream()
+                .sorted(TimelineCursor.newestFirst(t -> t.getKey().getCreatedAt(), t -> t.getKey().getTweetId()))
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 셀럽 한 명의 트윗 조회 (병합 결과가 size개이므로 작성자별로도 size개까지만 조회)
+     * - 최신 페이지는 셀럽 head 캐시에서 제공
+     */
+    private List<CelebrityTweet> fetchCelebrityTweets(UUID authorId, TimelineCursor cursor, int size) {
+        try {
+            return cursor == null
+                    ? celebrityTweetHeadCache.getLatest(authorId, size)
+                    : celebrityTweetRepository.findTweetsAfter(authorId, cursor.createdAt(), cursor.tweetId(), size);
+        } catch (Exception e) {
+            log.error("셀럽 트윗 조회 실패 - authorId: {}", authorId, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 셀럽 레지스트리 조회
+     * - 첫 조회만 동기 로딩하고, 이후 갱신 주기가 지나면 기존 목록을 반환하면서 백그라운드에서 한 번만 다시 로딩
+     */
+    private Set<UUID> getCelebrityIds() {
+        if (registryLoadedAt == 0L) {
+            reloadRegistry();
+        } else if (System.currentTimeMillis() - registryLoadedAt > registryRefreshMs
+                && registryReloading.compareAndSet(false, true)) {
+            try {
+                cacheRefreshExecutor.execute(() -> {
+                    try {
+                        reloadRegistry();
+                    } finally {
+                        registryReloading.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                registryReloading.set(false);
+            }
+        }
+        return celebrityIds;
+    }
+
+    private synchronized void reloadRegistry() {
+        if (System.currentTimeMillis() - registryLoadedAt <= registryRefreshMs) {
+            return;
+        }
+        try {
+            celebrityIds = celebrityRepository.findAll().stream()
+                    .map(Celebrity::getUserId)
+                    .collect(Collectors.toUnmodifiableSet());
+            log.debug("셀럽 레지스트리 갱신 - 셀럽 수: {}", celebrityIds.size());
+        } catch (Exception e) {
+            log.warn("셀럽 레지스트리 갱신 실패, 기존 목록 유지 - error: {}", e.getMessage());
+        } finally {
+            registryLoadedAt = System.currentTimeMillis();
+        }
+    }
+}
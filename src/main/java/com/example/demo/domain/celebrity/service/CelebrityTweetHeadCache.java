@@ -0,0 +1,104 @@
+package com.example.demo.domain.celebrity.service;
+
+import com.example.demo.domain.celebrity.CelebrityTweet;
+import com.example.demo.domain.celebrity.CelebrityTweetRepository;
+import com.example.demo.util.cache.RefreshAheadCache;
+import com.example.demo.util.cassandra.CassandraPaging;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * 셀럽별 최신 트윗 head 캐시 (celebrity_tweets 최신 MAX_PAGE_SIZE개)
+ *
+ * - 셀럽 파티션은 모든 팔로워의 타임라인 조회마다 읽히므로 가장 뜨거운 키
+ * - 만료 시점에 팔로워 조회가 한꺼번에 Cassandra로 몰리지 않도록 RefreshAheadCache로 조기 갱신/stale 반환
+ * - 주기적으로 조회가 많은 셀럽을 미리 갱신하므로 다른 인스턴스에서 작성된 트윗도 갱신 주기 안에 반영
+ * - 이 인스턴스에서 저장/삭제된 트윗은 write-through로 즉시 반영
+ *   (다른 인스턴스에서 삭제된 트윗은 타임라인 조회 시 DeletedTweetRegistry로 제외)
+ */
+@Slf4j
+@Component
+public class CelebrityTweetHeadCache {
+
+    private static final int HEAD_SIZE = CassandraPaging.MAX_PAGE_SIZE;
+
+    private final CelebrityTweetRepository celebrityTweetRepository;
+    private final RefreshAheadCache<UUID, List<CelebrityTweet>> heads;
+
+    // hot 셀럽 기준 (갱신 주기 동안의 조회 수)
+    @Value("${fanout.celebrity.cache.hot-min-hits:20}")
+    private long hotMinHits;
+
+    public CelebrityTweetHeadCache(CelebrityTweetRepository celebrityTweetRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                                   @Value("${fanout.celebrity.cache.max-authors:10000}") long maxAuthors,
+                                   @Value("${fanout.celebrity.cache.fresh-seconds:10}") long freshSeconds,
+                                   @Value("${fanout.celebrity.cache.stale-seconds:30}") long staleSeconds,
+                                   @Value("${fanout.celebrity.cache.early-refresh-beta:1.0}") double earlyRefreshBeta) {
+        this.celebrityTweetRepository = celebrityTweetRepository;
+        this.heads = new RefreshAheadCache<>("celebrityTweets",
+                authorId -> List.copyOf(celebrityTweetRepository.findLatestTweets(authorId, HEAD_SIZE)),
+                maxAuthors, Duration.ofSeconds(freshSeconds), Duration.ofSeconds(staleSeconds),
+                earlyRefreshBeta, cacheRefreshExecutor, meterRegistry);
+    }
+
+    /**
+     * 셀럽의 최신 트윗 조회
+     *
+     * @return 최신순 트윗 목록 (최대 limit개, 읽기 전용)
+     */
+    public List<CelebrityTweet> getLatest(UUID authorId, int limit) {
+        if (limit > HEAD_SIZE) {
+            return celebrityTweetRepository.findLatestTweets(authorId, limit);
+        }
+        List<CelebrityTweet> head = heads.get(authorId);
+        return head.size() <= limit ? head : head.subList(0, limit);
+    }
+
+    /**
+     * 새 셀럽 트윗 반영 (celebrity_tweets 저장 직후 호출)
+     */
+    public void prepend(CelebrityTweet tweet) {
+        UUID tweetId = tweet.getKey().getTweetId();
+        heads.update(tweet.getKey().getAuthorId(), head -> {
+            if (head.stream().anyMatch(cached -> cached.getKey().getTweetId().equals(tweetId))) {
+                return head;
+            }
+            List<CelebrityTweet> updated = new ArrayList<>(Math.min(head.size() + 1, HEAD_SIZE));
+            updated.add(tweet);
+            updated.addAll(head.subList(0, Math.min(head.size(), HEAD_SIZE - 1)));
+            return List.copyOf(updated);
+        });
+    }
+
+    /**
+     * 셀럽 트윗 삭제 반영
+     */
+    public void remove(UUID authorId, UUID tweetId) {
+        heads.update(authorId, head -> head.stream()
+                .filter(cached -> !cached.getKey().getTweetId().equals(tweetId))
+                .toList());
+    }
+
+    /**
+     * 조회가 많은 셀럽의 head를 만료 전에 백그라운드 갱신
+     */
+    @Scheduled(fixedDelayString = "${fanout.celebrity.cache.hot-refresh-ms:2000}")
+    public void refreshHotCelebrities() {
+        int refreshed = heads.refreshHot(hotMinHits);
+        if (refreshed > 0) {
+            log.debug("hot 셀럽 head 갱신 요청 - 셀럽 수: {}", refreshed);
+        }
+    }
+}
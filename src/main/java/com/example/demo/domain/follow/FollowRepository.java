@@ -2,6 +2,8 @@ package com.example.demo.domain.follow;
 
 import org.springframework.data.cassandra.repository.CassandraRepository;
 import org.springframework.data.cassandra.repository.Query;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,6 +23,14 @@ public interface FollowRepository extends CassandraRepository<FollowersByUser, F
      */
     List<FollowersByUser> findByKeyFollowedUserId(UUID followedUserId);
 
+    /**
+     * 특정 사용자의 팔로워 목록을 페이지 단위로 조회 (Cassandra paging state 기반)
+     * @param followedUserId 팔로우 당하는 사용자 ID
+     * @param pageable CassandraPageRequest (첫 페이지는 paging state 없이 요청)
+     * @return 팔로워 한 페이지 + 다음 페이지 요청 정보
+     */
+    Slice<FollowersByUser> findByKeyFollowedUserId(UUID followedUserId, Pageable pageable);
+
     /**
      * 팔로우 관계 존재 여부 확인
      * @param followedUserId 팔로우 당하는 사용자 ID
@@ -33,6 +43,9 @@ public interface FollowRepository extends CassandraRepository<FollowersByUser, F
      * 내가 팔로우하는 사람들 조회
      * @param followerId 팔로우 하는 사용자 ID (나)
      * @return 나의 팔로잉 목록
+     * @deprecated 파티션 키 없이 클러스터링 컬럼만으로 조회하므로 전체 클러스터 스캔이 발생함.
+     *             FollowingsByUserRepository#findByKeyFollowerId (followings_by_user 파티션 조회) 사용
      */
+    @Deprecated
     List<FollowersByUser> findByKeyFollowerId(UUID followerId);
 } 
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.example.demo.domain.CassandraBaseEntity;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.cassandra.core.mapping.Column;
 import org.springframework.data.cassandra.core.mapping.PrimaryKey;
 import org.springframework.data.cassandra.core.mapping.Table;
 
@@ -24,6 +25,13 @@ public class FollowersByUser extends CassandraBaseEntity {
     @PrimaryKey
     private FollowersByUserKey key;
 
+    /**
+     * 팔로우 시작 시간
+     * - 부모의 createdAt은 매핑에서 제외되므로 팔로우 테이블은 별도 컬럼으로 저장
+     */
+    @Column("created_at")
+    private LocalDateTime followedAt;
+
     /**
      * 팔로우 관계 생성 생성자
      * @param followedUserId 팔로우 당하는 사용자 ID  
@@ -32,13 +40,7 @@ public class FollowersByUser extends CassandraBaseEntity {
      */
     public FollowersByUser(UUID followedUserId, UUID followerId, LocalDateTime createdAt) {
         this.key = new FollowersByUserKey(followedUserId, followerId);
+        this.followedAt = createdAt;
         this.setCreatedAt(createdAt);
     }
-
-    /**
-     * 팔로우 시작 시간 조회 (createdAt 활용)
-     */
-    public LocalDateTime getFollowedAt() {
-        return this.getCreatedAt();
-    }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import java.util.UUID;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.cassandra.core.mapping.Column;
 import org.springframework.data.cassandra.core.mapping.PrimaryKey;
 import org.springframework.data.cassandra.core.mapping.Table;
 
@@ -18,12 +19,13 @@ public class FollowingsByUser extends CassandraBaseEntity {
   @PrimaryKey
   private FollowingsByUserKey key;
 
+  // 부모의 createdAt은 매핑에서 제외되므로 팔로우 시작 시간은 별도 컬럼으로 저장
+  @Column("created_at")
+  private LocalDateTime followingAt;
+
   public FollowingsByUser(UUID followerId, UUID followedUserId, LocalDateTime createdAt) {
     this.key = new FollowingsByUserKey(followerId, followedUserId);
+    this.followingAt = createdAt;
     this.setCreatedAt(createdAt);
   }
-
-  public LocalDateTime getFollowingAt() {
-    return this.getCreatedAt();
-  }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.demo.domain.follow;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.cassandra.repository.CassandraRepository;
@@ -22,4 +23,12 @@ public interface FollowingsByUserRepository extends CassandraRepository<Followin
    * @return 존재 여부
    */
   boolean existsByKeyFollowerIdAndKeyFollowedUserId(UUID followerId, UUID followedUserId);
+
+  /**
+   * 여러 대상에 대한 팔로잉 관계 일괄 조회 (요청자 파티션 하나만 읽음)
+   * @param followerId 팔로우 하는 사용자 ID (파티션 키)
+   * @param followedUserIds 확인할 대상 사용자 ID 목록 (클러스터링 키 IN)
+   * @return 이미 존재하는 팔로잉 관계
+   */
+  List<FollowingsByUser> findByKeyFollowerIdAndKeyFollowedUserIdIn(UUID followerId, Collection<UUID> followedUserIds);
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.example.demo.domain.follow;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.cassandra.core.mapping.CassandraType;
+import org.springframework.data.cassandra.core.mapping.Column;
+import org.springframework.data.cassandra.core.mapping.PrimaryKey;
+import org.springframework.data.cassandra.core.mapping.Table;
+
+import java.util.UUID;
+
+/**
+ * 사용자별 팔로워/팔로잉 수 (Cassandra counter 테이블)
+ * - follow/unfollow 시 증감만 하므로 followers_by_user 파티션 전체를 세지 않고 O(1)로 조회
+ * - counter 컬럼은 save()가 아닌 UserFollowCountRepository의 증감 쿼리로만 변경
+ */
+@Table("user_follow_counts")
+@Getter
+@NoArgsConstructor
+public class UserFollowCount {
+
+    /**
+     * 사용자 ID (파티션 키)
+     */
+    @PrimaryKey
+    @Column("user_id")
+    private UUID userId;
+
+    /**
+     * 나를 팔로우하는 사용자 수
+     */
+    @Column("follower_count")
+    @CassandraType(type = CassandraType.Name.COUNTER)
+    private long followerCount;
+
+    /**
+     * 내가 팔로우하는 사용자 수
+     */
+    @Column("following_count")
+    @CassandraType(type = CassandraType.Name.COUNTER)
+    private long followingCount;
+}
@@ -0,0 +1,32 @@
+package com.example.demo.domain.follow;
+
+import org.springframework.data.cassandra.repository.CassandraRepository;
+import org.springframework.data.cassandra.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * UserFollowCount counter 테이블을 위한 Cassandra Repository
+ * - counter 컬럼은 INSERT가 불가능하므로 UPDATE ... SET c = c + ? 로만 증감
+ * - 다건 조회는 findAllById (user_id IN (...))
+ */
+@Repository
+public interface UserFollowCountRepository extends CassandraRepository<UserFollowCount, UUID> {
+
+    /**
+     * 팔로워 수 증감
+     * @param userId 팔로우 당하는 사용자 ID
+     * @param delta 증감값 (follow: +1, unfollow: -1)
+     */
+    @Query("UPDATE user_follow_counts SET follower_count = follower_count + ?1 WHERE user_id = ?0")
+    void addFollowerCount(UUID userId, long delta);
+
+    /**
+     * 팔로잉 수 증감
+     * @param userId 팔로우 하는 사용자 ID
+     * @param delta 증감값 (follow: +1, unfollow: -1)
+     */
+    @Query("UPDATE user_follow_counts SET following_count = following_count + ?1 WHERE user_id = ?0")
+    void addFollowingCount(UUID userId, long delta);
+}
@@ -0,0 +1,173 @@
+package com.example.demo.domain.follow.cache;
+
+import com.example.demo.domain.follow.FollowingsByUserRepository;
+import com.example.demo.util.UUID.PackedUuidSet;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 팔로잉 목록 캐시 (타임라인 조립의 첫 단계용)
+ *
+ * - followings_by_user 파티션을 PackedUuidSet(원소당 16바이트)으로 보관 → 조회 시 Cassandra 왕복 없음
+ * - follow/unfollow 시 write-through로 갱신 (팔로우 그래프는 읽기에 비해 변경이 드묾)
+ * - 팔로우 그래프 복구로 파티션이 바뀐 사용자는 항목을 제거하고 다음 조회 시 다시 적재
+ *
+ * 버전:
+ * - 변경마다 Redis follow:followings:version:{followerId}를 INCR 하고, 캐시 항목은 적재/갱신 시점의 버전을 보관
+ * - 변경한 인스턴스는 자신의 항목을 새 버전으로 갱신한 뒤 (followerId, 버전)을 Pub/Sub로 발행
+ * - 다른 인스턴스는 자신의 항목 버전이 더 낮을 때만 제거 (이미 같은 버전 이상이면 유지)
+ * - Redis 장애 시에는 로컬 항목만 제거하고, 다른 인스턴스는 만료 시간 이후 다시 적재
+ */
+@Slf4j
+@Component
+public class FollowingsCache implements MessageListener {
+
+  public static final String INVALIDATION_CHANNEL = "follow:followings:invalidate";
+  private static final String VERSION_KEY_PREFIX = "follow:followings:version:";
+
+  // 항목당 고정 비용 (키/객체 오버헤드 근사치, 바이트)
+  private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+  private final FollowingsByUserRepository followingsByUserRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final Cache<UUID, Entry> entries;
+
+  public FollowingsCache(FollowingsByUserRepository followingsByUserRepository,
+      StringRedisTemplate redisTemplate,
+      MeterRegistry meterRegistry,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${follow.followings-cache.max-weight-bytes:67108864}") long maxWeightBytes,
+      @Value("${follow.followings-cache.ttl-seconds:600}") long ttlSeconds) {
+    this.followingsByUserRepository = followingsByUserRepository;
+    this.redisTemplate = redisTemplate;
+    this.entries = Caffeine.newBuilder()
+        .maximumWeight(maxWeightBytes)
+        .weigher((UUID followerId, Entry entry) ->
+            (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + entry.followings().sizeInBytes()))
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, entries, "followings");
+    listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+  }
+
+  /**
+   * 팔로잉 사용자 ID 목록 (같은 사용자의 동시 miss는 한 번만 적재)
+   */
+  public List<UUID> getFollowingIds(UUID followerId) {
+    return entries.get(followerId, this::load).followings().toList();
+  }
+
+  /**
+   * follow 성공 후 호출
+   */
+  public void followed(UUID followerId, Collection<UUID> followedUserIds) {
+    if (!followedUserIds.isEmpty()) {
+      apply(followerId, followings -> followings.withAll(followedUserIds));
+    }
+  }
+
+  /**
+   * unfollow 성공 후 호출
+   */
+  public void unfollowed(UUID followerId, Collection<UUID> followedUserIds) {
+    if (!followedUserIds.isEmpty()) {
+      apply(followerId, followings -> followings.withoutAll(followedUserIds));
+    }
+  }
+
+  /**
+   * 팔로우 그래프 복구 후 호출 (변경 내용 대신 파티션을 다시 적재하도록 모든 인스턴스의 항목 제거)
+   */
+  public void invalidate(Collection<UUID> followerIds) {
+    followerIds.forEach(followerId -> apply(followerId, null));
+  }
+
+  /**
+   * 다른 인스턴스가 발행한 변경 메시지 처리 ("followerId:version")
+   * - 적재 중인 같은 사용자 항목이 있으면 적재가 끝난 뒤 비교하므로 오래된 적재 결과가 남지 않음
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      int separator = body.lastIndexOf(':');
+      UUID followerId = UUID.fromString(body.substring(0, separator));
+      long version = Long.parseLong(body.substring(separator + 1));
+      entries.asMap().computeIfPresent(followerId, (id, entry) -> entry.version() < version ? null : entry);
+    } catch (RuntimeException e) {
+      log.warn("잘못된 팔로잉 캐시 무효화 메시지 - body: {}", body);
+    }
+  }
+
+  private void apply(UUID followerId, UnaryOperator<PackedUuidSet> change) {
+    long version;
+    try {
+      Long next = redisTemplate.opsForValue().increment(versionKey(followerId));
+      version = next == null ? 0L : next;
+    } catch (Exception e) {
+      log.warn("팔로잉 캐시 버전 갱신 실패, 로컬 항목만 제거 - followerId: {}, error: {}", followerId, e.getMessage());
+      entries.invalidate(followerId);
+      return;
+    }
+
+    // 캐시에 없는 사용자는 다음 조회 시 변경이 반영된 파티션을 적재 (change가 null이면 로컬 항목도 제거)
+    entries.asMap().computeIfPresent(followerId, (id, entry) -> {
+      if (entry.version() >= version) {
+        return entry;
+      }
+      return change == null ? null : new Entry(version, change.apply(entry.followings()));
+    });
+
+    try {
+      redisTemplate.convertAndSend(INVALIDATION_CHANNEL, followerId + ":" + version);
+    } catch (Exception e) {
+      log.warn("팔로잉 캐시 무효화 전파 실패 - followerId: {}, error: {}", followerId, e.getMessage());
+    }
+  }
+
+  /**
+   * 버전을 먼저 읽고 파티션을 조회 → 조회 이후의 변경은 항상 더 높은 버전으로 도착
+   */
+  private Entry load(UUID followerId) {
+    long version = currentVersion(followerId);
+    List<UUID> followingIds = followingsByUserRepository.findByKeyFollowerId(followerId)
+        .stream()
+        .map(following -> following.getKey().getFollowedUserId())
+        .toList();
+    return new Entry(version, PackedUuidSet.of(followingIds));
+  }
+
+  private long currentVersion(UUID followerId) {
+    try {
+      String version = redisTemplate.opsForValue().get(versionKey(followerId));
+      return version == null ? 0L : Long.parseLong(version);
+    } catch (Exception e) {
+      log.warn("팔로잉 캐시 버전 조회 실패 - followerId: {}, error: {}", followerId, e.getMessage());
+      return 0L;
+    }
+  }
+
+  private static String versionKey(UUID followerId) {
+    return VERSION_KEY_PREFIX + followerId;
+  }
+
+  private record Entry(long version, PackedUuidSet followings) {
+  }
+}
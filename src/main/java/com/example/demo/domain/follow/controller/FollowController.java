@@ -1,17 +1,25 @@
 package com.example.demo.domain.follow.controller;
 
 import com.example.demo.domain.follow.FollowersByUser;
+import com.example.demo.domain.follow.request.BulkFollowRequest;
 import com.example.demo.domain.follow.request.FollowRequest;
+import com.example.demo.domain.follow.response.BulkFollowResponse;
+import com.example.demo.domain.follow.response.FollowCountResponse;
+import com.example.demo.domain.follow.service.FollowCountService;
 import com.example.demo.domain.follow.service.FollowService;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -20,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class FollowController {
 
   private final FollowService followService;
+  private final FollowCountService followCountService;
 
   @PostMapping("/{userId}")
   public ResponseEntity<FollowersByUser> followUser(@PathVariable("userId") UUID followedUserId, @RequestBody FollowRequest request) {
@@ -29,9 +38,47 @@ public class FollowController {
     );
   }
 
+  /**
+   * 여러 사용자 일괄 팔로우
+   *
+   * POST /follows/bulk { "followerId": ..., "followedUserIds": [...] }
+   */
+  @PostMapping("/bulk")
+  public ResponseEntity<BulkFollowResponse> bulkFollow(@RequestBody BulkFollowRequest request) {
+    return ResponseEntity.ok(followService.bulkFollow(request));
+  }
+
+  /**
+   * 여러 사용자 일괄 언팔로우
+   *
+   * DELETE /follows/bulk { "followerId": ..., "followedUserIds": [...] }
+   */
+  @DeleteMapping("/bulk")
+  public ResponseEntity<BulkFollowResponse> bulkUnfollow(@RequestBody BulkFollowRequest request) {
+    return ResponseEntity.ok(followService.bulkUnfollow(request));
+  }
+
   @DeleteMapping("/{userId}")
   public ResponseEntity<Void> unfollowUser(@PathVariable("userId") UUID followedUserId, @RequestBody FollowRequest request) {
     followService.unfollow(followedUserId, request);
     return ResponseEntity.ok().build();
   }
+
+  /**
+   * 팔로워/팔로잉 수 조회 (프로필 표시용)
+   */
+  @GetMapping("/{userId}/counts")
+  public ResponseEntity<FollowCountResponse> getFollowCounts(@PathVariable("userId") UUID userId) {
+    return ResponseEntity.ok(followCountService.getCounts(userId));
+  }
+
+  /**
+   * 여러 사용자의 팔로워/팔로잉 수 일괄 조회
+   *
+   * GET /follows/counts?userIds={id1},{id2},...
+   */
+  @GetMapping("/counts")
+  public ResponseEntity<Map<UUID, FollowCountResponse>> getFollowCounts(@RequestParam("userIds") List<UUID> userIds) {
+    return ResponseEntity.ok(followCountService.getCounts(userIds));
+  }
 }
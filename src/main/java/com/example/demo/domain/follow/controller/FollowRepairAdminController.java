@@ -0,0 +1,62 @@
+package com.example.demo.domain.follow.controller;
+
+import com.example.demo.domain.follow.repair.FollowRepairJobPublisher;
+import com.example.demo.domain.follow.repair.FollowRepairJobTracker;
+import com.example.demo.domain.follow.response.FollowRepairJobResponse;
+import com.example.demo.domain.follow.service.FollowGraphRepairService.Source;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 팔로우 그래프 복구 관리 API (ADMIN 권한 필요, SecurityConfig)
+ */
+@RestController
+@RequestMapping("/admin/follows/repair")
+@RequiredArgsConstructor
+public class FollowRepairAdminController {
+
+  private final FollowRepairJobPublisher followRepairJobPublisher;
+  private final FollowRepairJobTracker followRepairJobTracker;
+
+  /**
+   * 팔로우 그래프 복구 작업 등록 (전체 테이블 스캔은 백그라운드에서 실행)
+   *
+   * POST /admin/follows/repair?source=followers  → followers_by_user 기준으로 followings_by_user 재구성
+   * POST /admin/follows/repair?source=followings → followings_by_user 기준으로 followers_by_user 재구성
+   * (두 경우 모두 재구성 후 팔로워/팔로잉 카운터를 재계산)
+   *
+   * @return 202 Accepted + 작업 ID (GET /admin/follows/repair/{jobId}로 진행 상황 조회)
+   */
+  @PostMapping
+  public ResponseEntity<FollowRepairJobResponse> submitRepair(@RequestParam("source") String source) {
+    Source repairSource = switch (source) {
+      case "followers" -> Source.FOLLOWERS;
+      case "followings" -> Source.FOLLOWINGS;
+      default -> throw new IllegalArgumentException("source는 followers 또는 followings 이어야 합니다: " + source);
+    };
+    UUID jobId = followRepairJobPublisher.publish(repairSource);
+    return new ResponseEntity<>(
+        new FollowRepairJobResponse(jobId, repairSource.name(), "QUEUED", 0L, 0L, 0L, null),
+        HttpStatus.ACCEPTED);
+  }
+
+  /**
+   * 팔로우 그래프 복구 작업 상태 조회
+   *
+   * GET /admin/follows/repair/{jobId}
+   */
+  @GetMapping("/{jobId}")
+  public ResponseEntity<FollowRepairJobResponse> getRepairJob(@PathVariable("jobId") UUID jobId) {
+    return followRepairJobTracker.get(jobId)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+}
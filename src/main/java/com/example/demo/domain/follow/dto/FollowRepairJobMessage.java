@@ -0,0 +1,28 @@
+package com.example.demo.domain.follow.dto;
+
+import com.example.demo.domain.follow.service.FollowGraphRepairService.Source;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 팔로우 그래프 복구 작업 메시지 (관리 API 요청 1건 = 메시지 1건)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowRepairJobMessage {
+
+  /**
+   * 작업 ID (진행 상황 조회 키)
+   */
+  private UUID jobId;
+
+  /**
+   * 복구 기준 테이블
+   */
+  private Source source;
+}
@@ -0,0 +1,41 @@
+package com.example.demo.domain.follow.repair;
+
+import com.example.demo.domain.follow.dto.FollowRepairJobMessage;
+import com.example.demo.domain.follow.service.FollowCountRepairService;
+import com.example.demo.domain.follow.service.FollowCountRepairService.CountRepairResult;
+import com.example.demo.domain.follow.service.FollowGraphRepairService;
+import com.example.demo.domain.follow.service.FollowGraphRepairService.RepairResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 팔로우 그래프 복구 작업 컨슈머
+ *
+ * - 큐는 single active consumer로 선언되어 클러스터 전체에서 한 번에 하나의 복구 작업만 실행
+ * - 전체 스캔을 다시 시작하지 않도록 실패해도 재발행하지 않고 FAILED로 기록 (관리자가 다시 요청)
+ * - 그래프 재구성 후 재구성된 행 기준으로 팔로워/팔로잉 카운터 재계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowRepairJobConsumer {
+
+  private final FollowGraphRepairService followGraphRepairService;
+  private final FollowCountRepairService followCountRepairService;
+  private final FollowRepairJobTracker jobTracker;
+
+  @RabbitListener(queues = "${rabbitmq.follow-repair.queue}", concurrency = "1")
+  public void handle(FollowRepairJobMessage message) {
+    jobTracker.running(message.getJobId());
+    try {
+      RepairResult result = followGraphRepairService.rebuild(message.getSource());
+      CountRepairResult counts = followCountRepairService.rebuildCounts();
+      jobTracker.completed(message.getJobId(), result, counts);
+    } catch (Exception e) {
+      log.error("팔로우 그래프 복구 실패 - jobId: {}, source: {}", message.getJobId(), message.getSource(), e);
+      jobTracker.failed(message.getJobId(), e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.domain.follow.repair;
+
+import com.example.demo.domain.follow.dto.FollowRepairJobMessage;
+import com.example.demo.domain.follow.service.FollowGraphRepairService.Source;
+import com.example.demo.rabbitmq.RabbitMqService;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팔로우 그래프 복구 작업 발행기
+ *
+ * 관리 API 요청 스레드에서는 작업 메시지 한 건만 발행하고 작업 ID를 반환
+ * (전체 테이블 스캔은 FollowRepairJobConsumer 에서 비동기 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowRepairJobPublisher {
+
+  private final RabbitMqService rabbitMqService;
+  private final FollowRepairJobTracker jobTracker;
+
+  @Value("${rabbitmq.follow-repair.routing-key}")
+  private String routingKey;
+
+  /**
+   * 복구 작업 발행
+   *
+   * @return 진행 상황 조회용 작업 ID
+   * @throws org.springframework.amqp.AmqpException 브로커 전송 실패 시
+   */
+  public UUID publish(Source source) {
+    UUID jobId = UUID.randomUUID();
+    jobTracker.queued(jobId, source);
+    rabbitMqService.sendMessage(routingKey, new FollowRepairJobMessage(jobId, source));
+    log.info("팔로우 그래프 복구 작업 발행 - jobId: {}, source: {}", jobId, source);
+    return jobId;
+  }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.domain.follow.repair;
+
+import com.example.demo.domain.follow.response.FollowRepairJobResponse;
+import com.example.demo.domain.follow.service.FollowCountRepairService.CountRepairResult;
+import com.example.demo.domain.follow.service.FollowGraphRepairService.RepairResult;
+import com.example.demo.domain.follow.service.FollowGraphRepairService.Source;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팔로우 그래프 복구 작업 상태 기록 (Redis Hash)
+ *
+ * 키: follow:repair:{jobId}
+ * 필드: source, status(QUEUED → RUNNING → COMPLETED/FAILED), upserted, deleted, countsCorrected, error
+ *
+ * 상태 기록 실패는 복구 작업 자체에 영향을 주지 않도록 로그만 남김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowRepairJobTracker {
+
+  private static final String KEY_PREFIX = "follow:repair:";
+
+  private final StringRedisTemplate redisTemplate;
+
+  // 작업 상태 보관 기간
+  @Value("${follow.repair.job-ttl-seconds:86400}")
+  private long ttlSeconds;
+
+  public void queued(UUID jobId, Source source) {
+    update(jobId, hash -> {
+      hash.put(key(jobId), "source", source.name());
+      hash.put(key(jobId), "status", "QUEUED");
+    });
+  }
+
+  public void running(UUID jobId) {
+    update(jobId, hash -> hash.put(key(jobId), "status", "RUNNING"));
+  }
+
+  public void completed(UUID jobId, RepairResult result, CountRepairResult counts) {
+    update(jobId, hash -> hash.putAll(key(jobId), Map.of(
+        "status", "COMPLETED",
+        "upserted", String.valueOf(result.upserted()),
+        "deleted", String.valueOf(result.deleted()),
+        "countsCorrected", String.valueOf(counts.corrected()))));
+  }
+
+  public void failed(UUID jobId, String error) {
+    update(jobId, hash -> hash.putAll(key(jobId), Map.of(
+        "status", "FAILED",
+        "error", String.valueOf(error))));
+  }
+
+  /**
+   * 작업 상태 조회
+   */
+  public Optional<FollowRepairJobResponse> get(UUID jobId) {
+    Map<Object, Object> fields = redisTemplate.opsForHash().entries(key(jobId));
+    if (fields.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(new FollowRepairJobResponse(
+        jobId,
+        (String) fields.get("source"),
+        (String) fields.getOrDefault("status", "QUEUED"),
+        number(fields, "upserted"),
+        number(fields, "deleted"),
+        number(fields, "countsCorrected"),
+        (String) fields.get("error")));
+  }
+
+  private void update(UUID jobId, Consumer<HashOperations<String, Object, Object>> action) {
+    try {
+      action.accept(redisTemplate.opsForHash());
+      redisTemplate.expire(key(jobId), Duration.ofSeconds(ttlSeconds));
+    } catch (Exception e) {
+      log.warn("팔로우 그래프 복구 상태 기록 실패 - jobId: {}, error: {}", jobId, e.getMessage());
+    }
+  }
+
+  private static long number(Map<Object, Object> fields, String field) {
+    Object value = fields.get(field);
+    return value == null ? 0L : Long.parseLong(value.toString());
+  }
+
+  private static String key(UUID jobId) {
+    return KEY_PREFIX + jobId;
+  }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.domain.follow.request;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkFollowRequest {
+
+  private UUID followerId;
+
+  // 팔로우/언팔로우 대상 사용자 ID 목록
+  private List<UUID> followedUserIds;
+}
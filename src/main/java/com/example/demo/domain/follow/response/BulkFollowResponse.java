@@ -0,0 +1,41 @@
+package com.example.demo.domain.follow.response;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkFollowResponse {
+
+  private UUID followerId;
+
+  // 실제로 팔로우/언팔로우된 대상 수
+  private int appliedCount;
+
+  // 요청 순서대로의 대상별 처리 결과
+  private List<TargetResult> results;
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class TargetResult {
+
+    private UUID followedUserId;
+
+    private Status status;
+  }
+
+  public enum Status {
+    FOLLOWED,
+    UNFOLLOWED,
+    ALREADY_FOLLOWING,
+    NOT_FOLLOWING,
+    USER_NOT_FOUND,
+    SELF,
+    FAILED
+  }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.domain.follow.response;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowCountResponse {
+
+  private UUID userId;
+
+  private long followerCount;
+
+  private long followingCount;
+
+  /**
+   * 카운터 행이 없는 사용자 (팔로우 이력 없음)
+   */
+  public static FollowCountResponse empty(UUID userId) {
+    return new FollowCountResponse(userId, 0L, 0L);
+  }
+}
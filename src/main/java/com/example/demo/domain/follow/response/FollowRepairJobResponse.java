@@ -0,0 +1,54 @@
+package com.example.demo.domain.follow.response;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 팔로우 그래프 복구 작업 상태 응답 DTO
+ *
+ * API 명세 대응: POST /admin/follows/repair, GET /admin/follows/repair/{jobId}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowRepairJobResponse {
+
+  /**
+   * 작업 ID
+   */
+  private UUID jobId;
+
+  /**
+   * 복구 기준 테이블 (FOLLOWERS, FOLLOWINGS)
+   */
+  private String source;
+
+  /**
+   * 진행 상태 (QUEUED, RUNNING, COMPLETED, FAILED)
+   */
+  private String status;
+
+  /**
+   * target에 기록한 행 수 (완료 시)
+   */
+  private long upserted;
+
+  /**
+   * target에서 삭제한 행 수 (완료 시)
+   */
+  private long deleted;
+
+  /**
+   * 실제 팔로우 행 수에 맞춰 카운터를 보정한 사용자 수 (완료 시)
+   */
+  private long countsCorrected;
+
+  /**
+   * 실패 사유 (FAILED인 경우)
+   */
+  private String error;
+}
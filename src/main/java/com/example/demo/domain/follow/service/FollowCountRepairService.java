@@ -0,0 +1,206 @@
+package com.example.demo.domain.follow.service;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.example.demo.domain.follow.FollowRepository;
+import com.example.demo.domain.follow.FollowingsByUserRepository;
+import com.example.demo.domain.follow.UserFollowCount;
+import com.example.demo.domain.follow.UserFollowCountRepository;
+import com.example.demo.domain.follow.response.FollowCountResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+/**
+ * 팔로워/팔로잉 카운터 재계산 (팔로우 그래프 복구 작업의 마지막 단계)
+ *
+ * counter 컬럼은 값을 덮어쓸 수 없으므로 실제 행 수와 현재 카운터의 차이만큼 증감
+ * 1. followers_by_user 전체 스캔 → 파티션(followed_user_id)별 행 수로 follower_count 보정
+ * 2. followings_by_user 전체 스캔 → 파티션(follower_id)별 행 수로 following_count 보정
+ *    (전체 스캔 결과는 파티션 단위로 연속되므로 파티션이 바뀔 때마다 직전 파티션의 행 수가 확정됨)
+ * 3. user_follow_counts 전체 스캔 → 팔로우 행이 하나도 없는데 0이 아닌 카운터를 0으로 보정
+ *
+ * 스캔 중 들어온 follow/unfollow는 차이 계산에 섞일 수 있으므로 어긋난 카운터는 다음 복구 작업에서 다시 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowCountRepairService {
+
+  private static final String ANY_FOLLOWER_CQL =
+      "SELECT follower_id FROM followers_by_user WHERE followed_user_id = ? LIMIT 1";
+  private static final String ANY_FOLLOWING_CQL =
+      "SELECT followed_user_id FROM followings_by_user WHERE follower_id = ? LIMIT 1";
+
+  private final FollowRepository followRepository;
+  private final FollowingsByUserRepository followingsByUserRepository;
+  private final UserFollowCountRepository userFollowCountRepository;
+  private final FollowCountService followCountService;
+  private final CqlSession cqlSession;
+
+  // 스캔 한 페이지 크기
+  @Value("${follow.repair.page-size:1000}")
+  private int pageSize;
+
+  private final Map<String, PreparedStatement> preparedStatements = new ConcurrentHashMap<>();
+
+  public CountRepairResult rebuildCounts() {
+    long followerCorrected = recount(followRepository::findAll,
+        follower -> follower.getKey().getFollowedUserId(),
+        FollowCountResponse::getFollowerCount,
+        (userId, delta) -> followCountService.correct(userId, delta, 0L));
+    long followingCorrected = recount(followingsByUserRepository::findAll,
+        following -> following.getKey().getFollowerId(),
+        FollowCountResponse::getFollowingCount,
+        (userId, delta) -> followCountService.correct(userId, 0L, delta));
+    long zeroed = clearCountsWithoutRows();
+
+    long corrected = followerCorrected + followingCorrected + zeroed;
+    log.info("팔로우 카운터 재계산 완료 - 팔로워 보정: {}, 팔로잉 보정: {}, 0으로 보정: {}",
+        followerCorrected, followingCorrected, zeroed);
+    return new CountRepairResult(corrected);
+  }
+
+  /**
+   * 팔로우 테이블 하나를 스캔하며 파티션별 행 수로 카운터 보정
+   *
+   * @param partitionKey 행 → 카운터 대상 사용자 ID
+   * @param counter 현재 카운터 값
+   * @return 보정한 사용자 수
+   */
+  private <T> long recount(Function<Pageable, Slice<T>> scan, Function<T, UUID> partitionKey,
+      ToLongFunction<FollowCountResponse> counter, Correction correction) {
+    long corrected = 0;
+    Map<UUID, Long> rowCounts = new LinkedHashMap<>();
+    UUID current = null;
+    long count = 0;
+
+    Slice<T> slice = scan.apply(firstPage());
+    while (true) {
+      for (T row : slice) {
+        UUID userId = partitionKey.apply(row);
+        if (!userId.equals(current)) {
+          if (current != null) {
+            rowCounts.put(current, count);
+          }
+          current = userId;
+          count = 0;
+        }
+        count++;
+      }
+      // 마지막 파티션은 다음 페이지로 이어질 수 있으므로 확정된 파티션만 보정
+      corrected += correct(rowCounts, counter, correction);
+      rowCounts.clear();
+
+      if (!slice.hasNext()) {
+        break;
+      }
+      slice = scan.apply(slice.nextPageable());
+    }
+    if (current != null) {
+      corrected += correct(Map.of(current, count), counter, correction);
+    }
+    return corrected;
+  }
+
+  private long correct(Map<UUID, Long> rowCounts, ToLongFunction<FollowCountResponse> counter,
+      Correction correction) {
+    if (rowCounts.isEmpty()) {
+      return 0;
+    }
+    long corrected = 0;
+    Map<UUID, FollowCountResponse> counts = followCountService.getCounts(rowCounts.keySet());
+    for (Map.Entry<UUID, Long> entry : rowCounts.entrySet()) {
+      long delta = entry.getValue() - counter.applyAsLong(counts.get(entry.getKey()));
+      if (delta != 0) {
+        correction.apply(entry.getKey(), delta);
+        corrected++;
+      }
+    }
+    return corrected;
+  }
+
+  /**
+   * 팔로우 행이 없는 사용자의 0이 아닌 카운터를 0으로 보정
+   * (행이 있는 사용자는 앞 단계에서 보정되었으므로 행 존재 여부만 확인)
+   *
+   * @return 보정한 사용자 수
+   */
+  private long clearCountsWithoutRows() {
+    long corrected = 0;
+    Slice<UserFollowCount> counts = userFollowCountRepository.findAll(firstPage());
+    while (true) {
+      // 0이 아닌 카운터마다 행 존재 여부 조회를 동시에 발행한 뒤 한 번에 대기 (조회 실패는 작업 전체 실패로 전파)
+      Map<UserFollowCount, CompletableFuture<Boolean>> hasFollowers = new LinkedHashMap<>();
+      Map<UserFollowCount, CompletableFuture<Boolean>> hasFollowings = new LinkedHashMap<>();
+      for (UserFollowCount count : counts) {
+        if (count.getFollowerCount() != 0) {
+          hasFollowers.put(count, hasAnyRow(ANY_FOLLOWER_CQL, count.getUserId()));
+        }
+        if (count.getFollowingCount() != 0) {
+          hasFollowings.put(count, hasAnyRow(ANY_FOLLOWING_CQL, count.getUserId()));
+        }
+      }
+      List<CompletableFuture<Boolean>> lookups = new ArrayList<>(hasFollowers.values());
+      lookups.addAll(hasFollowings.values());
+      CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0])).join();
+
+      for (UserFollowCount count : counts) {
+        long followerDelta = hasFollowers.containsKey(count) && !hasFollowers.get(count).join()
+            ? -count.getFollowerCount() : 0L;
+        long followingDelta = hasFollowings.containsKey(count) && !hasFollowings.get(count).join()
+            ? -count.getFollowingCount() : 0L;
+        if (followerDelta != 0 || followingDelta != 0) {
+          followCountService.correct(count.getUserId(), followerDelta, followingDelta);
+          corrected++;
+        }
+      }
+
+      if (!counts.hasNext()) {
+        break;
+      }
+      counts = userFollowCountRepository.findAll(counts.nextPageable());
+    }
+    return corrected;
+  }
+
+  private CompletableFuture<Boolean> hasAnyRow(String cql, UUID partitionId) {
+    PreparedStatement statement = preparedStatements.computeIfAbsent(cql, cqlSession::prepare);
+    return cqlSession.executeAsync(statement.bind(partitionId))
+        .toCompletableFuture()
+        .thenApply(resultSet -> resultSet.one() != null);
+  }
+
+  private Pageable firstPage() {
+    return CassandraPageRequest.first(pageSize);
+  }
+
+  /**
+   * 사용자 한 명의 카운터 보정
+   */
+  @FunctionalInterface
+  private interface Correction {
+    void apply(UUID userId, long delta);
+  }
+
+  /**
+   * 카운터 재계산 결과
+   *
+   * @param corrected 카운터를 보정한 사용자 수 (단계별로 셈)
+   */
+  public record CountRepairResult(long corrected) {
+  }
+}
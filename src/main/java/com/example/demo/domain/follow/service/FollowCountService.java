@@ -0,0 +1,165 @@
+package com.example.demo.domain.follow.service;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.example.demo.domain.follow.UserFollowCount;
+import com.example.demo.domain.follow.UserFollowCountRepository;
+import com.example.demo.domain.follow.response.FollowCountResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 팔로워/팔로잉 수 조회 및 갱신
+ *
+ * - Fan-out 전략 판단(Push/Pull), 셀럽 승격, 프로필 표시에서 파티션 스캔 없이 O(1)로 사용
+ * - counter 증감은 멱등하지 않으므로 재시도하지 않음 (실패 시 로그만 남기고 팔로우 자체는 성공 처리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowCountService {
+
+  private static final String ADD_FOLLOWER_COUNT_CQL =
+      "UPDATE user_follow_counts SET follower_count = follower_count + ? WHERE user_id = ?";
+
+  private final UserFollowCountRepository userFollowCountRepository;
+  private final CqlSession cqlSession;
+
+  private volatile PreparedStatement followerCountStatement;
+
+  // user_id IN (...) 한 번에 담을 최대 사용자 수 (coordinator 부하 제한)
+  @Value("${follow.count.multi-get-chunk-size:100}")
+  private int multiGetChunkSize;
+
+  /**
+   * follow 성공 후 호출: 대상의 팔로워 수 +1, 요청자의 팔로잉 수 +1
+   */
+  public void followed(UUID followedUserId, UUID followerId) {
+    apply(followedUserId, followerId, 1L);
+  }
+
+  /**
+   * unfollow 성공 후 호출: 대상의 팔로워 수 -1, 요청자의 팔로잉 수 -1
+   */
+  public void unfollowed(UUID followedUserId, UUID followerId) {
+    apply(followedUserId, followerId, -1L);
+  }
+
+  /**
+   * 벌크 follow/unfollow 후 호출
+   * - 요청자의 팔로잉 수는 대상 수만큼 한 번에 증감
+   * - 대상별 팔로워 수는 파티션이 모두 다르므로 비동기로 동시에 증감
+   *
+   * @param delta 대상 1명당 증감값 (follow: +1, unfollow: -1)
+   */
+  public void applyBulk(UUID followerId, Collection<UUID> followedUserIds, long delta) {
+    if (followedUserIds.isEmpty()) {
+      return;
+    }
+    try {
+      userFollowCountRepository.addFollowingCount(followerId, delta * followedUserIds.size());
+    } catch (Exception e) {
+      log.error("팔로잉 카운터 갱신 실패 - followerId: {}, delta: {}, error: {}",
+          followerId, delta * followedUserIds.size(), e.getMessage());
+    }
+
+    PreparedStatement statement = followerCountStatement();
+    CompletableFuture.allOf(followedUserIds.stream()
+            .map(followedUserId -> cqlSession.executeAsync(statement.bind(delta, followedUserId))
+                .toCompletableFuture()
+                .handle((rs, error) -> {
+                  if (error != null) {
+                    log.error("팔로워 카운터 갱신 실패 - followedUserId: {}, delta: {}, error: {}",
+                        followedUserId, delta, error.getMessage());
+                  }
+                  return null;
+                }))
+            .toArray(CompletableFuture[]::new))
+        .join();
+  }
+
+  private void apply(UUID followedUserId, UUID followerId, long delta) {
+    try {
+      userFollowCountRepository.addFollowerCount(followedUserId, delta);
+      userFollowCountRepository.addFollowingCount(followerId, delta);
+    } catch (Exception e) {
+      log.error("팔로우 카운터 갱신 실패 - followedUserId: {}, followerId: {}, delta: {}, error: {}",
+          followedUserId, followerId, delta, e.getMessage());
+    }
+  }
+
+  /**
+   * 카운터 보정 (FollowCountRepairService에서 실제 행 수와의 차이만큼 증감, 실패는 복구 작업 실패로 전파)
+   */
+  public void correct(UUID userId, long followerDelta, long followingDelta) {
+    if (followerDelta != 0) {
+      userFollowCountRepository.addFollowerCount(userId, followerDelta);
+    }
+    if (followingDelta != 0) {
+      userFollowCountRepository.addFollowingCount(userId, followingDelta);
+    }
+  }
+
+  /**
+   * 팔로워 수 조회 (단일 파티션 읽기)
+   */
+  public long getFollowerCount(UUID userId) {
+    return getCounts(userId).getFollowerCount();
+  }
+
+  /**
+   * 팔로워/팔로잉 수 조회 (카운터 행이 없으면 0)
+   */
+  public FollowCountResponse getCounts(UUID userId) {
+    return userFollowCountRepository.findById(userId)
+        .map(FollowCountService::toResponse)
+        .orElseGet(() -> FollowCountResponse.empty(userId));
+  }
+
+  /**
+   * 여러 사용자의 팔로워/팔로잉 수 일괄 조회
+   * - multiGetChunkSize명 단위 IN 쿼리로 나눠 조회
+   *
+   * @return 요청 순서를 유지한 사용자 ID → 카운트 (행이 없는 사용자는 0)
+   */
+  public Map<UUID, FollowCountResponse> getCounts(Collection<UUID> userIds) {
+    List<UUID> distinctIds = userIds.stream().distinct().toList();
+
+    Map<UUID, FollowCountResponse> counts = new LinkedHashMap<>();
+    distinctIds.forEach(userId -> counts.put(userId, FollowCountResponse.empty(userId)));
+
+    for (int from = 0; from < distinctIds.size(); from += multiGetChunkSize) {
+      List<UUID> chunk = new ArrayList<>(
+          distinctIds.subList(from, Math.min(from + multiGetChunkSize, distinctIds.size())));
+      userFollowCountRepository.findAllById(chunk)
+          .forEach(count -> counts.put(count.getUserId(), toResponse(count)));
+    }
+    return counts;
+  }
+
+  private PreparedStatement followerCountStatement() {
+    PreparedStatement statement = followerCountStatement;
+    if (statement == null) {
+      synchronized (this) {
+        if (followerCountStatement == null) {
+          followerCountStatement = cqlSession.prepare(ADD_FOLLOWER_COUNT_CQL);
+        }
+        statement = followerCountStatement;
+      }
+    }
+    return statement;
+  }
+
+  private static FollowCountResponse toResponse(UserFollowCount count) {
+    return new FollowCountResponse(count.getUserId(), count.getFollowerCount(), count.getFollowingCount());
+  }
+}
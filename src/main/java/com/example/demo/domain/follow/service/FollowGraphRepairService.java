@@ -0,0 +1,225 @@
+package com.example.demo.domain.follow.service;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.example.demo.domain.follow.FollowRepository;
+import com.example.demo.domain.follow.FollowersByUser;
+import com.example.demo.domain.follow.FollowingsByUser;
+import com.example.demo.domain.follow.FollowingsByUserRepository;
+import com.example.demo.domain.follow.cache.FollowingsCache;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+/**
+ * 팔로우 그래프 복구 작업
+ *
+ * followers_by_user / followings_by_user 중 한쪽을 기준(source)으로 다른 쪽(target)을 재구성
+ * 1. source 전체를 paging state로 페이지 단위 스캔 → target에 역방향 행 upsert (멱등)
+ * 2. target 전체를 스캔 → source에 없는 행 삭제
+ *    (페이지의 행을 source 파티션별로 묶어 IN 조회, 모든 조회를 동시에 발행한 뒤 한 번에 대기)
+ * 3. followings_by_user가 target이면 행이 추가/삭제된 팔로워의 FollowingsCache 항목 무효화
+ *    (카운터는 FollowRepairJobConsumer가 재구성 후 FollowCountRepairService로 재계산)
+ *
+ * 전체 테이블 스캔이므로 HTTP 요청 스레드가 아닌 FollowRepairJobConsumer에서 백그라운드 작업으로만 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowGraphRepairService {
+
+  private static final String EXISTING_FOLLOWERS_CQL =
+      "SELECT follower_id FROM followers_by_user WHERE followed_user_id = ? AND follower_id IN ?";
+  private static final String EXISTING_FOLLOWINGS_CQL =
+      "SELECT followed_user_id FROM followings_by_user WHERE follower_id = ? AND followed_user_id IN ?";
+
+  private final FollowRepository followRepository;
+  private final FollowingsByUserRepository followingsByUserRepository;
+  private final CqlSession cqlSession;
+  private final FollowingsCache followingsCache;
+
+  // 스캔 한 페이지 크기
+  @Value("${follow.repair.page-size:1000}")
+  private int pageSize;
+
+  private final Map<String, PreparedStatement> preparedStatements = new ConcurrentHashMap<>();
+
+  /**
+   * 복구 기준 테이블
+   */
+  public enum Source {
+    // followers_by_user 기준으로 followings_by_user 재구성
+    FOLLOWERS,
+    // followings_by_user 기준으로 followers_by_user 재구성
+    FOLLOWINGS
+  }
+
+  public RepairResult rebuild(Source source) {
+    return source == Source.FOLLOWERS ? rebuildFollowingsFromFollowers() : rebuildFollowersFromFollowings();
+  }
+
+  /**
+   * followers_by_user 기준으로 followings_by_user 재구성
+   */
+  public RepairResult rebuildFollowingsFromFollowers() {
+    long upserted = 0;
+    Slice<FollowersByUser> followers = followRepository.findAll(firstPage());
+    while (true) {
+      // followings_by_user에 없던 행이 추가되는 팔로워 (캐시된 팔로잉 목록이 달라짐)
+      List<FollowersByUser> added = missingIn(followers.getContent(),
+          follower -> follower.getKey().getFollowerId(),
+          follower -> follower.getKey().getFollowedUserId(),
+          EXISTING_FOLLOWINGS_CQL);
+
+      List<FollowingsByUser> reversed = new ArrayList<>(followers.getNumberOfElements());
+      followers.forEach(follower -> reversed.add(new FollowingsByUser(
+          follower.getKey().getFollowerId(), follower.getKey().getFollowedUserId(), follower.getFollowedAt())));
+      followingsByUserRepository.saveAll(reversed);
+      upserted += reversed.size();
+      invalidateFollowings(added, follower -> follower.getKey().getFollowerId());
+
+      if (!followers.hasNext()) {
+        break;
+      }
+      followers = followRepository.findAll(followers.nextPageable());
+    }
+
+    long deleted = 0;
+    Slice<FollowingsByUser> followings = followingsByUserRepository.findAll(firstPage());
+    while (true) {
+      // followings_by_user (follower_id, followed_user_id) ↔ followers_by_user (followed_user_id, follower_id)
+      List<FollowingsByUser> orphans = missingIn(followings.getContent(),
+          following -> following.getKey().getFollowedUserId(),
+          following -> following.getKey().getFollowerId(),
+          EXISTING_FOLLOWERS_CQL);
+      followingsByUserRepository.deleteAll(orphans);
+      deleted += orphans.size();
+      invalidateFollowings(orphans, following -> following.getKey().getFollowerId());
+
+      if (!followings.hasNext()) {
+        break;
+      }
+      followings = followingsByUserRepository.findAll(followings.nextPageable());
+    }
+
+    log.info("followings_by_user 재구성 완료 - upsert: {}, 삭제: {}", upserted, deleted);
+    return new RepairResult(upserted, deleted);
+  }
+
+  /**
+   * followings_by_user 기준으로 followers_by_user 재구성
+   */
+  public RepairResult rebuildFollowersFromFollowings() {
+    long upserted = 0;
+    Slice<FollowingsByUser> followings = followingsByUserRepository.findAll(firstPage());
+    while (true) {
+      List<FollowersByUser> reversed = new ArrayList<>(followings.getNumberOfElements());
+      followings.forEach(following -> reversed.add(new FollowersByUser(
+          following.getKey().getFollowedUserId(), following.getKey().getFollowerId(), following.getFollowingAt())));
+      followRepository.saveAll(reversed);
+      upserted += reversed.size();
+
+      if (!followings.hasNext()) {
+        break;
+      }
+      followings = followingsByUserRepository.findAll(followings.nextPageable());
+    }
+
+    long deleted = 0;
+    Slice<FollowersByUser> followers = followRepository.findAll(firstPage());
+    while (true) {
+      // followers_by_user (followed_user_id, follower_id) ↔ followings_by_user (follower_id, followed_user_id)
+      List<FollowersByUser> orphans = missingIn(followers.getContent(),
+          follower -> follower.getKey().getFollowerId(),
+          follower -> follower.getKey().getFollowedUserId(),
+          EXISTING_FOLLOWINGS_CQL);
+      followRepository.deleteAll(orphans);
+      deleted += orphans.size();
+
+      if (!followers.hasNext()) {
+        break;
+      }
+      followers = followRepository.findAll(followers.nextPageable());
+    }
+
+    log.info("followers_by_user 재구성 완료 - upsert: {}, 삭제: {}", upserted, deleted);
+    return new RepairResult(upserted, deleted);
+  }
+
+  private <T> void invalidateFollowings(List<T> changed, Function<T, UUID> followerId) {
+    if (!changed.isEmpty()) {
+      followingsCache.invalidate(changed.stream().map(followerId).collect(Collectors.toSet()));
+    }
+  }
+
+  /**
+   * 페이지 행 중 반대쪽 테이블에 대응 행이 없는 행
+   * (target 행 → source 조회: 고아 행, source 행 → target 조회: 추가될 행)
+   *
+   * @param partition 행 → 반대쪽 테이블 파티션 키
+   * @param clustering 행 → 반대쪽 테이블 클러스터링 키
+   * @param existingCql (파티션 키, 클러스터링 키 목록) → 존재하는 클러스터링 키
+   */
+  private <T> List<T> missingIn(List<T> rows, Function<T, UUID> partition,
+      Function<T, UUID> clustering, String existingCql) {
+    Map<UUID, List<UUID>> lookups = new LinkedHashMap<>();
+    rows.forEach(row -> lookups.computeIfAbsent(partition.apply(row), id -> new ArrayList<>())
+        .add(clustering.apply(row)));
+
+    PreparedStatement statement = prepared(existingCql);
+    Map<UUID, CompletableFuture<Set<UUID>>> existing = new LinkedHashMap<>();
+    lookups.forEach((partitionId, clusteringIds) -> existing.put(partitionId,
+        cqlSession.executeAsync(statement.bind(partitionId, clusteringIds).setPageSize(clusteringIds.size()))
+            .toCompletableFuture()
+            .thenApply(FollowGraphRepairService::firstColumn)));
+    // 조회 실패는 작업 전체 실패로 전파 (삭제 대상을 잘못 판단하지 않도록)
+    CompletableFuture.allOf(existing.values().toArray(new CompletableFuture[0])).join();
+
+    List<T> missing = new ArrayList<>();
+    for (T row : rows) {
+      if (!existing.get(partition.apply(row)).join().contains(clustering.apply(row))) {
+        missing.add(row);
+      }
+    }
+    return missing;
+  }
+
+  private static Set<UUID> firstColumn(AsyncResultSet resultSet) {
+    Set<UUID> ids = new HashSet<>();
+    resultSet.currentPage().forEach(row -> ids.add(row.getUuid(0)));
+    return ids;
+  }
+
+  private PreparedStatement prepared(String cql) {
+    return preparedStatements.computeIfAbsent(cql, cqlSession::prepare);
+  }
+
+  private Pageable firstPage() {
+    return CassandraPageRequest.first(pageSize);
+  }
+
+  /**
+   * 복구 결과
+   *
+   * @param upserted target에 기록(덮어쓰기 포함)한 행 수
+   * @param deleted source에 없어 target에서 삭제한 행 수
+   */
+  public record RepairResult(long upserted, long deleted) {
+  }
+}
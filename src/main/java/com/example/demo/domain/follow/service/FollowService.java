@@ -1,68 +1,246 @@
 package com.example.demo.domain.follow.service;
 
-import com.example.demo.domain.follow.FollowRepository;
+import com.example.demo.domain.follow.cache.FollowingsCache;
 import com.example.demo.domain.follow.FollowersByUser;
-import com.example.demo.domain.follow.FollowersByUserKey;
+import com.example.demo.domain.follow.FollowingsByUser;
+import com.example.demo.domain.follow.FollowingsByUserRepository;
+import com.example.demo.domain.follow.request.BulkFollowRequest;
 import com.example.demo.domain.follow.request.FollowRequest;
-import com.example.demo.domain.user.UserRepository;
+import com.example.demo.domain.follow.response.BulkFollowResponse;
+import com.example.demo.domain.follow.response.BulkFollowResponse.Status;
+import com.example.demo.domain.follow.response.BulkFollowResponse.TargetResult;
+import com.example.demo.domain.follow.writer.FollowGraphBulkWriter;
+import com.example.demo.domain.timeline.sync.TimelineSyncPublisher;
+import com.example.demo.domain.user.service.UserExistenceService;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.DeleteOptions;
+import org.springframework.data.cassandra.core.InsertOptions;
 import org.springframework.stereotype.Service;
 
+/**
+ * 팔로우 관계 관리
+ *
+ * - followers_by_user(팔로워 조회, Fan-out on Write) 행을 LWT(IF NOT EXISTS / IF EXISTS)로 먼저 기록/삭제하고
+ *   실제로 반영된 경우에만 followings_by_user(팔로잉 조회, Fan-out on Read) 행과 카운터를 갱신
+ *   → 동시에 들어온 같은 follow/unfollow 중 하나만 카운터를 증감
+ *   (LWT는 여러 파티션에 걸친 배치에 넣을 수 없으므로 두 테이블은 순서대로 기록)
+ * - 어긋난 데이터와 카운터는 FollowGraphRepairService / FollowCountRepairService로 재구성
+ * - 팔로워 타임라인 backfill/purge는 TimelineSyncPublisher로 작업만 발행하고 비동기 처리
+ * - 쓰기 성공 후 FollowingsCache를 write-through로 갱신
+ */
 @Service
 @RequiredArgsConstructor
 public class FollowService {
 
-  private final UserRepository userRepository;
-  private final FollowRepository followRepository;
+  private static final InsertOptions IF_NOT_EXISTS = InsertOptions.builder().withIfNotExists().build();
+  private static final DeleteOptions IF_EXISTS = DeleteOptions.builder().withIfExists().build();
+
+  private final UserExistenceService userExistenceService;
+  private final FollowCountService followCountService;
+  private final CassandraOperations cassandraOperations;
+  private final FollowingsByUserRepository followingsByUserRepository;
+  private final FollowGraphBulkWriter followGraphBulkWriter;
+  private final TimelineSyncPublisher timelineSyncPublisher;
+  private final FollowingsCache followingsCache;
+
+  // 벌크 요청 한 번에 처리할 수 있는 최대 대상 수
+  @Value("${follow.bulk.max-targets:500}")
+  private int maxBulkTargets;
 
   public FollowersByUser follow(UUID followedUserId, FollowRequest request) {
     UUID followerId = request.getFollowerId();
     validateFollowUsers(followedUserId, followerId);
 
+    LocalDateTime followedAt = LocalDateTime.now();
     FollowersByUser followersByUser = new FollowersByUser(
         followedUserId,
         followerId,
-        LocalDateTime.now()
+        followedAt
     );
 
-    // 이미 팔로우하고 있는지 확인
-    if (followRepository.findById(followersByUser.getKey()).isPresent()) {
+    // 이미 팔로우하고 있으면 반영되지 않음 (확인과 기록을 한 번에 수행)
+    if (!cassandraOperations.insert(followersByUser, IF_NOT_EXISTS).wasApplied()) {
       throw new RuntimeException("Already following this user.");
     }
 
-    return followRepository.save(followersByUser);
+    // 여기서 실패하면 followings_by_user 행과 카운터는 복구 작업에서 재구성
+    cassandraOperations.insert(new FollowingsByUser(followerId, followedUserId, followedAt));
+    followCountService.followed(followedUserId, followerId);
+    followingsCache.followed(followerId, List.of(followedUserId));
+    timelineSyncPublisher.publishBackfill(followerId, List.of(followedUserId));
+    return followersByUser;
   }
 
   public void unfollow(UUID followedUserId, FollowRequest request) {
     UUID followerId = request.getFollowerId();
     validateFollowUsers(followedUserId, followerId);
 
-    FollowersByUserKey key = new FollowersByUserKey(followedUserId, followerId);
-
-    if (followRepository.findById(key).isEmpty()) {
-      // 팔로우하고 있지 않다면 예외 발생
+    // 팔로우하고 있지 않으면 반영되지 않음
+    if (!cassandraOperations.delete(new FollowersByUser(followedUserId, followerId, null), IF_EXISTS).wasApplied()) {
       throw new RuntimeException("Not following this user.");
     }
 
-    followRepository.deleteById(key);
+    cassandraOperations.delete(new FollowingsByUser(followerId, followedUserId, null));
+    followCountService.unfollowed(followedUserId, followerId);
+    followingsCache.unfollowed(followerId, List.of(followedUserId));
+    timelineSyncPublisher.publishPurge(followerId, List.of(followedUserId));
   }
 
-  private void validateFollowUsers(UUID followedUserId, UUID followerId) {
-    // 팔로우 당하는 사용자 존재 여부 확인
-    if (userRepository.findById(followedUserId).isEmpty()) {
-      throw new RuntimeException("Followed user not found with ID: " + followedUserId);
+  /**
+   * 여러 사용자 일괄 팔로우 (연락처 가져오기, 추천 계정 팔로우 등)
+   *
+   * 1. 대상 존재 여부는 Bloom Filter + findAllById 한 번으로 일괄 확인
+   * 2. 기존 팔로우 관계는 요청자 파티션(followings_by_user) IN 조회 한 번으로 확인
+   * 3. 새 관계만 FollowGraphBulkWriter로 양방향 저장, 카운터는 성공한 대상 기준으로 한 번에 갱신
+   *
+   * @return 요청 순서대로의 대상별 처리 결과
+   */
+  public BulkFollowResponse bulkFollow(BulkFollowRequest request) {
+    UUID followerId = request.getFollowerId();
+    Map<UUID, Status> statuses = classifyTargets(request);
+
+    List<UUID> candidates = targetsWithStatus(statuses, null);
+    Set<UUID> alreadyFollowing = findFollowing(followerId, candidates);
+    List<UUID> toFollow = new ArrayList<>();
+    for (UUID followedUserId : candidates) {
+      if (alreadyFollowing.contains(followedUserId)) {
+        statuses.put(followedUserId, Status.ALREADY_FOLLOWING);
+      } else {
+        toFollow.add(followedUserId);
+      }
     }
 
-    // 팔로우 하는 사용자 존재 여부 확인
-    if (userRepository.findById(followerId).isEmpty()) {
+    Set<UUID> failed = followGraphBulkWriter.followAll(followerId, toFollow, LocalDateTime.now());
+    List<UUID> followed = applyWriteResult(statuses, toFollow, failed, Status.FOLLOWED);
+    followCountService.applyBulk(followerId, followed, 1L);
+    followingsCache.followed(followerId, followed);
+    timelineSyncPublisher.publishBackfill(followerId, followed);
+
+    return toBulkResponse(followerId, statuses, followed.size());
+  }
+
+  /**
+   * 여러 사용자 일괄 언팔로우
+   */
+  public BulkFollowResponse bulkUnfollow(BulkFollowRequest request) {
+    UUID followerId = request.getFollowerId();
+    Map<UUID, Status> statuses = classifyTargets(request);
+
+    List<UUID> candidates = targetsWithStatus(statuses, null);
+    Set<UUID> following = findFollowing(followerId, candidates);
+    List<UUID> toUnfollow = new ArrayList<>();
+    for (UUID followedUserId : candidates) {
+      if (following.contains(followedUserId)) {
+        toUnfollow.add(followedUserId);
+      } else {
+        statuses.put(followedUserId, Status.NOT_FOLLOWING);
+      }
+    }
+
+    Set<UUID> failed = followGraphBulkWriter.unfollowAll(followerId, toUnfollow);
+    List<UUID> unfollowed = applyWriteResult(statuses, toUnfollow, failed, Status.UNFOLLOWED);
+    followCountService.applyBulk(followerId, unfollowed, -1L);
+    followingsCache.unfollowed(followerId, unfollowed);
+    timelineSyncPublisher.publishPurge(followerId, unfollowed);
+
+    return toBulkResponse(followerId, statuses, unfollowed.size());
+  }
+
+  /**
+   * 요청 검증 및 대상 1차 분류 (자기 자신 / 존재하지 않는 사용자), 나머지는 상태 미정(null)
+   * - 중복 대상은 한 번만 처리하고 요청 순서 유지
+   */
+  private Map<UUID, Status> classifyTargets(BulkFollowRequest request) {
+    UUID followerId = request.getFollowerId();
+    List<UUID> targets = request.getFollowedUserIds() == null ? List.of() : request.getFollowedUserIds();
+    if (followerId == null) {
+      throw new IllegalArgumentException("followerId는 필수입니다.");
+    }
+    if (targets.size() > maxBulkTargets) {
+      throw new IllegalArgumentException("한 번에 처리할 수 있는 대상은 최대 " + maxBulkTargets + "명입니다.");
+    }
+    if (!userExistenceService.exists(followerId)) {
       throw new RuntimeException("Follower user not found with ID: " + followerId);
     }
 
-    // 자기 자신을 팔로우하는지 확인
+    Map<UUID, Status> statuses = new LinkedHashMap<>();
+    targets.forEach(followedUserId -> statuses.put(followedUserId, null));
+    if (statuses.containsKey(followerId)) {
+      statuses.put(followerId, Status.SELF);
+    }
+
+    Set<UUID> existing = userExistenceService.findExisting(targetsWithStatus(statuses, null));
+    statuses.replaceAll((id, status) -> status == null && !existing.contains(id) ? Status.USER_NOT_FOUND : status);
+    return statuses;
+  }
+
+  private Set<UUID> findFollowing(UUID followerId, List<UUID> followedUserIds) {
+    if (followedUserIds.isEmpty()) {
+      return Set.of();
+    }
+    return followingsByUserRepository.findByKeyFollowerIdAndKeyFollowedUserIdIn(followerId, followedUserIds)
+        .stream()
+        .map(following -> following.getKey().getFollowedUserId())
+        .collect(Collectors.toSet());
+  }
+
+  private static List<UUID> targetsWithStatus(Map<UUID, Status> statuses, Status status) {
+    List<UUID> targets = new ArrayList<>();
+    statuses.forEach((id, current) -> {
+      if (current == status) {
+        targets.add(id);
+      }
+    });
+    return targets;
+  }
+
+  /**
+   * 쓰기 결과 반영 후 성공한 대상 목록 반환
+   */
+  private static List<UUID> applyWriteResult(Map<UUID, Status> statuses, List<UUID> written,
+      Set<UUID> failed, Status success) {
+    List<UUID> succeeded = new ArrayList<>(written.size());
+    for (UUID followedUserId : written) {
+      if (failed.contains(followedUserId)) {
+        statuses.put(followedUserId, Status.FAILED);
+      } else {
+        statuses.put(followedUserId, success);
+        succeeded.add(followedUserId);
+      }
+    }
+    return succeeded;
+  }
+
+  private static BulkFollowResponse toBulkResponse(UUID followerId, Map<UUID, Status> statuses, int appliedCount) {
+    List<TargetResult> results = new ArrayList<>(statuses.size());
+    statuses.forEach((id, status) -> results.add(new TargetResult(id, status)));
+    return new BulkFollowResponse(followerId, appliedCount, results);
+  }
+
+  private void validateFollowUsers(UUID followedUserId, UUID followerId) {
+    // 자기 자신을 팔로우하는지 확인 (I/O 없음)
     if (followedUserId.equals(followerId)) {
       throw new RuntimeException("Cannot follow yourself.");
     }
+
+    // 팔로우 당하는 사용자 존재 여부 확인 (Bloom Filter 음성이면 DB 조회 없이 거절)
+    if (!userExistenceService.exists(followedUserId)) {
+      throw new RuntimeException("Followed user not found with ID: " + followedUserId);
+    }
+
+    // 팔로우 하는 사용자 존재 여부 확인
+    if (!userExistenceService.exists(followerId)) {
+      throw new RuntimeException("Follower user not found with ID: " + followerId);
+    }
   }
 }
@@ -0,0 +1,71 @@
+package com.example.demo.domain.follow.service;
+
+import com.example.demo.domain.follow.FollowRepository;
+import com.example.demo.domain.follow.FollowersByUser;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팔로워 목록 페이지 단위 조회기 (Fan-out 용)
+ *
+ * - 팔로워 파티션 전체를 한 번에 읽지 않고 Cassandra paging state로 고정 크기 페이지씩 조회
+ * - paging state는 Base64 문자열로 변환해 메시지(RabbitMQ)에 실어 보낼 수 있음
+ * - Fan-out 한 건이 사용하는 메모리는 팔로워 수와 무관하게 페이지 크기로 고정
+ */
+@Component
+@RequiredArgsConstructor
+public class FollowerPageReader {
+
+  private final FollowRepository followRepository;
+
+  /**
+   * 팔로워 한 페이지 조회
+   *
+   * @param followedUserId 팔로우 당하는 사용자 ID
+   * @param pagingState 이전 페이지의 nextPagingState (첫 페이지는 null)
+   * @param pageSize 페이지 크기
+   */
+  public FollowerPage readPage(UUID followedUserId, String pagingState, int pageSize) {
+    PageRequest pageRequest = PageRequest.of(0, pageSize);
+    CassandraPageRequest request = pagingState == null
+        ? CassandraPageRequest.of(pageRequest, null)
+        : CassandraPageRequest.of(pageRequest, ByteBuffer.wrap(Base64.getUrlDecoder().decode(pagingState)));
+
+    Slice<FollowersByUser> slice = followRepository.findByKeyFollowedUserId(followedUserId, request);
+
+    List<UUID> followerIds = slice.getContent().stream()
+        .map(follower -> follower.getKey().getFollowerId())
+        .toList();
+
+    String nextPagingState = null;
+    if (slice.hasNext()) {
+      ByteBuffer state = ((CassandraPageRequest) slice.nextPageable()).getPagingState();
+      if (state != null) {
+        byte[] bytes = new byte[state.remaining()];
+        state.duplicate().get(bytes);
+        nextPagingState = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+      }
+    }
+    return new FollowerPage(followerIds, nextPagingState);
+  }
+
+  /**
+   * 팔로워 한 페이지
+   *
+   * @param followerIds 팔로워 ID 목록
+   * @param nextPagingState 다음 페이지 paging state (마지막 페이지면 null)
+   */
+  public record FollowerPage(List<UUID> followerIds, String nextPagingState) {
+
+    public boolean isLast() {
+      return nextPagingState == null;
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package com.example.demo.domain.follow.writer;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * 팔로우 그래프 벌크 Writer (한 사용자가 여러 대상을 한 번에 팔로우/언팔로우)
+ *
+ * 최적화 포인트:
+ * 1. followings_by_user 행은 모두 요청자 파티션 하나에 속하므로 단일 파티션 UNLOGGED 배치로 묶어 전송
+ *    (단일 파티션 배치는 원자적이며 배치 로그 비용이 없음)
+ * 2. followers_by_user 행은 대상마다 파티션이 다르므로 배치로 묶지 않고 파티션당 단건 executeAsync (token-aware)
+ * 3. 모든 요청을 동시에 발행한 뒤 한 번에 대기 → 요청 스레드는 대상 수와 무관하게 round trip 몇 번 분량만 점유
+ *
+ * 한쪽 테이블만 반영된 대상은 실패로 보고되며 FollowGraphRepairService로 재구성 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowGraphBulkWriter {
+
+  private static final String INSERT_FOLLOWER_CQL =
+      "INSERT INTO followers_by_user (followed_user_id, follower_id, created_at) VALUES (?, ?, ?)";
+  private static final String INSERT_FOLLOWING_CQL =
+      "INSERT INTO followings_by_user (follower_id, followed_user_id, created_at) VALUES (?, ?, ?)";
+  private static final String DELETE_FOLLOWER_CQL =
+      "DELETE FROM followers_by_user WHERE followed_user_id = ? AND follower_id = ?";
+  private static final String DELETE_FOLLOWING_CQL =
+      "DELETE FROM followings_by_user WHERE follower_id = ? AND followed_user_id = ?";
+
+  private final CqlSession cqlSession;
+
+  // followings_by_user 단일 파티션 배치 하나에 담을 최대 행 수 (batch_size_warn_threshold 고려)
+  @Value("${follow.bulk.batch-size:100}")
+  private int batchSize;
+
+  private final Map<String, PreparedStatement> preparedStatements = new ConcurrentHashMap<>();
+
+  /**
+   * 양방향 팔로우 관계 저장 (단건 팔로우와 같이 두 테이블에 같은 팔로우 시작 시간 기록)
+   *
+   * @param followedAt 요청 전체에 공유되는 팔로우 시작 시간
+   * @return 저장에 실패한 대상 ID (두 테이블 중 하나라도 실패하면 포함)
+   */
+  public Set<UUID> followAll(UUID followerId, List<UUID> followedUserIds, LocalDateTime followedAt) {
+    // timestamp 컬럼은 Instant로 바인딩 (Spring Data 매핑과 같은 시스템 기본 시간대 기준)
+    Instant createdAt = followedAt.atZone(ZoneId.systemDefault()).toInstant();
+    PreparedStatement followerStatement = prepared(INSERT_FOLLOWER_CQL);
+    PreparedStatement followingStatement = prepared(INSERT_FOLLOWING_CQL);
+    return writeAll(followerId, followedUserIds,
+        (followedUserId, follower) -> followerStatement.bind(followedUserId, follower, createdAt),
+        (follower, followedUserId) -> followingStatement.bind(follower, followedUserId, createdAt));
+  }
+
+  /**
+   * 양방향 팔로우 관계 삭제
+   *
+   * @return 삭제에 실패한 대상 ID
+   */
+  public Set<UUID> unfollowAll(UUID followerId, List<UUID> followedUserIds) {
+    PreparedStatement followerStatement = prepared(DELETE_FOLLOWER_CQL);
+    PreparedStatement followingStatement = prepared(DELETE_FOLLOWING_CQL);
+    return writeAll(followerId, followedUserIds, followerStatement::bind, followingStatement::bind);
+  }
+
+  /**
+   * @param followerRow (followedUserId, followerId) → followers_by_user 문장
+   * @param followingRow (followerId, followedUserId) → followings_by_user 문장
+   */
+  private Set<UUID> writeAll(UUID followerId, List<UUID> followedUserIds,
+      BiFunction<UUID, UUID, BoundStatement> followerRow,
+      BiFunction<UUID, UUID, BoundStatement> followingRow) {
+    Set<UUID> failed = ConcurrentHashMap.newKeySet();
+    if (followedUserIds.isEmpty()) {
+      return failed;
+    }
+
+    List<CompletableFuture<?>> futures = new ArrayList<>();
+
+    // 1. 요청자 파티션(followings_by_user): 청크 단위 단일 파티션 배치
+    for (int from = 0; from < followedUserIds.size(); from += batchSize) {
+      List<UUID> chunk = followedUserIds.subList(from, Math.min(from + batchSize, followedUserIds.size()));
+      BatchStatementBuilder batch = BatchStatement.builder(DefaultBatchType.UNLOGGED);
+      chunk.forEach(followedUserId -> batch.addStatement(followingRow.apply(followerId, followedUserId)));
+
+      futures.add(cqlSession.executeAsync(batch.setIdempotence(true).build())
+          .toCompletableFuture()
+          .whenComplete((rs, error) -> {
+            if (error != null) {
+              failed.addAll(chunk);
+              log.warn("followings_by_user 배치 실패 - followerId: {}, 대상 수: {}, error: {}",
+                  followerId, chunk.size(), error.getMessage());
+            }
+          }));
+    }
+
+    // 2. 대상별 파티션(followers_by_user): 파티션당 단건 비동기 요청
+    for (UUID followedUserId : followedUserIds) {
+      futures.add(cqlSession.executeAsync(followerRow.apply(followedUserId, followerId).setIdempotent(true))
+          .toCompletableFuture()
+          .whenComplete((rs, error) -> {
+            if (error != null) {
+              failed.add(followedUserId);
+              log.warn("followers_by_user 쓰기 실패 - followedUserId: {}, followerId: {}, error: {}",
+                  followedUserId, followerId, error.getMessage());
+            }
+          }));
+    }
+
+    // 개별 실패는 failed에 기록되므로 예외 없이 모두 끝날 때까지만 대기
+    CompletableFuture.allOf(futures.stream()
+            .map(future -> future.handle((rs, error) -> null))
+            .toArray(CompletableFuture[]::new))
+        .join();
+    return failed;
+  }
+
+  private PreparedStatement prepared(String cql) {
+    return preparedStatements.computeIfAbsent(cql, cqlSession::prepare);
+  }
+}
@@ -41,7 +41,8 @@ public class UserTimelineKey implements Serializable {
      * 트윗 고유 ID (두 번째 클러스터링 키)
      * - 동일한 created_at을 가진 트윗들의 고유성 보장
      * - 정확한 커서 기반 페이지네이션 지원
+     * - created_at과 같은 내림차순
      */
-    @PrimaryKeyColumn(name = "tweet_id", type = PrimaryKeyType.CLUSTERED)
+    @PrimaryKeyColumn(name = "tweet_id", type = PrimaryKeyType.CLUSTERED, ordering = Ordering.DESCENDING)
     private UUID tweetId;
 }
\ No newline at end of file
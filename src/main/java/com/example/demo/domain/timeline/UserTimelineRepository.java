@@ -1,5 +1,7 @@
 package com.example.demo.domain.timeline;
 
+import com.example.demo.util.cassandra.CassandraPaging;
+import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.repository.CassandraRepository;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -21,17 +23,30 @@ public interface UserTimelineRepository extends CassandraRepository<UserTimeline
     /**
      * 특정 사용자의 최신 타임라인 조회
      * @param followerId 타임라인 소유자 ID
-     * @return 최신순 타임라인 목록 (최대 20개)
+     * @param limit 조회 개수 (LIMIT 바인드 값)
+     * @param options 드라이버 page size 등 조회 옵션
+     * @return 최신순 타임라인 목록 (최대 limit개)
      */
-    @Query("SELECT * FROM user_timeline WHERE follower_id = ?0 LIMIT 20")
-    List<UserTimeline> findLatestTimeline(UUID followerId);
+    @Query("SELECT * FROM user_timeline WHERE follower_id = ?0 LIMIT ?1")
+    List<UserTimeline> findLatestTimeline(UUID followerId, int limit, QueryOptions options);
+
+    default List<UserTimeline> findLatestTimeline(UUID followerId, int limit) {
+        return findLatestTimeline(followerId, limit, CassandraPaging.pageOf(limit));
+    }
 
     /**
-     * 커서 기반 페이지네이션
+     * Keyset 커서 기반 페이지네이션 ((created_at, tweet_id) 튜플 비교)
      * @param followerId 타임라인 소유자 ID
-     * @param cursor 기준 시간
+     * @param createdAt 이전 페이지 마지막 트윗 시간
+     * @param tweetId 이전 페이지 마지막 트윗 ID
+     * @param limit 조회 개수
+     * @param options 조회 옵션
      * @return 타임라인 목록
      */
-    @Query("SELECT * FROM user_timeline WHERE follower_id = ?0 AND created_at < ?1 LIMIT 20")
-    List<UserTimeline> findTimelineWithCursor(UUID followerId, LocalDateTime cursor);
+    @Query("SELECT * FROM user_timeline WHERE follower_id = ?0 AND (created_at, tweet_id) < (?1, ?2) LIMIT ?3")
+    List<UserTimeline> findTimelineAfter(UUID followerId, LocalDateTime createdAt, UUID tweetId, int limit, QueryOptions options);
+
+    default List<UserTimeline> findTimelineAfter(UUID followerId, LocalDateTime createdAt, UUID tweetId, int limit) {
+        return findTimelineAfter(followerId, createdAt, tweetId, limit, CassandraPaging.pageOf(limit));
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.example.demo.domain.timeline.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Redis에 저장되는 타임라인 엔트리 본문
+ * - 트윗당 한 번만 저장되고 모든 팔로워의 타임라인 ZSET이 tweetId로 참조
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedTimelineEntry {
+
+    private UUID tweetId;
+    private UUID authorId;
+    private String tweetText;
+    private LocalDateTime createdAt;
+}
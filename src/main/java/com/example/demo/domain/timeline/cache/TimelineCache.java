@@ -0,0 +1,262 @@
+package com.example.demo.domain.timeline.cache;
+
+import com.example.demo.domain.timeline.UserTimeline;
+import com.example.demo.util.cursor.TimelineCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 기반 Hot 타임라인 캐시
+ *
+ * 구조:
+ * - timeline:{followerId}     → ZSET (member: tweetId, score: created_at epoch millis), 최대 N개 유지
+ * - timeline:entry:{tweetId}  → 트윗 본문 JSON (트윗당 1회 저장, 모든 팔로워가 공유)
+ *
+ * 정책:
+ * - 첫 페이지 조회 시 캐시 miss면 Cassandra에서 읽어 채움 (활성 사용자만 캐시에 존재)
+ * - Fan-out 시에는 이미 캐시가 존재하는 팔로워의 ZSET에만 추가 (비활성 사용자는 TTL로 자연 만료)
+ * - Redis 장애는 타임라인 기능에 영향을 주지 않도록 모두 miss로 처리
+ * - 같은 밀리초의 트윗은 ZSET에서 member 문자열 순으로 정렬되므로, 조회 시 경계 점수의 트윗을 모두 읽어
+ *   Cassandra 클러스터링 순서(TimelineCursor.newestFirst)로 다시 정렬한 뒤 자름
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimelineCache {
+
+    private static final String TIMELINE_KEY_PREFIX = "timeline:";
+    private static final String ENTRY_KEY_PREFIX = "timeline:entry:";
+
+    // 키가 존재하는(최근 조회된) 타임라인에만 추가하고 최대 크기로 자름
+    private static final DefaultRedisScript<Long> PUSH_IF_ACTIVE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then "
+                    + "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1)) "
+                    + "return 1 end "
+                    + "return 0",
+            Long.class);
+
+    // 최신 N개 tweetId 조회 (N번째와 점수가 같은 tweetId는 모두 포함) + 활성 사용자 TTL 연장
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> READ_LATEST_SCRIPT = new DefaultRedisScript<>(
+            "local scored = redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1, 'WITHSCORES') "
+                    + "if #scored == 0 then return {} end "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+                    + "local boundary = scored[#scored] "
+                    + "local ids = {} "
+                    + "for i = 1, #scored, 2 do "
+                    + "if scored[i + 1] ~= boundary then ids[#ids + 1] = scored[i] end end "
+                    + "for _, id in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], boundary, boundary)) do "
+                    + "ids[#ids + 1] = id end "
+                    + "return ids",
+            List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 사용자별로 유지할 최대 타임라인 엔트리 수
+    @Value("${timeline.cache.max-entries:200}")
+    private int maxEntries;
+
+    // 조회가 없는 사용자의 캐시 만료 시간
+    @Value("${timeline.cache.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    // 트윗 본문 캐시 만료 시간
+    @Value("${timeline.cache.entry-ttl-seconds:172800}")
+    private long entryTtlSeconds;
+
+    /**
+     * 최신 타임라인 조회 (캐시 hit인 경우에만 값 반환)
+     *
+     * @param followerId 타임라인 소유자 ID
+     * @param size 조회할 개수
+     * @return 최신순 타임라인, miss면 Optional.empty()
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<List<UserTimeline>> getLatest(UUID followerId, int size) {
+        try {
+            List<String> tweetIds = redisTemplate.execute(READ_LATEST_SCRIPT,
+                    List.of(timelineKey(followerId)), String.valueOf(size), String.valueOf(ttlSeconds));
+            if (tweetIds == null || tweetIds.isEmpty()) {
+                return Optional.empty();
+            }
+
+            List<String> bodies = redisTemplate.opsForValue().multiGet(
+                    tweetIds.stream().map(TimelineCache::entryKey).toList());
+            // 본문 일부가 만료된 경우 부분 응답 대신 miss로 처리하여 Cassandra에서 다시 채움
+            if (bodies == null || bodies.contains(null)) {
+                return Optional.empty();
+            }
+
+            List<UserTimeline> timelines = new ArrayList<>(bodies.size());
+            for (String body : bodies) {
+                CachedTimelineEntry entry = objectMapper.readValue(body, CachedTimelineEntry.class);
+                timelines.add(UserTimeline.builder()
+                        .followerId(followerId)
+                        .tweetId(entry.getTweetId())
+                        .authorId(entry.getAuthorId())
+                        .tweetText(entry.getTweetText())
+                        .createdAt(entry.getCreatedAt())
+                        .build());
+            }
+            timelines.sort(TimelineCursor.newestFirst(
+                    timeline -> timeline.getKey().getCreatedAt(), timeline -> timeline.getKey().getTweetId()));
+            return Optional.of(new ArrayList<>(timelines.subList(0, Math.min(size, timelines.size()))));
+        } catch (Exception e) {
+            log.warn("타임라인 캐시 조회 실패, Cassandra로 대체 - followerId: {}, error: {}", followerId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Cassandra에서 읽은 첫 페이지로 캐시 채우기 (cold 사용자 → 활성 사용자)
+     */
+    public void warm(UUID followerId, List<UserTimeline> timelines) {
+        if (timelines.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] key = bytes(timelineKey(followerId));
+            List<byte[][]> entries = new ArrayList<>(timelines.size());
+            for (UserTimeline timeline : timelines) {
+                CachedTimelineEntry entry = new CachedTimelineEntry(
+                        timeline.getKey().getTweetId(),
+                        timeline.getAuthorId(),
+                        timeline.getTweetText(),
+                        timeline.getKey().getCreatedAt());
+                entries.add(new byte[][]{
+                        bytes(entryKey(entry.getTweetId().toString())),
+                        objectMapper.writeValueAsBytes(entry),
+                        bytes(entry.getTweetId().toString())
+                });
+            }
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < entries.size(); i++) {
+                    byte[][] entry = entries.get(i);
+                    double score = toScore(timelines.get(i).getKey().getCreatedAt());
+                    connection.stringCommands().set(entry[0], entry[1], Expiration.seconds(entryTtlSeconds), SetOption.upsert());
+                    connection.zSetCommands().zAdd(key, score, entry[2]);
+                }
+                connection.zSetCommands().zRemRange(key, 0, -(maxEntries + 1));
+                connection.keyCommands().expire(key, ttlSeconds);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("타임라인 캐시 적재 실패 - followerId: {}, error: {}", followerId, e.getMessage());
+        }
+    }
+
+    /**
+     * Fan-out 시 활성 팔로워들의 캐시에 새 트윗 추가 (파이프라인으로 일괄 전송)
+     */
+    public void push(Collection<UUID> followerIds, UUID tweetId, UUID authorId, String tweetText, LocalDateTime createdAt) {
+        if (followerIds.isEmpty()) {
+            return;
+        }
+        try {
+            CachedTimelineEntry entry = new CachedTimelineEntry(tweetId, authorId, tweetText, createdAt);
+            redisTemplate.opsForValue().set(entryKey(tweetId.toString()),
+                    objectMapper.writeValueAsString(entry), Duration.ofSeconds(entryTtlSeconds));
+
+            byte[] script = bytes(PUSH_IF_ACTIVE_SCRIPT.getScriptAsString());
+            String scriptSha = PUSH_IF_ACTIVE_SCRIPT.getSha1();
+            byte[] score = bytes(String.valueOf((long) toScore(createdAt)));
+            byte[] member = bytes(tweetId.toString());
+            byte[] max = bytes(String.valueOf(maxEntries));
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                // 파이프라인 내 EVALSHA가 NOSCRIPT로 실패하지 않도록 먼저 스크립트 로딩
+                connection.scriptingCommands().scriptLoad(script);
+                for (UUID followerId : followerIds) {
+                    connection.scriptingCommands().evalSha(scriptSha, ReturnType.INTEGER, 1,
+                            bytes(timelineKey(followerId)), score, member, max);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("타임라인 캐시 Fan-out 실패 - tweetId: {}, 팔로워 수: {}, error: {}",
+                    tweetId, followerIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 삭제된 트윗 본문 제거
+     * - 이 트윗을 가진 타임라인은 다음 조회 시 miss로 처리되어 Cassandra에서 다시 채워짐
+     */
+    public void removeEntry(UUID tweetId) {
+        try {
+            redisTemplate.delete(entryKey(tweetId.toString()));
+        } catch (Exception e) {
+            log.warn("타임라인 캐시 본문 제거 실패 - tweetId: {}, error: {}", tweetId, e.getMessage());
+        }
+    }
+
+    /**
+     * 삭제된 트윗을 팔로워들의 타임라인 ZSET에서 제거 (파이프라인으로 일괄 전송)
+     */
+    public void remove(Collection<UUID> followerIds, UUID tweetId) {
+        if (followerIds.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] member = bytes(tweetId.toString());
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (UUID followerId : followerIds) {
+                    connection.zSetCommands().zRem(bytes(timelineKey(followerId)), member);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("타임라인 캐시 트윗 제거 실패 - tweetId: {}, 팔로워 수: {}, error: {}",
+                    tweetId, followerIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 타임라인 캐시 제거 (팔로우 관계 변경으로 Cassandra 타임라인이 바뀐 경우, 다음 조회 시 다시 채움)
+     */
+    public void evict(UUID followerId) {
+        try {
+            redisTemplate.delete(timelineKey(followerId));
+        } catch (Exception e) {
+            log.warn("타임라인 캐시 제거 실패 - followerId: {}, error: {}", followerId, e.getMessage());
+        }
+    }
+
+    private static String timelineKey(UUID followerId) {
+        return TIMELINE_KEY_PREFIX + followerId;
+    }
+
+    private static String entryKey(String tweetId) {
+        return ENTRY_KEY_PREFIX + tweetId;
+    }
+
+    private static double toScore(LocalDateTime createdAt) {
+        return createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -3,8 +3,8 @@ package com.example.demo.domain.timeline.controller;
 import com.example.demo.domain.timeline.UserTimeline;
 import com.example.demo.domain.timeline.response.TimelineResponse;
 import com.example.demo.domain.timeline.service.TimelineService;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import com.example.demo.domain.timeline.service.TimelineService.TimelinePage;
+import com.example.demo.util.cursor.TimelineCursor;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -22,32 +22,40 @@ public class TimelineController {
 
     private final TimelineService timelineService;
 
+    /**
+     * 타임라인 조회
+     *
+     * GET /timeline/{followerId}?cursor={nextCursor}
+     *
+     * @param cursor 이전 응답의 nextCursor (없으면 최신부터)
+     */
     @GetMapping("/{followerId}")
     public ResponseEntity<TimelineResponse> getTimelineByfollowerId(
             @PathVariable("followerId")UUID followerId,
-            @RequestParam(value = "last", required = false) Long lastTimestamp
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
-        // 커서가 없다면 최신 목록 조회하고 바로 반환
-        if (lastTimestamp == null) {
-            List<UserTimeline> timelines = timelineService.getLatestTimeline(followerId);
-
-            return ResponseEntity.ok(new TimelineResponse(
-                    timelines,
-                    null
-            ));
+        TimelineCursor timelineCursor = TimelineCursor.decode(cursor);
+
+        // 커서가 없다면 최신 목록, 있다면 커서 이후 목록 조회
+        List<UserTimeline> timelines;
+        boolean partial = false;
+        if (timelineCursor == null) {
+            timelines = timelineService.getLatestTimeline(followerId);
+        } else {
+            TimelinePage page = timelineService.getTimelineBefore(followerId, timelineCursor);
+            timelines = page.timelines();
+            partial = page.partial();
         }
 
-        // 커서가 있을 경우
-        List<UserTimeline> timelines = timelineService.getTimelineBefore(followerId, lastTimestamp);
-
-        Long nextCursor = null;
+        String nextCursor = null;
         if (!timelines.isEmpty()) {
-            LocalDateTime lastCreatedAt = timelines.get(timelines.size() - 1).getKey().getCreatedAt();
-            nextCursor = lastCreatedAt.atZone(ZoneId.systemDefault())
-                    .toInstant()
-                    .toEpochMilli();
+            UserTimeline last = timelines.get(timelines.size() - 1);
+            nextCursor = TimelineCursor.encodeLast(last.getKey().getCreatedAt(), last.getKey().getTweetId());
+        } else if (partial) {
+            // 반영하지 못한 팔로잉이 있으므로 끝이 아님 → 같은 위치부터 다시 조회
+            nextCursor = cursor;
         }
 
-        return ResponseEntity.ok(new TimelineResponse(timelines, nextCursor));
+        return ResponseEntity.ok(new TimelineResponse(timelines, nextCursor, partial));
     }
 }
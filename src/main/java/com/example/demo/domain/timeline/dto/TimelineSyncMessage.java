@@ -0,0 +1,47 @@
+package com.example.demo.domain.timeline.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 팔로우/언팔로우 후 타임라인 동기화 작업 메시지
+ *
+ * - BACKFILL: 새로 팔로우한 작성자들의 최신 트윗을 팔로워 타임라인에 채움
+ * - PURGE: 언팔로우한 작성자들의 트윗을 팔로워 타임라인에서 제거
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineSyncMessage {
+
+    public enum Type {
+        BACKFILL,
+        PURGE
+    }
+
+    /**
+     * 작업 종류
+     */
+    private Type type;
+
+    /**
+     * 타임라인 소유자 ID
+     */
+    private UUID followerId;
+
+    /**
+     * 팔로우/언팔로우한 작성자 ID 목록 (벌크 요청은 한 메시지에 모아서 전송)
+     */
+    private List<UUID> authorIds;
+
+    /**
+     * 재시도 횟수 (실패한 작성자만 담아 다시 발행)
+     */
+    private int retryCount;
+}
@@ -11,10 +11,19 @@ public class TimelineResponse {
 
     private List<UserTimeline> timelines;
 
-    private Long nextCursor;
+    // 다음 페이지 요청용 불투명 커서 (마지막 항목의 created_at, tweet_id)
+    private String nextCursor;
 
-    public TimelineResponse(List<UserTimeline> timelines, Long nextCursor) {
+    // 일부 팔로잉을 반영하지 못해 덜 채워진 페이지 여부 (nextCursor로 이어서 조회하면 누락 없음)
+    private boolean partial;
+
+    public TimelineResponse(List<UserTimeline> timelines, String nextCursor) {
+        this(timelines, nextCursor, false);
+    }
+
+    public TimelineResponse(List<UserTimeline> timelines, String nextCursor, boolean partial) {
         this.timelines = timelines;
         this.nextCursor = nextCursor;
+        this.partial = partial;
     }
 }
@@ -1,12 +1,27 @@
 package com.example.demo.domain.timeline.service;
 
+import com.example.demo.domain.celebrity.CelebrityTweet;
+import com.example.demo.domain.celebrity.service.CelebrityService;
+import com.example.demo.domain.follow.cache.FollowingsCache;
 import com.example.demo.domain.timeline.UserTimeline;
 import com.example.demo.domain.timeline.UserTimelineRepository;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import com.example.demo.domain.timeline.cache.TimelineCache;
+import com.example.demo.domain.timeline.trim.TimelineTrimmer;
+import com.example.demo.domain.tweet.cache.TweetBodyCache;
+import com.example.demo.domain.tweet.delete.DeletedTweetRegistry;
+import com.example.demo.domain.tweet.entity.Tweet;
+import com.example.demo.domain.tweet.entity.TweetByUser;
+import com.example.demo.domain.tweet.service.TweetFanoutOnReadService;
+import com.example.demo.domain.tweet.service.TweetFanoutOnReadService.FollowingTweets;
+import com.example.demo.util.concurrent.SingleFlight;
+import com.example.demo.util.cursor.TimelineCursor;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,23 +29,189 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class TimelineService {
 
+    // 타임라인 페이지 크기 (user_timeline 쿼리 LIMIT 바인드 값 및 드라이버 page size)
+    private static final int PAGE_SIZE = 20;
+
     private final UserTimelineRepository timelineRepository;
+    private final FollowingsCache followingsCache;
+    private final CelebrityService celebrityService;
+    private final TimelineCache timelineCache;
+    private final DeletedTweetRegistry deletedTweetRegistry;
+    private final TimelineTrimmer timelineTrimmer;
+    private final TweetFanoutOnReadService tweetFanoutOnReadService;
+    private final TweetBodyCache tweetBodyCache;
+
+    // 같은 사용자/커서의 동시 Cassandra 조회는 한 번만 실행하고 결과를 공유
+    private final SingleFlight<UUID, List<UserTimeline>> latestTimelineFlight = new SingleFlight<>();
+    private final SingleFlight<TimelinePageKey, List<UserTimeline>> timelinePageFlight = new SingleFlight<>();
 
     /**
      * 최신 타임라인 20개 조회
+     * - Redis Hot 타임라인 캐시 우선, miss인 경우에만 Cassandra 조회 후 캐시 적재
+     * - 같은 사용자의 동시 miss는 조회/적재를 한 번만 수행
      */
     public List<UserTimeline> getLatestTimeline(UUID followerId) {
-        return timelineRepository.findLatestTimeline(followerId);
+        timelineTrimmer.markActive(followerId);
+        List<UserTimeline> timelines = timelineCache.getLatest(followerId, PAGE_SIZE)
+                .orElseGet(() -> latestTimelineFlight.execute(followerId, () -> {
+                    List<UserTimeline> loaded = withoutDeleted(hydrate(timelineRepository.findLatestTimeline(followerId, PAGE_SIZE)));
+                    timelineCache.warm(followerId, loaded);
+                    return loaded;
+                }));
+        return withoutDeleted(mergeCelebrityTweets(followerId, timelines, null));
+    }
+
+    /**
+     * 커서 이후 타임라인 20개 조회 (created_at, tweet_id Keyset 커서)
+     * - 깊은 페이지는 캐시 범위를 벗어나므로 항상 Cassandra 조회
+     * - user_timeline은 최신 N개(trim)와 TTL 범위만 보관하므로, 페이지가 덜 채워지면
+     *   나머지는 tweets_by_user Fan-out on Read로 이어서 조회
+     * - Fan-out on Read가 일부 작성자를 반영하지 못하면(partial) 모든 팔로잉이 반영된 지점까지만 반환하여
+     *   다음 커서가 빠진 작성자의 트윗을 건너뛰지 않도록 함
+     */
+    public TimelinePage getTimelineBefore(UUID followerId, TimelineCursor cursor) {
+        List<UserTimeline> rows = timelinePageFlight.execute(new TimelinePageKey(followerId, cursor), () ->
+                timelineRepository.findTimelineAfter(followerId, cursor.createdAt(), cursor.tweetId(), PAGE_SIZE));
+        List<UserTimeline> timelines = hydrate(rows);
+        TimelineCursor complete = null;
+        if (rows.size() < PAGE_SIZE) {
+            TimelineCursor from = rows.isEmpty() ? cursor : new TimelineCursor(
+                    rows.get(rows.size() - 1).getKey().getCreatedAt(), rows.get(rows.size() - 1).getKey().getTweetId());
+            FollowingTweets older = tweetFanoutOnReadService.getFollowingTweetsAfter(
+                    followerId, from, PAGE_SIZE - timelines.size());
+            timelines = appendFanoutOnRead(followerId, older.tweets(), timelines);
+            if (older.partial()) {
+                TweetByUser last = older.tweets().isEmpty() ? null : older.tweets().get(older.tweets().size() - 1);
+                complete = last == null ? from : new TimelineCursor(last.getKey().getCreatedAt(), last.getKey().getTweetId());
+            }
+        }
+
+        List<UserTimeline> page = withoutDeleted(mergeCelebrityTweets(followerId, timelines, cursor));
+        if (complete == null) {
+            return new TimelinePage(page, false);
+        }
+        // 셀럽 병합으로 들어온 더 오래된 트윗도 제외 (커서가 반영되지 않은 구간을 넘어가지 않도록)
+        Comparator<TimelineCursor> newestFirst = TimelineCursor.newestFirst(TimelineCursor::createdAt, TimelineCursor::tweetId);
+        TimelineCursor bound = complete;
+        return new TimelinePage(page.stream()
+                .filter(timeline -> newestFirst.compare(
+                        new TimelineCursor(timeline.getKey().getCreatedAt(), timeline.getKey().getTweetId()), bound) <= 0)
+                .collect(Collectors.toList()), true);
+    }
+
+    /**
+     * 깊은 페이지 조회 결과
+     *
+     * @param timelines 최신순 타임라인 (partial이면 PAGE_SIZE보다 작거나 비어 있을 수 있음)
+     * @param partial 일부 팔로잉을 반영하지 못해 덜 채워진 페이지면 true (비어 있으면 같은 커서로 다시 조회)
+     */
+    public record TimelinePage(List<UserTimeline> timelines, boolean partial) {
+    }
+
+    /**
+     * 참조형 행(tweet_text 없음)의 본문을 tweets에서 일괄 조회해 채움
+     * - 원본이 삭제된 트윗은 제외되므로 삭제/수정 시 팔로워 타임라인 Fan-out 없이도 반영됨
+     * - 입력 행은 변경하지 않음 (본문을 채운 행은 새로 생성)
+     */
+    private List<UserTimeline> hydrate(List<UserTimeline> timelines) {
+        List<UUID> referenceIds = timelines.stream()
+                .filter(timeline -> timeline.getTweetText() == null)
+                .map(timeline -> timeline.getKey().getTweetId())
+                .toList();
+        if (referenceIds.isEmpty()) {
+            return timelines;
+        }
+
+        Map<UUID, Tweet> tweets = tweetBodyCache.getAll(referenceIds);
+        List<UserTimeline> hydrated = new ArrayList<>(timelines.size());
+        for (UserTimeline timeline : timelines) {
+            if (timeline.getTweetText() == null) {
+                Tweet tweet = tweets.get(timeline.getKey().getTweetId());
+                if (tweet == null) {
+                    continue;
+                }
+                // 조회 결과는 단일 비행으로 동시 요청 간에 공유되므로 행을 변경하지 않고 새 인스턴스로 반환
+                timeline = UserTimeline.builder()
+                        .followerId(timeline.getKey().getFollowerId())
+                        .tweetId(timeline.getKey().getTweetId())
+                        .authorId(timeline.getAuthorId())
+                        .tweetText(tweet.getTweetText())
+                        .createdAt(timeline.getKey().getCreatedAt())
+                        .build();
+            }
+            hydrated.add(timeline);
+        }
+        return hydrated;
     }
 
     /**
-     * 특정 시간 이전 타임라인 20개 조회 (커서 기반)
+     * Push 타임라인 마지막 행(없으면 요청 커서) 이후를 팔로잉 트윗 병합 결과로 채움
      */
-    public List<UserTimeline> getTimelineBefore(UUID followerId, Long lastTimestamp) {
-        LocalDateTime cursor = Instant.ofEpochMilli(lastTimestamp)
-                .atZone(ZoneId.systemDefault())
-                .toLocalDateTime();
+    private List<UserTimeline> appendFanoutOnRead(UUID followerId, List<TweetByUser> older, List<UserTimeline> timelines) {
+        if (older.isEmpty()) {
+            return timelines;
+        }
+
+        List<UserTimeline> filled = new ArrayList<>(timelines);
+        older.forEach(tweet -> filled.add(UserTimeline.builder()
+                .followerId(followerId)
+                .tweetId(tweet.getKey().getTweetId())
+                .authorId(tweet.getKey().getUserId())
+                .tweetText(tweet.getTweetText())
+                .createdAt(tweet.getKey().getCreatedAt())
+                .build()));
+        return filled;
+    }
+
+    /**
+     * 삭제 후 정리가 끝나지 않은 트윗 제외 (해당 페이지는 PAGE_SIZE보다 작을 수 있음)
+     */
+    private List<UserTimeline> withoutDeleted(List<UserTimeline> timelines) {
+        return timelines.stream()
+                .filter(timeline -> !deletedTweetRegistry.isDeleted(timeline.getKey().getTweetId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Push로 채워진 타임라인 페이지에 팔로우 중인 셀럽들의 트윗을 병합 (Hybrid Fan-out)
+     * - 셀럽 트윗은 Fan-out 되지 않으므로 조회 시점에 celebrity_tweets에서 가져옴
+     * - 병합 후에도 페이지 크기는 동일하게 유지되고, Cassandra 클러스터링 순서와 같은 기준으로 정렬하므로
+     *   마지막 항목을 그대로 다음 페이지 커서로 사용할 수 있음
+     */
+    private List<UserTimeline> mergeCelebrityTweets(UUID followerId, List<UserTimeline> timelines, TimelineCursor cursor) {
+        List<UUID> followingIds = followingsCache.getFollowingIds(followerId);
+
+        List<CelebrityTweet> celebrityTweets = celebrityService.getCelebrityTweets(followingIds, cursor, PAGE_SIZE);
+        if (celebrityTweets.isEmpty()) {
+            return timelines;
+        }
+
+        // 팔로워 수가 Fan-out 도중 임계치를 넘어 승격된 경우, 일부 팔로워는 같은 트윗을 Push로도 받았으므로 중복 제거
+        Set<UUID> pushedTweetIds = timelines.stream()
+                .map(timeline -> timeline.getKey().getTweetId())
+                .collect(Collectors.toSet());
+
+        List<UserTimeline> merged = new ArrayList<>(timelines);
+        celebrityTweets.stream()
+                .filter(tweet -> !pushedTweetIds.contains(tweet.getKey().getTweetId()))
+                .forEach(tweet -> merged.add(UserTimeline.builder()
+                        .followerId(followerId)
+                        .tweetId(tweet.getKey().getTweetId())
+                        .authorId(tweet.getKey().getAuthorId())
+                        .tweetText(tweet.getTweetText())
+                        .createdAt(tweet.getKey().getCreatedAt())
+                        .build()));
+
+        return merged.stream()
+                .sorted(newestFirst())
+                .limit(PAGE_SIZE)
+                .collect(Collectors.toList());
+    }
+
+    private static Comparator<UserTimeline> newestFirst() {
+        return TimelineCursor.newestFirst(t -> t.getKey().getCreatedAt(), t -> t.getKey().getTweetId());
+    }
 
-        return timelineRepository.findTimelineWithCursor(followerId, cursor);
+    private record TimelinePageKey(UUID followerId, TimelineCursor cursor) {
     }
 }
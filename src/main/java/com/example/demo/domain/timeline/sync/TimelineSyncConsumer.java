@@ -0,0 +1,147 @@
+package com.example.demo.domain.timeline.sync;
+
+import com.example.demo.domain.celebrity.service.CelebrityService;
+import com.example.demo.domain.follow.FollowingsByUserRepository;
+import com.example.demo.domain.timeline.cache.TimelineCache;
+import com.example.demo.domain.timeline.dto.TimelineSyncMessage;
+import com.example.demo.domain.timeline.dto.TimelineSyncMessage.Type;
+import com.example.demo.domain.timeline.writer.TimelineSyncWriter;
+import com.example.demo.domain.tweet.entity.TweetByUser;
+import com.example.demo.domain.tweet.repository.TweetByUserRepository;
+import com.example.demo.rabbitmq.RabbitMqService;
+import com.example.demo.util.ratelimit.TokenBucketRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 타임라인 동기화 컨슈머 (팔로우 → backfill, 언팔로우 → purge)
+ *
+ * - backfill: 작성자의 최신 N개 트윗을 팔로워 타임라인에 저장 (셀럽은 조회 시 Pull 하므로 제외)
+ * - purge: 작성자의 최신 M개 트윗을 팔로워 타임라인에서 삭제 (M보다 오래된 행은 페이지 끝에 남을 수 있음)
+ * - 쓰기량은 Token Bucket으로 초당 행 수를 제한하여 대량 팔로우가 Fan-out 쓰기와 경합하지 않도록 함
+ * - 처리 후 팔로워의 Hot 캐시를 제거하여 다음 조회 시 Cassandra에서 다시 채움
+ * - 팔로우/언팔로우 메시지는 순서가 보장되지 않으므로 쓰기 직전에 현재 팔로우 관계를 다시 확인
+ *   (backfill은 관계가 있을 때만, purge는 관계가 없을 때만 실행하고 아니면 건너뜀)
+ */
+@Slf4j
+@Service
+public class TimelineSyncConsumer {
+
+    private static final int MAX_RETRY_COUNT = 3;
+
+    private final TweetByUserRepository tweetByUserRepository;
+    private final FollowingsByUserRepository followingsByUserRepository;
+    private final CelebrityService celebrityService;
+    private final TimelineSyncWriter timelineSyncWriter;
+    private final TimelineCache timelineCache;
+    private final RabbitMqService rabbitMqService;
+    private final TokenBucketRateLimiter rateLimiter;
+
+    @Value("${rabbitmq.timeline-sync.routing-key}")
+    private String routingKey;
+
+    // 팔로우 시 작성자당 채울 최신 트윗 수
+    @Value("${timeline.sync.backfill-size:20}")
+    private int backfillSize;
+
+    // 언팔로우 시 작성자당 삭제할 최신 트윗 수
+    @Value("${timeline.sync.purge-window:200}")
+    private int purgeWindow;
+
+    public TimelineSyncConsumer(TweetByUserRepository tweetByUserRepository,
+                                FollowingsByUserRepository followingsByUserRepository,
+                                CelebrityService celebrityService,
+                                TimelineSyncWriter timelineSyncWriter,
+                                TimelineCache timelineCache,
+                                RabbitMqService rabbitMqService,
+                                @Value("${timeline.sync.max-rows-per-second:2000}") double maxRowsPerSecond) {
+        this.tweetByUserRepository = tweetByUserRepository;
+        this.followingsByUserRepository = followingsByUserRepository;
+        this.celebrityService = celebrityService;
+        this.timelineSyncWriter = timelineSyncWriter;
+        this.timelineCache = timelineCache;
+        this.rabbitMqService = rabbitMqService;
+        this.rateLimiter = new TokenBucketRateLimiter(maxRowsPerSecond);
+    }
+
+    @RabbitListener(queues = "${rabbitmq.timeline-sync.queue}", concurrency = "${rabbitmq.timeline-sync.concurrency}")
+    public void handle(TimelineSyncMessage message) {
+        UUID followerId = message.getFollowerId();
+        List<UUID> failedAuthorIds = new ArrayList<>();
+        int rows = 0;
+
+        for (UUID authorId : message.getAuthorIds()) {
+            try {
+                rows += sync(message.getType(), followerId, authorId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedAuthorIds.add(authorId);
+            } catch (Exception e) {
+                log.warn("타임라인 동기화 실패 - type: {}, followerId: {}, authorId: {}, error: {}",
+                        message.getType(), followerId, authorId, e.getMessage());
+                failedAuthorIds.add(authorId);
+            }
+        }
+
+        if (rows > 0) {
+            timelineCache.evict(followerId);
+        }
+        if (!failedAuthorIds.isEmpty()) {
+            handleFailure(message, failedAuthorIds);
+        }
+        log.debug("타임라인 동기화 완료 - type: {}, followerId: {}, 작성자 수: {}, 행 수: {}",
+                message.getType(), followerId, message.getAuthorIds().size(), rows);
+    }
+
+    private int sync(Type type, UUID followerId, UUID authorId) throws InterruptedException {
+        if (type == Type.BACKFILL) {
+            if (celebrityService.isCelebrity(authorId)) {
+                return 0;
+            }
+            List<TweetByUser> tweets = tweetByUserRepository.findLatestTweets(authorId, backfillSize);
+            rateLimiter.acquire(tweets.size());
+            // 그 사이 언팔로우되었으면 purge가 먼저 처리되었을 수 있으므로 채우지 않음
+            if (!isFollowing(followerId, authorId)) {
+                log.debug("팔로우 관계 없음 - backfill 건너뜀, followerId: {}, authorId: {}", followerId, authorId);
+                return 0;
+            }
+            return timelineSyncWriter.backfill(followerId, tweets);
+        }
+
+        List<TweetByUser> tweets = tweetByUserRepository.findLatestTweets(authorId, purgeWindow);
+        rateLimiter.acquire(tweets.size());
+        // 그 사이 다시 팔로우되었으면 backfill된 행을 지우지 않음
+        if (isFollowing(followerId, authorId)) {
+            log.debug("팔로우 관계 존재 - purge 건너뜀, followerId: {}, authorId: {}", followerId, authorId);
+            return 0;
+        }
+        return timelineSyncWriter.purge(followerId, tweets);
+    }
+
+    /**
+     * 쓰기 직전의 팔로우 관계 (followings_by_user 행 존재 여부)
+     */
+    private boolean isFollowing(UUID followerId, UUID authorId) {
+        return followingsByUserRepository.existsByKeyFollowerIdAndKeyFollowedUserId(followerId, authorId);
+    }
+
+    /**
+     * 실패한 작성자만 담아 재발행 (INSERT/DELETE 모두 전체 키 기준이라 재실행해도 안전)
+     */
+    private void handleFailure(TimelineSyncMessage message, List<UUID> failedAuthorIds) {
+        int nextRetryCount = message.getRetryCount() + 1;
+        if (nextRetryCount <= MAX_RETRY_COUNT) {
+            rabbitMqService.sendMessage(routingKey, new TimelineSyncMessage(
+                    message.getType(), message.getFollowerId(), failedAuthorIds, nextRetryCount));
+        } else {
+            log.error("타임라인 동기화 최대 재시도 초과 - type: {}, followerId: {}, 작성자 수: {}, maxRetry: {}",
+                    message.getType(), message.getFollowerId(), failedAuthorIds.size(), MAX_RETRY_COUNT);
+        }
+    }
+}
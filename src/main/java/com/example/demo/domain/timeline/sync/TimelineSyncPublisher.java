@@ -0,0 +1,57 @@
+package com.example.demo.domain.timeline.sync;
+
+import com.example.demo.domain.timeline.dto.TimelineSyncMessage;
+import com.example.demo.domain.timeline.dto.TimelineSyncMessage.Type;
+import com.example.demo.rabbitmq.RabbitMqService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 타임라인 동기화(backfill/purge) 작업 발행기
+ *
+ * 팔로우 요청 스레드에서는 메시지 한 건만 발행하고 반환 (실제 복사/삭제는 TimelineSyncConsumer 에서 비동기 처리)
+ * 동기화는 부가 작업이므로 발행 실패가 팔로우 자체를 실패시키지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimelineSyncPublisher {
+
+    private final RabbitMqService rabbitMqService;
+
+    @Value("${rabbitmq.timeline-sync.routing-key}")
+    private String routingKey;
+
+    /**
+     * 새로 팔로우한 작성자들의 최신 트윗 채우기
+     */
+    public void publishBackfill(UUID followerId, List<UUID> authorIds) {
+        publish(new TimelineSyncMessage(Type.BACKFILL, followerId, authorIds, 0));
+    }
+
+    /**
+     * 언팔로우한 작성자들의 트윗 제거
+     */
+    public void publishPurge(UUID followerId, List<UUID> authorIds) {
+        publish(new TimelineSyncMessage(Type.PURGE, followerId, authorIds, 0));
+    }
+
+    void publish(TimelineSyncMessage message) {
+        if (message.getAuthorIds().isEmpty()) {
+            return;
+        }
+        try {
+            rabbitMqService.sendMessage(routingKey, message);
+            log.debug("타임라인 동기화 작업 발행 - type: {}, followerId: {}, 작성자 수: {}",
+                    message.getType(), message.getFollowerId(), message.getAuthorIds().size());
+        } catch (Exception e) {
+            log.warn("타임라인 동기화 작업 발행 실패 - type: {}, followerId: {}, error: {}",
+                    message.getType(), message.getFollowerId(), e.getMessage());
+        }
+    }
+}
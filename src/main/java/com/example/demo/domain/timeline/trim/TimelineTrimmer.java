@@ -0,0 +1,135 @@
+package com.example.demo.domain.timeline.trim;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.example.demo.util.ratelimit.TokenBucketRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * user_timeline 파티션 크기 제한 (최신 N개만 유지)
+ *
+ * - 타임라인을 조회한 사용자(활성 사용자)를 모아 두었다가 주기적으로 파티션별 정리
+ *   (조회하지 않는 사용자의 파티션은 행 TTL로 만료)
+ * - 클러스터링 키만 N+1개 읽어 N번째 행의 created_at보다 오래된 구간을 range delete 한 번으로 삭제
+ *   (행마다 tombstone을 남기지 않고 range tombstone 하나만 생성)
+ * - 초당 정리 파티션 수를 Token Bucket으로 제한하여 조회/Fan-out 쓰기와 경합하지 않도록 함
+ *
+ * 잘린 구간보다 오래된 페이지는 TimelineService 에서 tweets_by_user Fan-out on Read로 조회
+ */
+@Slf4j
+@Component
+public class TimelineTrimmer {
+
+    private static final String SELECT_KEYS_CQL =
+            "SELECT created_at FROM user_timeline WHERE follower_id = ? LIMIT ?";
+    private static final String DELETE_OLDER_CQL =
+            "DELETE FROM user_timeline WHERE follower_id = ? AND created_at < ?";
+
+    private final CqlSession cqlSession;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Set<UUID> pendingFollowers = ConcurrentHashMap.newKeySet();
+    private final Map<String, PreparedStatement> preparedStatements = new ConcurrentHashMap<>();
+
+    // 파티션별로 유지할 최신 타임라인 행 수
+    @Value("${timeline.trim.max-entries:1000}")
+    private int maxEntries;
+
+    // 정리 대기 사용자 최대 수 (초과분은 다음 조회 시 다시 등록)
+    @Value("${timeline.trim.max-pending:100000}")
+    private int maxPending;
+
+    public TimelineTrimmer(CqlSession cqlSession,
+                           @Value("${timeline.trim.max-partitions-per-second:200}") double maxPartitionsPerSecond) {
+        this.cqlSession = cqlSession;
+        this.rateLimiter = new TokenBucketRateLimiter(maxPartitionsPerSecond);
+    }
+
+    /**
+     * 정리 대상 등록 (타임라인 조회 시 호출, 메모리 Set 추가만 수행)
+     */
+    public void markActive(UUID followerId) {
+        if (pendingFollowers.size() < maxPending) {
+            pendingFollowers.add(followerId);
+        }
+    }
+
+    /**
+     * 등록된 사용자들의 타임라인 파티션 정리
+     */
+    @Scheduled(fixedDelayString = "${timeline.trim.interval-ms:600000}",
+            initialDelayString = "${timeline.trim.interval-ms:600000}")
+    public void trimPending() {
+        List<UUID> followerIds = new ArrayList<>(pendingFollowers);
+        followerIds.forEach(pendingFollowers::remove);
+        if (followerIds.isEmpty()) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        int trimmed = 0;
+        for (UUID followerId : followerIds) {
+            try {
+                rateLimiter.acquire(1);
+                if (trim(followerId)) {
+                    trimmed++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("타임라인 정리 실패 - followerId: {}, error: {}", followerId, e.getMessage());
+            }
+        }
+        log.info("타임라인 정리 완료 - 대상: {}, 정리: {}, 소요: {}ms",
+                followerIds.size(), trimmed, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 최신 maxEntries개보다 오래된 행 삭제
+     * (N번째 행과 같은 created_at을 가진 행은 남으므로 최대 몇 개 더 유지될 수 있음)
+     *
+     * @return 삭제가 발생했는지 여부
+     */
+    boolean trim(UUID followerId) {
+        ResultSet rows = cqlSession.execute(prepared(SELECT_KEYS_CQL)
+                .bind(followerId, maxEntries + 1)
+                .setPageSize(maxEntries + 1)
+                .setConsistencyLevel(ConsistencyLevel.ONE));
+
+        Instant lastKept = null;
+        int count = 0;
+        for (Row row : rows) {
+            count++;
+            if (count == maxEntries) {
+                lastKept = row.getInstant("created_at");
+            }
+        }
+        if (count <= maxEntries || lastKept == null) {
+            return false;
+        }
+
+        cqlSession.execute(prepared(DELETE_OLDER_CQL)
+                .bind(followerId, lastKept)
+                .setConsistencyLevel(ConsistencyLevel.ONE)
+                .setIdempotent(true));
+        return true;
+    }
+
+    private PreparedStatement prepared(String cql) {
+        return preparedStatements.computeIfAbsent(cql, cqlSession::prepare);
+    }
+}
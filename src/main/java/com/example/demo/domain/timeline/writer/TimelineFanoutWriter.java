@@ -0,0 +1,183 @@
+package com.example.demo.domain.timeline.writer;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.cassandra.core.InsertOptions;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * user_timeline Fan-out 전용 비동기 Writer (트윗 삭제 시 팔로워 타임라인 정리에도 사용)
+ *
+ * 최적화 포인트:
+ * 1. INSERT 문을 한 번만 prepare 하고 팔로워별로 bind만 수행
+ * 2. 다중 파티션 LOGGED 배치 대신 파티션(팔로워)당 단건 executeAsync
+ *    → 코디네이터가 배치를 쪼개 재전송하지 않고, 드라이버가 파티션 키 토큰 기준으로 replica에 직접 전송 (token-aware)
+ * 3. Semaphore로 동시 in-flight 요청 수 제한 (스레드 수가 아닌 드라이버 커넥션 풀 기준으로 처리량 확장)
+ * 4. ConsistencyLevel ONE + idempotent 지정 (타임라인은 Eventually Consistent 허용, 동일 키 재시도 안전)
+ * 5. timelineWriteOptions의 행 TTL 적용 (파티션이 무한히 커지지 않도록 오래된 행 자동 만료)
+ * 6. 참조형 모드(timeline.reference-mode)에서는 tweet_text 없이 참조 컬럼만 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimelineFanoutWriter {
+
+    private static final String INSERT_CQL =
+            "INSERT INTO user_timeline (follower_id, created_at, tweet_id, author_id, tweet_text) VALUES (?, ?, ?, ?, ?) USING TTL ?";
+    // 참조형 행: 본문 없이 (tweet_id, author_id, created_at)만 저장, 조회 시 tweets에서 hydration
+    private static final String INSERT_REFERENCE_CQL =
+            "INSERT INTO user_timeline (follower_id, created_at, tweet_id, author_id) VALUES (?, ?, ?, ?) USING TTL ?";
+    private static final String DELETE_CQL =
+            "DELETE FROM user_timeline WHERE follower_id = ? AND created_at = ? AND tweet_id = ?";
+
+    private final CqlSession cqlSession;
+    // 타임라인 쓰기 공통 옵션 (ConsistencyLevel, 행 TTL)
+    private final InsertOptions timelineWriteOptions;
+
+    // 동시에 처리 중인 INSERT 요청 최대 수 (드라이버 커넥션당 max-requests 보다 작게 유지)
+    @Value("${fanout.write.max-in-flight:512}")
+    private int maxInFlight;
+
+    // 참조형 타임라인 행 저장 여부 (팔로워 수만큼 중복되는 tweet_text 쓰기 제거)
+    @Value("${timeline.reference-mode:false}")
+    private boolean referenceMode;
+
+    private final Map<String, PreparedStatement> preparedStatements = new ConcurrentHashMap<>();
+    private volatile Semaphore inFlight;
+
+    /**
+     * 팔로워들의 타임라인에 트윗 한 건 비동기 저장
+     *
+     * - 호출 스레드는 in-flight 한도에 도달하면 permit이 반환될 때까지 대기 (backpressure)
+     * - 반환된 Future는 모든 INSERT가 끝나면 완료되며, 하나라도 실패하면 마지막 실패 원인으로 예외 완료
+     *
+     * @return 저장된 팔로워 수
+     */
+    public CompletableFuture<Integer> writeAll(Collection<UUID> followerIds, UUID tweetId,
+                                               UUID authorId, String tweetText, LocalDateTime createdAt) {
+        // Spring Data Cassandra의 LocalDateTime → timestamp 변환과 동일하게 시스템 타임존 기준으로 변환
+        Instant createdAtInstant = createdAt.atZone(ZoneId.systemDefault()).toInstant();
+        int ttlSeconds = ttlSeconds(timelineWriteOptions);
+        if (referenceMode) {
+            PreparedStatement prepared = prepared(INSERT_REFERENCE_CQL);
+            return executeAll(followerIds, tweetId, "INSERT",
+                    followerId -> prepared.bind(followerId, createdAtInstant, tweetId, authorId, ttlSeconds));
+        }
+        PreparedStatement prepared = prepared(INSERT_CQL);
+        return executeAll(followerIds, tweetId, "INSERT",
+                followerId -> prepared.bind(followerId, createdAtInstant, tweetId, authorId, tweetText, ttlSeconds));
+    }
+
+    /**
+     * 팔로워들의 타임라인에서 트윗 한 건 비동기 삭제 (트윗 삭제 후 정리용, 전체 기본 키 기준)
+     *
+     * @return 삭제 요청이 성공한 팔로워 수
+     */
+    public CompletableFuture<Integer> deleteAll(Collection<UUID> followerIds, UUID tweetId, LocalDateTime createdAt) {
+        PreparedStatement prepared = prepared(DELETE_CQL);
+        Instant createdAtInstant = createdAt.atZone(ZoneId.systemDefault()).toInstant();
+        return executeAll(followerIds, tweetId, "DELETE",
+                followerId -> prepared.bind(followerId, createdAtInstant, tweetId));
+    }
+
+    private CompletableFuture<Integer> executeAll(Collection<UUID> followerIds, UUID tweetId, String operation,
+                                                  Function<UUID, BoundStatement> binder) {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        if (followerIds.isEmpty()) {
+            result.complete(0);
+            return result;
+        }
+
+        Semaphore permits = permits();
+        AtomicInteger remaining = new AtomicInteger(followerIds.size());
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        int issued = 0;
+        for (UUID followerId : followerIds) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.set(e);
+                // 아직 발행하지 않은 요청은 실패로 간주하고 카운트만 정리
+                if (remaining.addAndGet(-(followerIds.size() - issued)) == 0) {
+                    complete(result, succeeded.get(), e, followerIds.size());
+                }
+                break;
+            }
+            issued++;
+
+            BoundStatement statement = binder.apply(followerId)
+                    .setConsistencyLevel(timelineWriteOptions.getConsistencyLevel())
+                    .setIdempotent(true);
+
+            cqlSession.executeAsync(statement).whenComplete((rs, error) -> {
+                permits.release();
+                if (error != null) {
+                    failure.set(error);
+                    log.debug("타임라인 {} 실패 - followerId: {}, tweetId: {}, error: {}",
+                            operation, followerId, tweetId, error.getMessage());
+                } else {
+                    succeeded.incrementAndGet();
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    complete(result, succeeded.get(), failure.get(), followerIds.size());
+                }
+            });
+        }
+        return result;
+    }
+
+    private static void complete(CompletableFuture<Integer> result, int succeeded, Throwable failure, int total) {
+        if (failure == null) {
+            result.complete(succeeded);
+        } else {
+            result.completeExceptionally(new IllegalStateException(
+                    "타임라인 Fan-out 일부 실패 - 성공: " + succeeded + "/" + total, failure));
+        }
+    }
+
+    /**
+     * USING TTL 바인드 값 (0이면 만료 없음)
+     */
+    static int ttlSeconds(InsertOptions options) {
+        Duration ttl = options.getTtl();
+        return ttl == null ? 0 : (int) ttl.getSeconds();
+    }
+
+    private PreparedStatement prepared(String cql) {
+        return preparedStatements.computeIfAbsent(cql, cqlSession::prepare);
+    }
+
+    private Semaphore permits() {
+        Semaphore semaphore = inFlight;
+        if (semaphore == null) {
+            synchronized (this) {
+                if (inFlight == null) {
+                    inFlight = new Semaphore(maxInFlight);
+                }
+                semaphore = inFlight;
+            }
+        }
+        return semaphore;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.demo.domain.timeline.writer;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.example.demo.domain.tweet.entity.TweetByUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.cassandra.core.InsertOptions;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팔로우/언팔로우 후 한 팔로워의 타임라인을 채우거나 비우는 Writer
+ *
+ * - 대상 행이 모두 팔로워 파티션 하나에 속하므로 단일 파티션 UNLOGGED 배치로 묶어 청크당 한 번의 round trip
+ * - INSERT/DELETE 모두 전체 기본 키 기준이라 재실행해도 결과가 같음 (idempotent)
+ */
+@Component
+@RequiredArgsConstructor
+public class TimelineSyncWriter {
+
+    private static final String INSERT_CQL =
+            "INSERT INTO user_timeline (follower_id, created_at, tweet_id, author_id, tweet_text) VALUES (?, ?, ?, ?, ?) USING TTL ?";
+    private static final String INSERT_REFERENCE_CQL =
+            "INSERT INTO user_timeline (follower_id, created_at, tweet_id, author_id) VALUES (?, ?, ?, ?) USING TTL ?";
+    private static final String DELETE_CQL =
+            "DELETE FROM user_timeline WHERE follower_id = ? AND created_at = ? AND tweet_id = ?";
+
+    private final CqlSession cqlSession;
+    // 타임라인 쓰기 공통 옵션 (ConsistencyLevel, 행 TTL)
+    private final InsertOptions timelineWriteOptions;
+
+    // 단일 파티션 배치 하나에 담을 최대 행 수
+    @Value("${timeline.sync.batch-size:50}")
+    private int batchSize;
+
+    // 참조형 타임라인 행 저장 여부 (TimelineFanoutWriter 와 동일 설정)
+    @Value("${timeline.reference-mode:false}")
+    private boolean referenceMode;
+
+    private final Map<String, PreparedStatement> preparedStatements = new ConcurrentHashMap<>();
+
+    /**
+     * 작성자 트윗들을 팔로워 타임라인에 저장
+     *
+     * @return 저장한 행 수
+     */
+    public int backfill(UUID followerId, List<TweetByUser> tweets) {
+        PreparedStatement insert = prepared(referenceMode ? INSERT_REFERENCE_CQL : INSERT_CQL);
+        int ttlSeconds = TimelineFanoutWriter.ttlSeconds(timelineWriteOptions);
+        for (int from = 0; from < tweets.size(); from += batchSize) {
+            BatchStatementBuilder batch = BatchStatement.builder(DefaultBatchType.UNLOGGED);
+            for (TweetByUser tweet : tweets.subList(from, Math.min(from + batchSize, tweets.size()))) {
+                Instant createdAt = toInstant(tweet.getKey().getCreatedAt());
+                batch.addStatement(referenceMode
+                        ? insert.bind(followerId, createdAt, tweet.getKey().getTweetId(),
+                                tweet.getKey().getUserId(), ttlSeconds)
+                        : insert.bind(followerId, createdAt, tweet.getKey().getTweetId(),
+                                tweet.getKey().getUserId(), tweet.getTweetText(), ttlSeconds));
+            }
+            execute(batch);
+        }
+        return tweets.size();
+    }
+
+    /**
+     * 작성자 트윗들을 팔로워 타임라인에서 삭제
+     *
+     * @return 삭제 요청한 행 수
+     */
+    public int purge(UUID followerId, List<TweetByUser> tweets) {
+        PreparedStatement delete = prepared(DELETE_CQL);
+        for (int from = 0; from < tweets.size(); from += batchSize) {
+            BatchStatementBuilder batch = BatchStatement.builder(DefaultBatchType.UNLOGGED);
+            for (TweetByUser tweet : tweets.subList(from, Math.min(from + batchSize, tweets.size()))) {
+                batch.addStatement(delete.bind(followerId, toInstant(tweet.getKey().getCreatedAt()),
+                        tweet.getKey().getTweetId()));
+            }
+            execute(batch);
+        }
+        return tweets.size();
+    }
+
+    private void execute(BatchStatementBuilder batch) {
+        cqlSession.execute(batch
+                .setConsistencyLevel(timelineWriteOptions.getConsistencyLevel())
+                .setIdempotence(true)
+                .build());
+    }
+
+    // Spring Data Cassandra의 LocalDateTime → timestamp 변환과 동일하게 시스템 타임존 기준으로 변환
+    private static Instant toInstant(LocalDateTime createdAt) {
+        return createdAt.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private PreparedStatement prepared(String cql) {
+        return preparedStatements.computeIfAbsent(cql, cqlSession::prepare);
+    }
+}
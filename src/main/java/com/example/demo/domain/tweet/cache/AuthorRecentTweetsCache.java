@@ -0,0 +1,158 @@
+package com.example.demo.domain.tweet.cache;
+
+import com.example.demo.domain.tweet.entity.TweetByUser;
+import com.example.demo.domain.tweet.repository.TweetByUserRepository;
+import com.example.demo.util.cache.RefreshAheadCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * 작성자별 최신 트윗 head 캐시 (tweets_by_user 최신 headSize개)
+ *
+ * - Fan-out on Read 병합의 작성자별 첫 페이지와 사용자 트윗 목록 첫 페이지를 파티션 조회 없이 제공
+ *   → 타임라인 조회 비용이 O(조회자 × 팔로잉)번의 파티션 읽기에서 O(작성자)번으로 감소
+ * - 같은 작성자의 동시 miss는 키 단위로 묶어 한 번만 조회
+ * - 만료 직전/직후에는 기존 head를 반환하며 백그라운드 갱신 (RefreshAheadCache: 조기 갱신, stale-while-revalidate)
+ * - 조회가 많은 작성자는 주기적으로 미리 갱신하여 만료에 도달하지 않음
+ * - 트윗 생성 시 write-through(prepend), 삭제 시 제거
+ * - 다른 인스턴스에는 Redis Pub/Sub로 전파: 새 트윗은 백그라운드 갱신, 삭제는 제거 (자신이 발행한 메시지는 무시)
+ * - headSize보다 큰 요청은 캐시를 거치지 않고 Cassandra 직접 조회
+ */
+@Slf4j
+@Component
+public class AuthorRecentTweetsCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "tweet:author-head:invalidate";
+    private static final String ACTION_REFRESH = "R";
+    private static final String ACTION_EVICT = "E";
+
+    private final TweetByUserRepository tweetByUserRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RefreshAheadCache<UUID, List<TweetByUser>> heads;
+    private final int headSize;
+
+    // hot 작성자 기준 (갱신 주기 동안의 조회 수)
+    @Value("${tweet.author-cache.hot-min-hits:50}")
+    private long hotMinHits;
+
+    // 자신이 발행한 무효화 메시지를 구분하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public AuthorRecentTweetsCache(TweetByUserRepository tweetByUserRepository,
+                                   StringRedisTemplate redisTemplate,
+                                   MeterRegistry meterRegistry,
+                                   RedisMessageListenerContainer listenerContainer,
+                                   @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                                   @Value("${tweet.author-cache.head-size:50}") int headSize,
+                                   @Value("${tweet.author-cache.max-authors:100000}") long maxAuthors,
+                                   @Value("${tweet.author-cache.fresh-seconds:30}") long freshSeconds,
+                                   @Value("${tweet.author-cache.stale-seconds:60}") long staleSeconds,
+                                   @Value("${tweet.author-cache.early-refresh-beta:1.0}") double earlyRefreshBeta) {
+        this.tweetByUserRepository = tweetByUserRepository;
+        this.redisTemplate = redisTemplate;
+        this.headSize = headSize;
+        // 전파 메시지 유실 시에도 freshSeconds 이후에는 Cassandra에서 다시 적재
+        this.heads = new RefreshAheadCache<>("authorRecentTweets",
+                authorId -> List.copyOf(tweetByUserRepository.findLatestTweets(authorId, headSize)),
+                maxAuthors, Duration.ofSeconds(freshSeconds), Duration.ofSeconds(staleSeconds),
+                earlyRefreshBeta, cacheRefreshExecutor, meterRegistry);
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 작성자의 최신 트윗 조회
+     *
+     * @return 최신순 트윗 목록 (최대 limit개, 읽기 전용)
+     */
+    public List<TweetByUser> getLatest(UUID authorId, int limit) {
+        if (limit > headSize) {
+            return tweetByUserRepository.findLatestTweets(authorId, limit);
+        }
+        List<TweetByUser> head = heads.get(authorId);
+        return head.size() <= limit ? head : head.subList(0, limit);
+    }
+
+    /**
+     * 새 트윗 반영 (tweets_by_user 저장 직후 호출)
+     * - 캐시된 작성자만 앞에 추가 (캐시에 없으면 다음 조회 시 새 트윗을 포함해 적재)
+     * - 진행 중인 적재와 겹쳐 이미 포함된 트윗은 다시 추가하지 않음
+     */
+    public void prepend(TweetByUser tweet) {
+        UUID authorId = tweet.getKey().getUserId();
+        heads.update(authorId, head -> {
+            if (head.stream().anyMatch(cached -> cached.getKey().getTweetId().equals(tweet.getKey().getTweetId()))) {
+                return head;
+            }
+            List<TweetByUser> updated = new ArrayList<>(Math.min(head.size() + 1, headSize));
+            updated.add(tweet);
+            updated.addAll(head.subList(0, Math.min(head.size(), headSize - 1)));
+            return List.copyOf(updated);
+        });
+        publish(ACTION_REFRESH, authorId);
+    }
+
+    /**
+     * 작성자 head 제거 (트윗 삭제 시 호출, 모든 인스턴스에 전파)
+     */
+    public void evict(UUID authorId) {
+        heads.invalidate(authorId);
+        publish(ACTION_EVICT, authorId);
+    }
+
+    /**
+     * 조회가 많은 작성자의 head를 만료 전에 백그라운드 갱신
+     */
+    @Scheduled(fixedDelayString = "${tweet.author-cache.hot-refresh-ms:5000}")
+    public void refreshHotAuthors() {
+        int refreshed = heads.refreshHot(hotMinHits);
+        if (refreshed > 0) {
+            log.debug("hot 작성자 head 갱신 요청 - 작성자 수: {}", refreshed);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 변경 메시지 처리 ("instanceId:action:authorId")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":");
+        if (parts.length != 3 || parts[0].equals(instanceId)) {
+            return;
+        }
+        try {
+            UUID authorId = UUID.fromString(parts[2]);
+            if (ACTION_REFRESH.equals(parts[1])) {
+                heads.refresh(authorId);
+            } else {
+                heads.invalidate(authorId);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 작성자 캐시 무효화 메시지 - body: {}", body);
+        }
+    }
+
+    private void publish(String action, UUID authorId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + ":" + action + ":" + authorId);
+        } catch (Exception e) {
+            log.warn("작성자 캐시 무효화 전파 실패 - authorId: {}, error: {}", authorId, e.getMessage());
+        }
+    }
+}
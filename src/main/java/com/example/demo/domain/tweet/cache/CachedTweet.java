@@ -0,0 +1,23 @@
+package com.example.demo.domain.tweet.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * Redis(L2)에 저장되는 트윗 본문
+ * - 트윗당 한 번만 저장되고 모든 인스턴스의 L1 miss가 공유
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedTweet {
+
+    private UUID tweetId;
+    private UUID userId;
+    private String tweetText;
+}
@@ -0,0 +1,258 @@
+package com.example.demo.domain.tweet.cache;
+
+import com.example.demo.domain.tweet.entity.Tweet;
+import com.example.demo.domain.tweet.repository.TweetRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 트윗 본문 2단계 read-through 캐시 (타임라인 hydration, 단건 조회용)
+ *
+ * 조회 순서 (getAll 한 번에 처리):
+ * 1. L1: 인스턴스 로컬 Caffeine 캐시 (바이러스성 트윗은 첫 조회 이후 여기서 끝남)
+ * 2. L2: Redis tweet:body:{tweetId} → L1 miss만 MGET 한 번으로 조회
+ * 3. Cassandra: L2까지 miss인 트윗만 tweet_id IN (...) 청크 조회 후 L2(파이프라인), L1 적재
+ *
+ * 무효화 (트윗 삭제 시):
+ * - evict() 시 L1 제거, L2는 삭제 표시(빈 값)로 덮어쓴 뒤 Redis Pub/Sub로 tweetId를 발행 → 모든 인스턴스가 자신의 L1에서 제거
+ * - 삭제된 트윗은 결과에 포함되지 않으므로 호출 측에서 해당 행을 제외
+ * - Redis 장애는 L2 miss로 처리 (L1 → Cassandra)
+ *
+ * 삭제와 동시에 진행 중인 적재가 삭제 전 본문을 되살리지 않도록:
+ * - L2 적재는 SET NX → 삭제 표시가 먼저 있으면 쓰지 않고, 적재가 먼저면 삭제 표시가 덮어씀
+ * - L1 적재는 조회 시작 이후 무효화된 트윗이면 생략 (인스턴스별 무효화 시각 기록)
+ */
+@Slf4j
+@Component
+public class TweetBodyCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "tweet:cache:invalidate";
+    private static final String BODY_KEY_PREFIX = "tweet:body:";
+    // 삭제된 트윗의 L2 값 (JSON 본문은 비어 있을 수 없음)
+    private static final String DELETED_BODY = "";
+
+    // 항목당 고정 비용 (키/객체 오버헤드 근사치, 바이트)
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final TweetRepository tweetRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<UUID, Tweet> localCache;
+    // tweetId → 마지막 무효화 시각 (System.nanoTime, 진행 중인 적재가 끝날 때까지만 보관)
+    private final Cache<UUID, Long> invalidatedAt = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    // tweet_id IN (...) 한 번에 담을 최대 트윗 수 (coordinator 부하 제한)
+    @Value("${tweet.cache.multi-get-chunk-size:100}")
+    private int multiGetChunkSize;
+
+    // L2 본문 만료 시간
+    @Value("${tweet.cache.redis-ttl-seconds:86400}")
+    private long redisTtlSeconds;
+
+    public TweetBodyCache(TweetRepository tweetRepository,
+                          StringRedisTemplate redisTemplate,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          RedisMessageListenerContainer listenerContainer,
+                          @Value("${tweet.cache.local-max-weight-bytes:67108864}") long localMaxWeightBytes,
+                          @Value("${tweet.cache.local-ttl-seconds:300}") long localTtlSeconds) {
+        this.tweetRepository = tweetRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        // maximumSize와 maximumWeight는 함께 지정할 수 없으므로 항목당 고정 비용을 더한 weigher로 개수와 크기를 함께 제한
+        this.localCache = Caffeine.newBuilder()
+                .maximumWeight(localMaxWeightBytes)
+                .weigher((UUID tweetId, Tweet tweet) -> weigh(tweet))
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "tweetBodyLocal");
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 트윗 단건 조회
+     */
+    public Optional<Tweet> get(UUID tweetId) {
+        return Optional.ofNullable(getAll(List.of(tweetId)).get(tweetId));
+    }
+
+    /**
+     * 여러 트윗 일괄 조회 (L1 → L2 → Cassandra 한 번의 흐름)
+     *
+     * @return 트윗 ID → 트윗 (존재하지 않는 트윗은 제외)
+     */
+    public Map<UUID, Tweet> getAll(Collection<UUID> tweetIds) {
+        long startNanos = System.nanoTime();
+        Map<UUID, Tweet> found = new HashMap<>(localCache.getAllPresent(tweetIds));
+        Set<UUID> misses = new LinkedHashSet<>();
+        for (UUID tweetId : tweetIds) {
+            if (!found.containsKey(tweetId)) {
+                misses.add(tweetId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        List<UUID> remaining = loadFromRedis(new ArrayList<>(misses), found, startNanos);
+        if (!remaining.isEmpty()) {
+            loadFromCassandra(remaining, found, startNanos);
+        }
+        return found;
+    }
+
+    /**
+     * 삭제된 트윗 캐시 제거 (모든 인스턴스의 L1에 전파)
+     * - L2는 키를 지우지 않고 삭제 표시로 덮어써 동시에 진행 중인 적재(SET NX)가 본문을 되살리지 못하게 함
+     */
+    public void evict(UUID tweetId) {
+        invalidateLocal(tweetId);
+        try {
+            redisTemplate.opsForValue().set(bodyKey(tweetId), DELETED_BODY, Duration.ofSeconds(redisTtlSeconds));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, tweetId.toString());
+        } catch (Exception e) {
+            log.warn("트윗 캐시 무효화 전파 실패 - tweetId: {}, error: {}", tweetId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스(자신 포함)가 발행한 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            invalidateLocal(UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 트윗 캐시 무효화 메시지 - body: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private void invalidateLocal(UUID tweetId) {
+        invalidatedAt.put(tweetId, System.nanoTime());
+        localCache.invalidate(tweetId);
+    }
+
+    /**
+     * 조회 시작(startNanos) 이후 무효화되지 않은 트윗만 L1에 적재
+     */
+    private void putLocal(Tweet tweet, long startNanos) {
+        Long invalidated = invalidatedAt.getIfPresent(tweet.getTweetId());
+        if (invalidated == null || invalidated - startNanos < 0) {
+            localCache.put(tweet.getTweetId(), tweet);
+        }
+    }
+
+    /**
+     * L2 조회 후 찾은 트윗은 L1에도 적재 (삭제 표시는 결과와 Cassandra 조회 대상에서 모두 제외)
+     *
+     * @return L2에도 없는 트윗 ID
+     */
+    private List<UUID> loadFromRedis(List<UUID> tweetIds, Map<UUID, Tweet> found, long startNanos) {
+        try {
+            List<String> bodies = redisTemplate.opsForValue().multiGet(
+                    tweetIds.stream().map(TweetBodyCache::bodyKey).toList());
+            if (bodies == null) {
+                return tweetIds;
+            }
+
+            List<UUID> remaining = new ArrayList<>();
+            for (int i = 0; i < tweetIds.size(); i++) {
+                String body = bodies.get(i);
+                if (body == null) {
+                    remaining.add(tweetIds.get(i));
+                    continue;
+                }
+                if (body.equals(DELETED_BODY)) {
+                    continue;
+                }
+                CachedTweet cached = objectMapper.readValue(body, CachedTweet.class);
+                Tweet tweet = Tweet.builder()
+                        .tweetId(cached.getTweetId())
+                        .userId(cached.getUserId())
+                        .tweetText(cached.getTweetText())
+                        .build();
+                putLocal(tweet, startNanos);
+                found.put(tweet.getTweetId(), tweet);
+            }
+            return remaining;
+        } catch (Exception e) {
+            log.warn("트윗 L2 캐시 조회 실패, Cassandra로 대체 - 트윗 수: {}, error: {}", tweetIds.size(), e.getMessage());
+            return tweetIds;
+        }
+    }
+
+    /**
+     * Cassandra 청크 조회 후 L1, L2 적재 (L2는 SET NX로 삭제 표시를 덮어쓰지 않음)
+     */
+    private void loadFromCassandra(List<UUID> tweetIds, Map<UUID, Tweet> found, long startNanos) {
+        List<Tweet> loaded = new ArrayList<>(tweetIds.size());
+        for (int from = 0; from < tweetIds.size(); from += multiGetChunkSize) {
+            List<UUID> chunk = new ArrayList<>(tweetIds.subList(from, Math.min(from + multiGetChunkSize, tweetIds.size())));
+            tweetRepository.findAllById(chunk).forEach(loaded::add);
+        }
+        if (loaded.isEmpty()) {
+            return;
+        }
+
+        loaded.forEach(tweet -> {
+            putLocal(tweet, startNanos);
+            found.put(tweet.getTweetId(), tweet);
+        });
+
+        try {
+            List<byte[][]> entries = new ArrayList<>(loaded.size());
+            for (Tweet tweet : loaded) {
+                entries.add(new byte[][]{
+                        bodyKey(tweet.getTweetId()).getBytes(StandardCharsets.UTF_8),
+                        objectMapper.writeValueAsBytes(new CachedTweet(tweet.getTweetId(), tweet.getUserId(), tweet.getTweetText()))
+                });
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (byte[][] entry : entries) {
+                    connection.stringCommands().set(entry[0], entry[1], Expiration.seconds(redisTtlSeconds), SetOption.ifAbsent());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("트윗 L2 캐시 적재 실패 - 트윗 수: {}, error: {}", loaded.size(), e.getMessage());
+        }
+    }
+
+    private static int weigh(Tweet tweet) {
+        String text = tweet.getTweetText();
+        return ENTRY_OVERHEAD_BYTES + (text == null ? 0 : text.length() * 2);
+    }
+
+    private static String bodyKey(UUID tweetId) {
+        return BODY_KEY_PREFIX + tweetId;
+    }
+}
@@ -6,14 +6,17 @@ import com.example.demo.domain.tweet.service.TweetServiceAdvanced;
 import com.example.demo.domain.tweet.request.CreateTweetRequest;
 import com.example.demo.domain.tweet.response.TweetResponse;
 import com.example.demo.domain.tweet.response.TweetListResponse;
+import com.example.demo.domain.tweet.response.FanoutProgressResponse;
+import com.example.demo.domain.tweet.fanout.FanoutProgressTracker;
+import com.example.demo.util.cursor.TimelineCursor;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -23,6 +26,8 @@ import java.util.UUID;
  * - POST /tweets: 새 트윗 생성 (기존 버전)
  * - POST /tweets/optimized: 새 트윗 생성 (최적화 버전) 🚀
  * - GET /tweets/{userId}: 사용자 트윗 조회
+ * - GET /tweets/{tweetId}/fanout: 트윗별 Fan-out 진행 상황 조회
+ * - DELETE /tweets/{tweetId}: 트윗 삭제
  */
 @Slf4j
 @RestController
@@ -31,11 +36,14 @@ public class TweetController {
 
     private final TweetService tweetService;
     private final TweetServiceAdvanced tweetServiceAdvanced;
+    private final FanoutProgressTracker fanoutProgressTracker;
 
     public TweetController(TweetService tweetService, 
-                          @Qualifier("tweetServiceAdvanced") TweetServiceAdvanced tweetServiceAdvanced) {
+                          @Qualifier("tweetServiceAdvanced") TweetServiceAdvanced tweetServiceAdvanced,
+                          FanoutProgressTracker fanoutProgressTracker) {
         this.tweetService = tweetService;
         this.tweetServiceAdvanced = tweetServiceAdvanced;
+        this.fanoutProgressTracker = fanoutProgressTracker;
     }
 
     /**
@@ -44,8 +52,11 @@ public class TweetController {
      * POST /tweets
      * Header: Tweet-User-Id (현재 로그인한 사용자 ID)
      * Body: { "content": "트윗 내용" }
+     *
+     * 팔로워 타임라인 전달은 비동기로 진행되므로 진행 상황은 GET /tweets/{tweetId}/fanout 으로 확인
      */
     @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<TweetResponse> createTweet(
             @RequestHeader("Tweet-User-Id") UUID userId,
             @Valid @RequestBody CreateTweetRequest createTweetRequest) {
@@ -66,12 +77,13 @@ public class TweetController {
      * Body: { "content": "트윗 내용" }
      * 
      * 최적화 특징:
-     * - 배치 처리 (1000개씩 분할)
-     * - 비동기 병렬 처리
+     * - 팔로워별 단건 비동기 INSERT (prepared statement)
+     * - Fan-out 비동기 파이프라인 (RabbitMQ)
      * - ConsistencyLevel ONE
      * - 예상 성능: 80-90% 개선
      */
     @PostMapping("/optimized")
+    @ResponseStatus(HttpStatus.CREATED)
     public ApiResponse<TweetResponse> createTweetOptimized(
             @RequestHeader("Tweet-User-Id") UUID userId,
             @Valid @RequestBody CreateTweetRequest createTweetRequest) {
@@ -87,25 +99,57 @@ public class TweetController {
     /**
      * 사용자 트윗 목록 조회
      * 
-     * GET /tweets/{userId}?last={timestamp}&size={size}
+     * GET /tweets/{userId}?cursor={nextCursor}&size={size}
      * 
      * @param userId 조회할 사용자 ID
-     * @param lastTimestamp 마지막 트윗 시간 (커서 페이지네이션)
+     * @param cursor 이전 응답의 nextCursor (불투명 커서, 없으면 최신부터)
      * @param size 조회할 트윗 수 (기본값: 20, 최대: 50)
      * @return 트윗 목록
      */
     @GetMapping("/{userId}")
     public ApiResponse<TweetListResponse> getUserTweets(
             @PathVariable UUID userId,
-            @RequestParam(value = "last", required = false) 
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastTimestamp,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "size", defaultValue = "20") int size) {
         
-        TweetListResponse response = tweetService.getUserTweets(userId, lastTimestamp, size);
+        TweetListResponse response = tweetService.getUserTweets(userId, TimelineCursor.decode(cursor), size);
         
         log.info("사용자 트윗 조회 API 완료 - userId: {}, 조회된 트윗 수: {}", 
                 userId, response.getTweets().size());
         
         return ApiResponse.success("사용자 트윗 조회가 완료되었습니다", response);
     }
+
+    /**
+     * 트윗별 Fan-out 진행 상황 조회
+     *
+     * GET /tweets/{tweetId}/fanout
+     *
+     * @param tweetId 조회할 트윗 ID
+     * @return 상태(QUEUED, RUNNING, COMPLETED, CELEBRITY)와 전달/실패 팔로워 수
+     */
+    @GetMapping("/{tweetId}/fanout")
+    public ResponseEntity<ApiResponse<FanoutProgressResponse>> getFanoutProgress(@PathVariable UUID tweetId) {
+        return fanoutProgressTracker.get(tweetId)
+                .map(progress -> ResponseEntity.ok(ApiResponse.success("Fan-out 진행 상황 조회가 완료되었습니다", progress)))
+                .orElseGet(() -> new ResponseEntity<>(ApiResponse.fail("Fan-out 진행 정보가 없습니다: " + tweetId), HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * 트윗 삭제
+     *
+     * DELETE /tweets/{tweetId}
+     * Header: Tweet-User-Id (현재 로그인한 사용자 ID, 작성자만 삭제 가능)
+     *
+     * 원본은 즉시 삭제되고 팔로워 타임라인 정리는 비동기로 진행 (정리 전까지 조회 결과에서 숨김)
+     */
+    @DeleteMapping("/{tweetId}")
+    public ResponseEntity<ApiResponse<Void>> deleteTweet(
+            @RequestHeader("Tweet-User-Id") UUID userId,
+            @PathVariable UUID tweetId) {
+        if (!tweetService.deleteTweet(userId, tweetId)) {
+            return new ResponseEntity<>(ApiResponse.fail("삭제할 트윗이 없습니다: " + tweetId), HttpStatus.NOT_FOUND);
+        }
+        return ResponseEntity.ok(ApiResponse.success("트윗이 삭제되었습니다"));
+    }
 }
@@ -3,7 +3,6 @@ package com.example.demo.domain.tweet.controller;
 import com.example.demo.common.ApiResponse;
 import com.example.demo.domain.tweet.response.TweetListResponse;
 import com.example.demo.domain.tweet.service.TweetFanoutOnReadService;
-import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +23,7 @@ public class TweetFanOutReadController {
   @GetMapping("/{userId}")
   public ApiResponse<TweetListResponse> getTimeline(
       @PathVariable UUID userId,
-      @RequestParam(required = false) LocalDateTime cursor,
+      @RequestParam(required = false) String cursor,
       @RequestParam(defaultValue = "20") int size
   ) {
     TweetListResponse res = service.getTimeline(userId, cursor, size);
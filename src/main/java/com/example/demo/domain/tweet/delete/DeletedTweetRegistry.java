@@ -0,0 +1,115 @@
+package com.example.demo.domain.tweet.delete;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근 삭제된 트윗 ID 목록 (팔로워 타임라인 정리가 끝나기 전까지 조회 결과에서 숨김)
+ *
+ * 구조:
+ * - Redis ZSET tweet:deleted (member: tweetId, score: 만료 시각 epoch millis) → 인스턴스 간 공유
+ * - 인스턴스별 메모리 사본 → 조회 경로에서는 Redis 호출 없이 메모리에서만 확인
+ *
+ * 정책:
+ * - 삭제한 인스턴스는 즉시 메모리에 반영, 다른 인스턴스는 refresh 주기 안에 반영
+ * - 등록 시에는 만료 없음, 정리 컨슈머가 완료를 알리면 유예 시간 후 만료
+ *   (정리가 최종 실패하면 만료되지 않고 남아 조회에서 계속 숨김)
+ * - Redis 반영에 실패한 항목은 메모리에 유지하고 refresh 때 다시 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeletedTweetRegistry {
+
+    private static final String DELETED_KEY = "tweet:deleted";
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 정리 완료 전 항목의 만료 시각 (만료 없음)
+    private static final long PENDING = Long.MAX_VALUE;
+
+    // 정리 완료 후에도 조회에서 숨기는 시간 (완료 직전에 읽어 간 캐시 항목이 만료될 때까지)
+    @Value("${tweet.delete.tombstone-grace-seconds:600}")
+    private long tombstoneGraceSeconds;
+
+    // tweetId → 만료 시각 (epoch millis)
+    private volatile Map<UUID, Long> deletedTweets = new ConcurrentHashMap<>();
+
+    // Redis 반영에 실패한 항목 (refresh 때 다시 반영)
+    private final Map<UUID, Long> unsyncedTweets = new ConcurrentHashMap<>();
+
+    /**
+     * 삭제 트윗 등록 (정리 완료 전까지 만료되지 않음)
+     */
+    public void markDeleted(UUID tweetId) {
+        save(tweetId, PENDING);
+    }
+
+    /**
+     * 팔로워 타임라인 정리 완료 (유예 시간 후 만료)
+     */
+    public void markCleaned(UUID tweetId) {
+        save(tweetId, System.currentTimeMillis() + tombstoneGraceSeconds * 1000);
+    }
+
+    private void save(UUID tweetId, long expiresAt) {
+        deletedTweets.put(tweetId, expiresAt);
+        try {
+            redisTemplate.opsForZSet().add(DELETED_KEY, tweetId.toString(), expiresAt);
+            unsyncedTweets.remove(tweetId);
+        } catch (Exception e) {
+            unsyncedTweets.put(tweetId, expiresAt);
+            log.warn("삭제 트윗 반영 실패, 현재 인스턴스에만 반영 - tweetId: {}, error: {}", tweetId, e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 삭제된 트윗인지 확인 (메모리 조회만 수행)
+     */
+    public boolean isDeleted(UUID tweetId) {
+        Long expiresAt = deletedTweets.get(tweetId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Redis 목록으로 메모리 사본 교체 (만료 항목은 Redis에서도 정리)
+     */
+    @Scheduled(fixedDelayString = "${tweet.delete.tombstone-refresh-ms:1000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        try {
+            unsyncedTweets.forEach((tweetId, expiresAt) -> {
+                redisTemplate.opsForZSet().add(DELETED_KEY, tweetId.toString(), expiresAt);
+                unsyncedTweets.remove(tweetId, expiresAt);
+            });
+            redisTemplate.opsForZSet().removeRangeByScore(DELETED_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<TypedTuple<String>> tuples =
+                    redisTemplate.opsForZSet().rangeByScoreWithScores(DELETED_KEY, now, Double.POSITIVE_INFINITY);
+
+            Map<UUID, Long> refreshed = new ConcurrentHashMap<>();
+            if (tuples != null) {
+                tuples.forEach(tuple -> refreshed.put(
+                        UUID.fromString(tuple.getValue()), tuple.getScore().longValue()));
+            }
+            // Redis 반영에 실패한 현재 인스턴스의 항목은 유지
+            unsyncedTweets.forEach((tweetId, expiresAt) -> {
+                if (expiresAt > now) {
+                    refreshed.put(tweetId, expiresAt);
+                }
+            });
+            deletedTweets = refreshed;
+        } catch (Exception e) {
+            log.warn("삭제 트윗 목록 갱신 실패, 기존 목록 유지 - error: {}", e.getMessage());
+        }
+    }
+}
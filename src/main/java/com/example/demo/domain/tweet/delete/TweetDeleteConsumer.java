@@ -0,0 +1,98 @@
+package com.example.demo.domain.tweet.delete;
+
+import com.example.demo.domain.celebrity.service.CelebrityService;
+import com.example.demo.domain.follow.service.FollowerPageReader;
+import com.example.demo.domain.follow.service.FollowerPageReader.FollowerPage;
+import com.example.demo.domain.timeline.cache.TimelineCache;
+import com.example.demo.domain.timeline.writer.TimelineFanoutWriter;
+import com.example.demo.domain.tweet.dto.TweetDeleteMessage;
+import com.example.demo.rabbitmq.RabbitMqService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 트윗 삭제 정리 컨슈머 (Fan-out 팔로워 페이징 재사용)
+ *
+ * 1. 첫 메시지: celebrity_tweets 행 삭제 (셀럽이 아니었으면 행이 없어도 안전)
+ * 2. 팔로워 한 페이지 조회 → user_timeline 행 삭제 + Hot 캐시 ZSET에서 제거
+ * 3. 다음 페이지가 있으면 다음 메시지 발행
+ *
+ * - 셀럽 승격 전 Push된 트윗도 있을 수 있으므로 셀럽 여부와 무관하게 전체 팔로워를 정리
+ * - 정리가 끝나기 전까지는 DeletedTweetRegistry 가 조회 결과에서 트윗을 숨김
+ *   (마지막 페이지 완료 시 만료 시작, 최대 재시도 초과 시 만료 없이 유지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TweetDeleteConsumer {
+
+    private static final int MAX_RETRY_COUNT = 3;
+
+    private final FollowerPageReader followerPageReader;
+    private final CelebrityService celebrityService;
+    private final TimelineFanoutWriter timelineFanoutWriter;
+    private final TimelineCache timelineCache;
+    private final RabbitMqService rabbitMqService;
+    private final DeletedTweetRegistry deletedTweetRegistry;
+
+    @Value("${rabbitmq.tweet-delete.routing-key}")
+    private String routingKey;
+
+    // 메시지 하나가 정리할 팔로워 수
+    @Value("${fanout.page-size:1000}")
+    private int pageSize;
+
+    /**
+     * 팔로워 한 페이지 정리 후 다음 페이지 발행
+     * (자기 페이지 삭제가 끝난 뒤에 다음 페이지를 발행하므로 재시도 시 다음 페이지가 중복 발행되지 않음)
+     */
+    @RabbitListener(queues = "${rabbitmq.tweet-delete.queue}", concurrency = "${rabbitmq.tweet-delete.concurrency}")
+    public void handle(TweetDeleteMessage message) {
+        UUID authorId = message.getAuthorId();
+        UUID tweetId = message.getTweetId();
+        try {
+            if (message.getPagingState() == null) {
+                celebrityService.deleteCelebrityTweet(authorId, tweetId, message.getCreatedAt());
+            }
+
+            FollowerPage page = followerPageReader.readPage(authorId, message.getPagingState(), pageSize);
+            List<UUID> followerIds = page.followerIds();
+            timelineFanoutWriter.deleteAll(followerIds, tweetId, message.getCreatedAt()).join();
+            timelineCache.remove(followerIds, tweetId);
+            long processed = message.getProcessedFollowers() + followerIds.size();
+
+            if (page.isLast()) {
+                log.info("트윗 삭제 정리 완료 - authorId: {}, tweetId: {}, 팔로워 수: {}", authorId, tweetId, processed);
+                deletedTweetRegistry.markCleaned(tweetId);
+                return;
+            }
+            rabbitMqService.sendMessage(routingKey, new TweetDeleteMessage(
+                    authorId, tweetId, message.getCreatedAt(), page.nextPagingState(), processed, 0));
+        } catch (Exception e) {
+            handleFailure(message, e);
+        }
+    }
+
+    /**
+     * 페이지 실패 처리 (전체 기본 키 기준 DELETE는 멱등이므로 같은 페이지를 다시 발행)
+     */
+    private void handleFailure(TweetDeleteMessage message, Exception e) {
+        int nextRetryCount = message.getRetryCount() + 1;
+        if (nextRetryCount <= MAX_RETRY_COUNT) {
+            log.warn("트윗 삭제 정리 실패, 재전송 - tweetId: {}, retryCount: {}, error: {}",
+                    message.getTweetId(), nextRetryCount, e.getMessage());
+            message.setRetryCount(nextRetryCount);
+            rabbitMqService.sendMessage(routingKey, message);
+        } else {
+            // tombstone 은 만료 없이 유지되어 남은 팔로워 타임라인에서도 계속 숨김
+            log.error("트윗 삭제 정리 최대 재시도 초과, tombstone 유지 - tweetId: {}, 정리된 팔로워 수: {}, maxRetry: {}",
+                    message.getTweetId(), message.getProcessedFollowers(), MAX_RETRY_COUNT, e);
+        }
+    }
+}
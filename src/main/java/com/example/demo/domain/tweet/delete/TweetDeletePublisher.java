@@ -0,0 +1,38 @@
+package com.example.demo.domain.tweet.delete;
+
+import com.example.demo.domain.tweet.dto.TweetDeleteMessage;
+import com.example.demo.rabbitmq.RabbitMqService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 트윗 삭제 정리 작업 발행기
+ *
+ * 삭제 요청 스레드에서는 첫 페이지 메시지 한 건만 발행하고 바로 반환
+ * (팔로워 조회/타임라인 삭제는 TweetDeleteConsumer 에서 비동기 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TweetDeletePublisher {
+
+    private final RabbitMqService rabbitMqService;
+
+    @Value("${rabbitmq.tweet-delete.routing-key}")
+    private String routingKey;
+
+    /**
+     * 정리 작업 발행
+     *
+     * @throws org.springframework.amqp.AmqpException 브로커 전송 실패 시
+     */
+    public void publish(UUID authorId, UUID tweetId, LocalDateTime createdAt) {
+        rabbitMqService.sendMessage(routingKey, new TweetDeleteMessage(authorId, tweetId, createdAt, null, 0, 0));
+        log.debug("트윗 삭제 정리 작업 발행 - authorId: {}, tweetId: {}", authorId, tweetId);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.domain.tweet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 비동기 Fan-out 작업 메시지
+ *
+ * 트윗 저장 직후 발행되며, Fan-out 작업 컨슈머가 팔로워를 페이지 단위로 나눠 처리
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FanoutJobMessage {
+
+    /**
+     * 트윗 작성자 ID
+     */
+    private UUID authorId;
+
+    /**
+     * 트윗 ID
+     */
+    private UUID tweetId;
+
+    /**
+     * 트윗 내용
+     */
+    private String tweetText;
+
+    /**
+     * 트윗 생성 시간 (원본 시간, 중복 방지용)
+     */
+    private LocalDateTime createdAt;
+}
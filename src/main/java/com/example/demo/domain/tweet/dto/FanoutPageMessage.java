@@ -0,0 +1,63 @@
+package com.example.demo.domain.tweet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 팔로워 한 페이지 분량의 Fan-out 메시지
+ *
+ * 페이지 컨슈머들이 병렬로 받아 각 팔로워 타임라인에 저장
+ * 다음 페이지의 paging state를 함께 실어 보내, 받은 컨슈머가 다음 페이지를 이어서 조회/발행
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FanoutPageMessage {
+
+    /**
+     * 트윗 작성자 ID
+     */
+    private UUID authorId;
+
+    /**
+     * 트윗 ID
+     */
+    private UUID tweetId;
+
+    /**
+     * 트윗 내용
+     */
+    private String tweetText;
+
+    /**
+     * 트윗 생성 시간 (원본 시간, 중복 방지용)
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 이 페이지에서 처리할 팔로워 ID 목록
+     */
+    private List<UUID> followerIds;
+
+    /**
+     * 다음 팔로워 페이지의 Cassandra paging state (Base64, 마지막 페이지면 null)
+     */
+    private String nextPagingState;
+
+    /**
+     * 이 페이지까지 발행된 누적 팔로워 수 (셀럽 임계치 판단용)
+     */
+    private long dispatchedFollowers;
+
+    /**
+     * 재시도 횟수
+     */
+    private int retryCount;
+}
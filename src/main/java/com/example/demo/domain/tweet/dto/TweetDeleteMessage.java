@@ -0,0 +1,51 @@
+package com.example.demo.domain.tweet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 트윗 삭제 후 팔로워 타임라인 정리 메시지 (팔로워 한 페이지 = 메시지 한 건)
+ *
+ * 첫 메시지는 pagingState 없이 발행되고, 컨슈머가 자기 페이지를 정리한 뒤 다음 페이지 메시지를 이어서 발행
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TweetDeleteMessage {
+
+    /**
+     * 트윗 작성자 ID
+     */
+    private UUID authorId;
+
+    /**
+     * 삭제된 트윗 ID
+     */
+    private UUID tweetId;
+
+    /**
+     * 트윗 생성 시간 (user_timeline / celebrity_tweets 클러스터링 키)
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 이 메시지가 정리할 팔로워 페이지의 paging state (첫 페이지는 null)
+     */
+    private String pagingState;
+
+    /**
+     * 지금까지 정리한 팔로워 수
+     */
+    private long processedFollowers;
+
+    /**
+     * 재시도 횟수
+     */
+    private int retryCount;
+}
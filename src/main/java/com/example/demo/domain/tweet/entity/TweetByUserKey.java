@@ -41,7 +41,8 @@ public class TweetByUserKey implements Serializable {
     /**
      * 트윗 고유 ID (클러스터링 키)
      * - 같은 시각에 여러 트윗이 있을 경우 고유성 보장
+     * - 내림차순 (작성자 트윗 목록 커서의 두 번째 비교 기준)
      */
-    @PrimaryKeyColumn(name = "tweet_id", type = PrimaryKeyType.CLUSTERED)
+    @PrimaryKeyColumn(name = "tweet_id", type = PrimaryKeyType.CLUSTERED, ordering = Ordering.DESCENDING)
     private UUID tweetId;
 }
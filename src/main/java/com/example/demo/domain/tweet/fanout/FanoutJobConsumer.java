@@ -0,0 +1,160 @@
+package com.example.demo.domain.tweet.fanout;
+
+import com.example.demo.domain.celebrity.service.CelebrityService;
+import com.example.demo.domain.follow.service.FollowCountService;
+import com.example.demo.domain.follow.service.FollowerPageReader;
+import com.example.demo.domain.follow.service.FollowerPageReader.FollowerPage;
+import com.example.demo.domain.timeline.cache.TimelineCache;
+import com.example.demo.domain.timeline.writer.TimelineFanoutWriter;
+import com.example.demo.domain.tweet.dto.FanoutJobMessage;
+import com.example.demo.domain.tweet.dto.FanoutPageMessage;
+import com.example.demo.domain.tweet.dto.FanoutRetryMessage;
+import com.example.demo.rabbitmq.RabbitMqService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 비동기 Fan-out 파이프라인 컨슈머
+ *
+ * 1. 작업 큐: 셀럽 여부 판단 (레지스트리 + 팔로워 카운터) → 첫 팔로워 페이지를 페이지 큐에 발행
+ * 2. 페이지 큐: 다음 페이지를 paging state로 조회해 발행한 뒤, 자기 페이지의 타임라인 저장 + Hot 캐시 갱신
+ *
+ * 트윗 작성 API의 응답 시간은 팔로워 수와 무관하게 작업 메시지 한 건 발행 시간으로 고정됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FanoutJobConsumer {
+
+    private static final int MAX_PAGE_RETRY_COUNT = 3;
+
+    private final FollowerPageReader followerPageReader;
+    private final CelebrityService celebrityService;
+    private final FollowCountService followCountService;
+    private final TimelineFanoutWriter timelineFanoutWriter;
+    private final TimelineCache timelineCache;
+    private final RabbitMqService rabbitMqService;
+    private final FanoutProgressTracker progressTracker;
+
+    @Value("${rabbitmq.fanout.page-routing-key}")
+    private String pageRoutingKey;
+
+    // 페이지 메시지 하나에 담을 팔로워 수
+    @Value("${fanout.page-size:1000}")
+    private int pageSize;
+
+    /**
+     * Fan-out 작업 처리: 첫 팔로워 페이지를 조회해 페이지 큐에 발행
+     * (이후 페이지는 페이지 컨슈머가 paging state로 이어서 조회)
+     */
+    @RabbitListener(queues = "${rabbitmq.fanout.job-queue}", concurrency = "${rabbitmq.fanout.job-concurrency}")
+    public void handleJob(FanoutJobMessage job) {
+        UUID authorId = job.getAuthorId();
+        UUID tweetId = job.getTweetId();
+        progressTracker.running(tweetId);
+
+        try {
+            // 0. 셀럽은 팔로워 조회 없이 celebrity_tweets에만 저장 (Hybrid Fan-out)
+            // 팔로워 카운터가 이미 임계치 이상이면 팔로워 페이지를 읽기 전에 승격
+            if (celebrityService.isCelebrity(authorId)
+                    || celebrityService.promoteIfOverThreshold(authorId, followCountService.getFollowerCount(authorId))) {
+                celebrityService.saveCelebrityTweet(authorId, tweetId, job.getTweetText(), job.getCreatedAt());
+                progressTracker.celebrity(tweetId);
+                return;
+            }
+
+            dispatchPage(authorId, tweetId, job.getTweetText(), job.getCreatedAt(), null, 0);
+        } catch (Exception e) {
+            // 작업 단위 실패는 기존 재시도 큐(동기 Fan-out)로 넘김
+            log.warn("Fan-out 작업 처리 실패, 재시도 큐로 전송 - authorId: {}, tweetId: {}, error: {}",
+                    authorId, tweetId, e.getMessage());
+            rabbitMqService.sendMessage(new FanoutRetryMessage(
+                    authorId, tweetId, job.getTweetText(), job.getCreatedAt(), 0));
+        }
+    }
+
+    /**
+     * 팔로워 페이지 처리: 다음 페이지 발행 → 타임라인 저장 + Hot 캐시 갱신
+     *
+     * 다음 페이지를 먼저 발행하므로 팔로워 조회와 타임라인 저장이 여러 컨슈머에서 겹쳐서 진행됨
+     */
+    @RabbitListener(queues = "${rabbitmq.fanout.page-queue}", concurrency = "${rabbitmq.fanout.page-concurrency}")
+    public void handlePage(FanoutPageMessage page) {
+        List<UUID> followerIds = page.getFollowerIds();
+        try {
+            if (page.getNextPagingState() != null) {
+                dispatchPage(page.getAuthorId(), page.getTweetId(), page.getTweetText(), page.getCreatedAt(),
+                        page.getNextPagingState(), page.getDispatchedFollowers());
+                // 재시도 시 다음 페이지가 중복 발행되지 않도록 제거
+                page.setNextPagingState(null);
+            }
+
+            int written = timelineFanoutWriter.writeAll(followerIds, page.getTweetId(), page.getAuthorId(),
+                    page.getTweetText(), page.getCreatedAt()).join();
+            timelineCache.push(followerIds, page.getTweetId(), page.getAuthorId(),
+                    page.getTweetText(), page.getCreatedAt());
+            progressTracker.pageCompleted(page.getTweetId(), written, 0);
+        } catch (Exception e) {
+            handlePageFailure(page, e);
+        }
+    }
+
+    /**
+     * 팔로워 한 페이지를 조회해 페이지 큐에 발행
+     *
+     * - 누적 팔로워 수가 셀럽 임계치에 도달하면 승격 후 나머지 Push를 중단 (이후는 celebrity_tweets Pull)
+     * - 메모리에는 항상 한 페이지 분량의 팔로워만 존재
+     */
+    private void dispatchPage(UUID authorId, UUID tweetId, String tweetText, LocalDateTime createdAt,
+                              String pagingState, long dispatchedFollowers) {
+        FollowerPage followerPage = followerPageReader.readPage(authorId, pagingState, pageSize);
+        long dispatched = dispatchedFollowers + followerPage.followerIds().size();
+
+        if (celebrityService.promoteIfOverThreshold(authorId, dispatched)) {
+            celebrityService.saveCelebrityTweet(authorId, tweetId, tweetText, createdAt);
+            progressTracker.celebrity(tweetId);
+            return;
+        }
+
+        if (!followerPage.followerIds().isEmpty()) {
+            rabbitMqService.sendMessage(pageRoutingKey, new FanoutPageMessage(
+                    authorId, tweetId, tweetText, createdAt,
+                    followerPage.followerIds(), followerPage.nextPagingState(), dispatched, 0));
+            progressTracker.pageDispatched(tweetId, followerPage.followerIds().size());
+        }
+
+        if (followerPage.isLast()) {
+            progressTracker.dispatchDone(tweetId);
+            log.info("Fan-out 페이지 발행 완료 - authorId: {}, tweetId: {}, 팔로워 수: {}",
+                    authorId, tweetId, dispatched);
+        }
+    }
+
+    /**
+     * 페이지 실패 처리 (동일 키 INSERT는 멱등이므로 페이지 전체를 다시 발행)
+     */
+    private void handlePageFailure(FanoutPageMessage page, Exception e) {
+        int nextRetryCount = page.getRetryCount() + 1;
+        if (nextRetryCount <= MAX_PAGE_RETRY_COUNT) {
+            log.warn("Fan-out 페이지 실패, 재전송 - tweetId: {}, 팔로워 수: {}, retryCount: {}",
+                    page.getTweetId(), page.getFollowerIds().size(), nextRetryCount);
+            page.setRetryCount(nextRetryCount);
+            rabbitMqService.sendMessage(pageRoutingKey, page);
+        } else {
+            log.error("Fan-out 페이지 최대 재시도 초과 - tweetId: {}, 팔로워 수: {}, maxRetry: {}",
+                    page.getTweetId(), page.getFollowerIds().size(), MAX_PAGE_RETRY_COUNT, e);
+            progressTracker.pageCompleted(page.getTweetId(), 0, page.getFollowerIds().size());
+            if (page.getNextPagingState() != null) {
+                // 다음 페이지 조회까지 실패한 경우 이후 팔로워는 전달되지 않음
+                progressTracker.dispatchDone(page.getTweetId());
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.domain.tweet.fanout;
+
+import com.example.demo.domain.tweet.dto.FanoutJobMessage;
+import com.example.demo.rabbitmq.RabbitMqService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Fan-out 작업 발행기
+ *
+ * 트윗 저장 요청 스레드에서는 작업 메시지 한 건만 발행하고 바로 반환
+ * (팔로워 조회/타임라인 저장은 FanoutJobConsumer 에서 비동기 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FanoutJobPublisher {
+
+    private final RabbitMqService rabbitMqService;
+    private final FanoutProgressTracker progressTracker;
+
+    @Value("${rabbitmq.fanout.job-routing-key}")
+    private String jobRoutingKey;
+
+    /**
+     * Fan-out 작업 발행
+     *
+     * @throws org.springframework.amqp.AmqpException 브로커 전송 실패 시 (호출 측에서 동기 Fan-out으로 대체)
+     */
+    public void publish(UUID authorId, UUID tweetId, String tweetText, LocalDateTime createdAt) {
+        progressTracker.queued(tweetId);
+        rabbitMqService.sendMessage(jobRoutingKey, new FanoutJobMessage(authorId, tweetId, tweetText, createdAt));
+        log.debug("Fan-out 작업 발행 - authorId: {}, tweetId: {}", authorId, tweetId);
+    }
+}
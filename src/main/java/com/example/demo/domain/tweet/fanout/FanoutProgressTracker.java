@@ -0,0 +1,127 @@
+package com.example.demo.domain.tweet.fanout;
+
+import com.example.demo.domain.tweet.response.FanoutProgressResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 트윗별 Fan-out 진행 상황 기록 (Redis Hash)
+ *
+ * 키: fanout:progress:{tweetId}
+ * 필드:
+ * - status: QUEUED → RUNNING → (모든 페이지 완료 시 조회 시점에 COMPLETED로 판단) / CELEBRITY
+ * - totalFollowers, delivered, failed, pagesDispatched, pagesCompleted: 카운터 (HINCRBY)
+ * - dispatchDone: 마지막 페이지까지 발행 완료 여부 (1이면 완료)
+ *
+ * 진행 상황 기록 실패는 Fan-out 자체에 영향을 주지 않도록 로그만 남김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FanoutProgressTracker {
+
+    private static final String KEY_PREFIX = "fanout:progress:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 진행 상황 보관 기간
+    @Value("${fanout.progress.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    public void queued(UUID tweetId) {
+        update(tweetId, hash -> hash.put(key(tweetId), "status", "QUEUED"));
+    }
+
+    public void running(UUID tweetId) {
+        update(tweetId, hash -> hash.put(key(tweetId), "status", "RUNNING"));
+    }
+
+    public void celebrity(UUID tweetId) {
+        update(tweetId, hash -> {
+            hash.put(key(tweetId), "status", "CELEBRITY");
+            hash.put(key(tweetId), "dispatchDone", "1");
+        });
+    }
+
+    /**
+     * 페이지 발행 기록
+     */
+    public void pageDispatched(UUID tweetId, int followerCount) {
+        update(tweetId, hash -> {
+            hash.increment(key(tweetId), "pagesDispatched", 1);
+            hash.increment(key(tweetId), "totalFollowers", followerCount);
+        });
+    }
+
+    /**
+     * 마지막 페이지까지 발행 완료 기록
+     */
+    public void dispatchDone(UUID tweetId) {
+        update(tweetId, hash -> hash.put(key(tweetId), "dispatchDone", "1"));
+    }
+
+    /**
+     * 페이지 처리 완료 기록 (성공/실패 팔로워 수 포함)
+     */
+    public void pageCompleted(UUID tweetId, long delivered, long failed) {
+        update(tweetId, hash -> {
+            hash.increment(key(tweetId), "delivered", delivered);
+            hash.increment(key(tweetId), "failed", failed);
+            hash.increment(key(tweetId), "pagesCompleted", 1);
+        });
+    }
+
+    /**
+     * 진행 상황 조회
+     */
+    public Optional<FanoutProgressResponse> get(UUID tweetId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(key(tweetId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long pagesDispatched = number(fields, "pagesDispatched");
+        long pagesCompleted = number(fields, "pagesCompleted");
+        String status = (String) fields.getOrDefault("status", "QUEUED");
+        if ("RUNNING".equals(status) && "1".equals(fields.get("dispatchDone")) && pagesCompleted >= pagesDispatched) {
+            status = "COMPLETED";
+        }
+
+        return Optional.of(new FanoutProgressResponse(
+                tweetId,
+                status,
+                number(fields, "totalFollowers"),
+                number(fields, "delivered"),
+                number(fields, "failed"),
+                pagesDispatched,
+                pagesCompleted));
+    }
+
+    private void update(UUID tweetId, Consumer<HashOperations<String, Object, Object>> action) {
+        try {
+            action.accept(redisTemplate.opsForHash());
+            redisTemplate.expire(key(tweetId), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("Fan-out 진행 상황 기록 실패 - tweetId: {}, error: {}", tweetId, e.getMessage());
+        }
+    }
+
+    private static long number(Map<Object, Object> fields, String field) {
+        Object value = fields.get(field);
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+
+    private static String key(UUID tweetId) {
+        return KEY_PREFIX + tweetId;
+    }
+}
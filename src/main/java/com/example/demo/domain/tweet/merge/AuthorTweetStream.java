@@ -0,0 +1,66 @@
+package com.example.demo.domain.tweet.merge;
+
+import com.example.demo.domain.tweet.entity.TweetByUser;
+import com.example.demo.util.cursor.TimelineCursor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * 작성자 한 명의 트윗을 최신순으로 흘려보내는 지연 페이징 스트림
+ *
+ * - 현재 페이지를 모두 소비한 경우에만 다음 페이지를 조회
+ * - 마지막 페이지가 pageSize보다 작으면 더 이상 조회하지 않음
+ */
+public class AuthorTweetStream {
+
+    private final UUID authorId;
+    private final int pageSize;
+    private final BiFunction<UUID, TimelineCursor, List<TweetByUser>> pageFetcher;
+    private final Deque<TweetByUser> buffer = new ArrayDeque<>();
+
+    private TimelineCursor nextPageCursor;
+    private boolean exhausted;
+
+    /**
+     * @param authorId 작성자 ID
+     * @param firstPage 미리 조회해 둔 첫 페이지 (병렬 조회 결과)
+     * @param pageSize 페이지당 최대 개수 (Repository LIMIT)
+     * @param pageFetcher (authorId, cursor) → cursor (created_at, tweet_id) 이후 트윗 페이지
+     */
+    public AuthorTweetStream(UUID authorId, List<TweetByUser> firstPage, int pageSize,
+                             BiFunction<UUID, TimelineCursor, List<TweetByUser>> pageFetcher) {
+        this.authorId = authorId;
+        this.pageSize = pageSize;
+        this.pageFetcher = pageFetcher;
+        append(firstPage);
+    }
+
+    public UUID getAuthorId() {
+        return authorId;
+    }
+
+    /**
+     * 다음 트윗 (필요 시 다음 페이지 조회), 없으면 null
+     * - 다음 페이지 조회 실패는 그대로 전파 (버퍼와 다음 조회 위치는 유지되어 다시 호출하면 같은 위치부터 조회)
+     */
+    public TweetByUser next() {
+        if (buffer.isEmpty() && !exhausted) {
+            append(pageFetcher.apply(authorId, nextPageCursor));
+        }
+        return buffer.pollFirst();
+    }
+
+    private void append(List<TweetByUser> page) {
+        buffer.addAll(page);
+        if (page.size() < pageSize) {
+            exhausted = true;
+        } else {
+            TweetByUser last = page.get(page.size() - 1);
+            nextPageCursor = new TimelineCursor(last.getKey().getCreatedAt(), last.getKey().getTweetId());
+        }
+    }
+}
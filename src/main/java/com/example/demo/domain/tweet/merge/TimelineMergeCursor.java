@@ -0,0 +1,141 @@
+package com.example.demo.domain.tweet.merge;
+
+import com.example.demo.util.cursor.InvalidCursorException;
+import com.example.demo.util.cursor.TimelineCursor;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Fan-out on Read 타임라인의 복합 커서 (k-way merge 위치 정보)
+ *
+ * 구성:
+ * - boundary: 이전 페이지에서 마지막으로 반환한 트윗의 created_at
+ * - authorPositions: 이전 페이지에서 트윗을 반환한 작성자별 마지막 (created_at, tweet_id)
+ *   (이전 페이지에서 반환하지 않았더라도 위치가 boundary와 같은 시각인 작성자는 위치를 유지)
+ *
+ * 다음 페이지 조회 시:
+ * - authorPositions에 있는 작성자 → 해당 위치 이후((created_at, tweet_id) < position)부터 조회
+ * - 그 외 작성자 → boundary 이하(created_at <= boundary)부터 조회
+ *   (boundary보다 최신 트윗은 이미 모두 반환되었으므로, 같은 시각에 걸친 트윗만 누락 없이 이어서 읽음)
+ *
+ * 직렬화 형식 (URL-safe Base64):
+ * [version:1][boundary millis:8][count:4]{[author msb:8][author lsb:8][position millis:8][tweet msb:8][tweet lsb:8]}*
+ */
+public final class TimelineMergeCursor {
+
+    private static final byte VERSION = 2;
+    private static final int HEADER_BYTES = 1 + Long.BYTES + Integer.BYTES;
+    private static final int ENTRY_BYTES = Long.BYTES * 5;
+
+    // Cassandra uuid 비교 규칙에서 가장 작은 tweet_id (상위 64비트 0, 하위 64비트는 바이트별 signed 최솟값)
+    private static final UUID LOWEST_TWEET_ID = new UUID(0L, 0x8080808080808080L);
+
+    private final LocalDateTime boundary;
+    private final Map<UUID, TimelineCursor> authorPositions;
+
+    public TimelineMergeCursor(LocalDateTime boundary, Map<UUID, TimelineCursor> authorPositions) {
+        this.boundary = boundary;
+        this.authorPositions = Collections.unmodifiableMap(new LinkedHashMap<>(authorPositions));
+    }
+
+    public LocalDateTime getBoundary() {
+        return boundary;
+    }
+
+    public Map<UUID, TimelineCursor> getAuthorPositions() {
+        return authorPositions;
+    }
+
+    /**
+     * 작성자의 이전 페이지 마지막 위치 (이전 페이지에서 반환한 트윗이 없으면 null)
+     */
+    public TimelineCursor positionFor(UUID authorId) {
+        return authorPositions.get(authorId);
+    }
+
+    /**
+     * 작성자의 다음 조회 위치 (위치가 없으면 "boundary 이하"와 같은 범위의 위치)
+     * - 이번 페이지에서 열지 못한 작성자를 다음 커서에 그대로 남겨, boundary가 앞으로 이동해도 그 사이 트윗이 누락되지 않도록 사용
+     */
+    public TimelineCursor resumePositionFor(UUID authorId) {
+        TimelineCursor position = authorPositions.get(authorId);
+        // (created_at, tweet_id) < (boundary + 1ms, 최소 tweet_id) ⇔ created_at <= boundary
+        return position != null ? position : new TimelineCursor(boundaryUpperBound(), LOWEST_TWEET_ID);
+    }
+
+    /**
+     * 위치가 없는 작성자의 조회 기준 시간 (created_at < 반환값 조건으로 사용)
+     */
+    public LocalDateTime boundaryUpperBound() {
+        // created_at 은 밀리초 정밀도이므로 1ms를 더해 "boundary 이하" 조건으로 변환
+        return boundary.plusNanos(1_000_000);
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + ENTRY_BYTES * authorPositions.size());
+        buffer.put(VERSION);
+        buffer.putLong(toMillis(boundary));
+        buffer.putInt(authorPositions.size());
+        authorPositions.forEach((authorId, position) -> {
+            buffer.putLong(authorId.getMostSignificantBits());
+            buffer.putLong(authorId.getLeastSignificantBits());
+            buffer.putLong(toMillis(position.createdAt()));
+            buffer.putLong(position.tweetId().getMostSignificantBits());
+            buffer.putLong(position.tweetId().getLeastSignificantBits());
+        });
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * 커서 문자열 파싱
+     *
+     * @throws InvalidCursorException 형식이 올바르지 않은 경우
+     */
+    public static TimelineMergeCursor decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("잘못된 커서 형식입니다", e);
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.get() != VERSION) {
+                throw new InvalidCursorException("지원하지 않는 커서 버전입니다");
+            }
+            LocalDateTime boundary = fromMillis(buffer.getLong());
+            int count = buffer.getInt();
+            if (count < 0 || buffer.remaining() != count * ENTRY_BYTES) {
+                throw new InvalidCursorException("잘못된 커서 형식입니다");
+            }
+
+            Map<UUID, TimelineCursor> positions = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                UUID authorId = new UUID(buffer.getLong(), buffer.getLong());
+                LocalDateTime createdAt = fromMillis(buffer.getLong());
+                positions.put(authorId, new TimelineCursor(createdAt, new UUID(buffer.getLong(), buffer.getLong())));
+            }
+            return new TimelineMergeCursor(boundary, positions);
+        } catch (BufferUnderflowException e) {
+            throw new InvalidCursorException("잘못된 커서 형식입니다", e);
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
@@ -2,12 +2,15 @@ package com.example.demo.domain.tweet.repository;
 
 import com.example.demo.domain.tweet.entity.TweetByUser;
 import com.example.demo.domain.tweet.entity.TweetByUserKey;
+import com.example.demo.util.cassandra.CassandraPaging;
+import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.repository.CassandraRepository;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -19,17 +22,56 @@ public interface TweetByUserRepository extends CassandraRepository<TweetByUser,
     /**
      * 특정 사용자의 최신 트윗 조회
      * @param userId 사용자 ID
-     * @return 최신순 트윗 목록 (최대 20개)
+     * @param limit 조회 개수 (LIMIT 바인드 값)
+     * @param options 드라이버 page size 등 조회 옵션
+     * @return 최신순 트윗 목록 (최대 limit개)
      */
-    @Query("SELECT * FROM tweets_by_user WHERE user_id = ?0 LIMIT 20")
-    List<TweetByUser> findLatestTweets(UUID userId);
+    @Query("SELECT * FROM tweets_by_user WHERE user_id = ?0 LIMIT ?1")
+    List<TweetByUser> findLatestTweets(UUID userId, int limit, QueryOptions options);
+
+    default List<TweetByUser> findLatestTweets(UUID userId, int limit) {
+        return findLatestTweets(userId, limit, CassandraPaging.pageOf(limit));
+    }
 
     /**
-     * 커서 기반 페이지네이션
+     * 시간 기준 조회 (Fan-out on Read 병합 커서의 boundary 이하 조회용)
      * @param userId 사용자 ID
      * @param cursor 기준 시간
+     * @param limit 조회 개수
+     * @param options 조회 옵션
      * @return 트윗 목록
      */
-    @Query("SELECT * FROM tweets_by_user WHERE user_id = ?0 AND created_at < ?1 LIMIT 20")
-    List<TweetByUser> findTweetsWithCursor(UUID userId, LocalDateTime cursor);
+    @Query("SELECT * FROM tweets_by_user WHERE user_id = ?0 AND created_at < ?1 LIMIT ?2")
+    List<TweetByUser> findTweetsWithCursor(UUID userId, LocalDateTime cursor, int limit, QueryOptions options);
+
+    default List<TweetByUser> findTweetsWithCursor(UUID userId, LocalDateTime cursor, int limit) {
+        return findTweetsWithCursor(userId, cursor, limit, CassandraPaging.pageOf(limit));
+    }
+
+    /**
+     * Keyset 커서 기반 페이지네이션 ((created_at, tweet_id) 튜플 비교)
+     * @param userId 사용자 ID
+     * @param createdAt 이전 페이지 마지막 트윗 시간
+     * @param tweetId 이전 페이지 마지막 트윗 ID
+     * @param limit 조회 개수
+     * @param options 조회 옵션
+     * @return 트윗 목록
+     */
+    @Query("SELECT * FROM tweets_by_user WHERE user_id = ?0 AND (created_at, tweet_id) < (?1, ?2) LIMIT ?3")
+    List<TweetByUser> findTweetsAfter(UUID userId, LocalDateTime createdAt, UUID tweetId, int limit, QueryOptions options);
+
+    default List<TweetByUser> findTweetsAfter(UUID userId, LocalDateTime createdAt, UUID tweetId, int limit) {
+        return findTweetsAfter(userId, createdAt, tweetId, limit, CassandraPaging.pageOf(limit));
+    }
+
+    /**
+     * 작성자 파티션에서 트윗 한 건 조회 (삭제 시 created_at 클러스터링 키 확인용)
+     * - tweets 테이블에는 created_at이 저장되지 않으므로 작성자 파티션을 최신순으로 훑어 첫 일치 행에서 중단
+     * - 단일 파티션 내 필터링이며 비용은 트윗이 오래될수록 커짐 (삭제는 드문 작업이므로 허용)
+     * @param userId 작성자 ID
+     * @param tweetId 트윗 ID
+     * @return 사용자별 트윗 행
+     */
+    @Query("SELECT * FROM tweets_by_user WHERE user_id = ?0 AND tweet_id = ?1 LIMIT 1 ALLOW FILTERING")
+    Optional<TweetByUser> findByUserIdAndTweetId(UUID userId, UUID tweetId);
 }
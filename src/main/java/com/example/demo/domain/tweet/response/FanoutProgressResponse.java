@@ -0,0 +1,55 @@
+package com.example.demo.domain.tweet.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * 트윗별 Fan-out 진행 상황 응답 DTO
+ *
+ * API 명세 대응: GET /tweets/{tweetId}/fanout
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FanoutProgressResponse {
+
+    /**
+     * 트윗 ID
+     */
+    private UUID tweetId;
+
+    /**
+     * 진행 상태 (QUEUED, RUNNING, COMPLETED, CELEBRITY)
+     */
+    private String status;
+
+    /**
+     * 페이지로 발행된 팔로워 수
+     */
+    private long totalFollowers;
+
+    /**
+     * 타임라인 저장이 완료된 팔로워 수
+     */
+    private long delivered;
+
+    /**
+     * 최대 재시도 후에도 저장에 실패한 팔로워 수
+     */
+    private long failed;
+
+    /**
+     * 발행된 페이지 수
+     */
+    private long pagesDispatched;
+
+    /**
+     * 처리가 끝난 페이지 수
+     */
+    private long pagesCompleted;
+}
@@ -5,13 +5,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * 트윗 목록 응답 DTO
  * 
- * API 명세 대응: GET /tweets/{userId}?last={timestamp}&size={size}
+ * API 명세 대응: GET /tweets/{userId}?cursor={nextCursor}&size={size}
  * 응답 예시:
  * {
  *   "tweets": [
@@ -22,7 +21,7 @@ import java.util.List;
  *       "createdAt": "2025-07-10T20:14:30"
  *     }
  *   ],
- *   "nextCursor": "2025-07-10T20:14:30",
+ *   "nextCursor": "AQAAAZf2xVQeV0u1tq...",
  *   "hasMore": true
  * }
  */
@@ -38,12 +37,23 @@ public class TweetListResponse {
     private List<TweetResponse> tweets;
     
     /**
-     * 다음 페이지 커서 (마지막 트윗의 생성 시간)
+     * 다음 페이지 요청용 불투명 커서
+     * - 트윗 목록: 마지막 트윗의 (created_at, tweet_id)
+     * - Fan-out on Read 타임라인: 작성자별 병합 위치 포함
      */
-    private LocalDateTime nextCursor;
+    private String nextCursor;
     
     /**
      * 더 많은 데이터 존재 여부
      */
     private boolean hasMore;
+
+    /**
+     * 일부 작성자 조회가 deadline 내에 끝나지 않아 누락된 부분 응답 여부
+     */
+    private boolean partial;
+
+    public TweetListResponse(List<TweetResponse> tweets, String nextCursor, boolean hasMore) {
+        this(tweets, nextCursor, hasMore, false);
+    }
 } 
\ No newline at end of file
@@ -1,10 +1,15 @@
 package com.example.demo.domain.tweet.service;
 
 import com.example.demo.domain.follow.FollowRepository;
-import com.example.demo.domain.follow.FollowingsByUserRepository;
+import com.example.demo.domain.follow.cache.FollowingsCache;
+import com.example.demo.domain.tweet.cache.AuthorRecentTweetsCache;
+import com.example.demo.domain.tweet.cache.TweetBodyCache;
+import com.example.demo.domain.tweet.delete.DeletedTweetRegistry;
 import com.example.demo.domain.tweet.entity.Tweet;
 import com.example.demo.domain.tweet.entity.TweetByUser;
 import com.example.demo.domain.tweet.entity.TweetByUserKey;
+import com.example.demo.domain.tweet.merge.AuthorTweetStream;
+import com.example.demo.domain.tweet.merge.TimelineMergeCursor;
 import com.example.demo.domain.tweet.repository.TweetByUserRepository;
 import com.example.demo.domain.tweet.repository.TweetRepository;
 import com.example.demo.domain.tweet.request.CreateTweetRequest;
@@ -12,15 +17,25 @@ import com.example.demo.domain.tweet.response.TweetListResponse;
 import com.example.demo.domain.tweet.response.TweetResponse;
 
 import com.example.demo.util.UUID.UUIDUtil;
+import com.example.demo.util.cassandra.CassandraPaging;
+import com.example.demo.util.concurrent.BoundedFanout;
+import com.example.demo.util.concurrent.SingleFlight;
+import com.example.demo.util.cursor.TimelineCursor;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,7 +47,24 @@ public class TweetFanoutOnReadService {
   private final TweetRepository tweetRepository;
   private final TweetByUserRepository tweetByUserRepository;
   private final FollowRepository followRepository;
-  private final FollowingsByUserRepository followingsByUserRepository;
+  private final FollowingsCache followingsCache;
+  private final TweetBodyCache tweetBodyCache;
+  private final AuthorRecentTweetsCache authorRecentTweetsCache;
+  private final DeletedTweetRegistry deletedTweetRegistry;
+
+  @Qualifier("fanoutReadExecutor")
+  private final ThreadPoolExecutor fanoutReadExecutor;
+
+  // 작성자별 첫 페이지 조회 대기 한도 (초과 시 도착한 결과만으로 부분 응답, 문장 타임아웃으로도 전달)
+  @Value("${fanout.read.deadline-ms:300}")
+  private long readDeadlineMs;
+
+  // 요청 하나가 fanoutReadExecutor에 동시에 제출하는 최대 작업 수 (작성자를 묶어서 순서대로 조회)
+  @Value("${fanout.read.max-tasks-per-request:8}")
+  private int maxTasksPerRequest;
+
+  // 같은 작성자/위치/크기의 동시 페이지 조회는 Cassandra 조회 한 번을 공유 (인기 작성자 파티션 보호)
+  private final SingleFlight<AuthorPageKey, List<TweetByUser>> authorPageFlight = new SingleFlight<>();
 
   /**
    * 새 트윗 생성 (Fan-out on Read 방식)
@@ -65,21 +97,11 @@ public class TweetFanoutOnReadService {
         .createdAt(now)
         .build();
     tweetByUserRepository.save(tweetByUser);
+    authorRecentTweetsCache.prepend(tweetByUser);
 
     log.info("트윗 생성 완료 (Fan-out on Read) - userId: {}, tweetId: {}", userId, tweetId);
 
-    // 3. 팔로워 수에 따라 분기
-//    int followerCount = getFollowerCount(userId);
-//
-//    if (followerCount < CELEBRITY_THRESHOLD) {  // 예: 10만명
-//      // 일반 사용자 → Fan-out on Write
-//      log.info("일반 사용자 Fan-out on Write - userId: {}, 팔로워: {}명", userId, followerCount);
-//      fanOutToFollowers(userId, tweetId, request.getContent(), now);
-//    } else {
-//      // 셀럽 → Fan-out on Read (Push 대신 Pull)
-//      log.info("셀럽 사용자 Fan-out on Read - userId: {}, 팔로워: {}명", userId, followerCount);
-//      // 아무것도 하지 않음 (실시간 조회에 의존)
-//    }
+    // 3. 팔로워 수 기반 Push/Pull 분기는 Hybrid Fan-out(TweetService + CelebrityService)에서 처리
 
     return TweetResponse.of(tweet);
   }
@@ -87,15 +109,23 @@ public class TweetFanoutOnReadService {
   /**
    * 사용자 타임라인 조회 (Fan-out on Read 방식)
    *
-   * 실시간으로 팔로잉하는 모든 사용자의 트윗을 조회해서 시간순 병합
+   * 팔로잉하는 모든 사용자의 트윗을 작성자별 스트림으로 열고 k-way merge로 최신순 병합
+   * - 힙에는 작성자별 head 1개씩만 유지 (크기 = 팔로잉 수)
+   * - size개를 반환하면 즉시 중단하므로 작업량은 O(F + size·log F)
+   *
+   * - 작성자별 첫 페이지 조회는 전용 Executor + 요청 deadline으로 제한 (느린 파티션이 전체 요청을 막지 않음)
+   * - deadline 내에 열지 못한 작성자는 다음 커서에 이전 위치를 남겨 다음 페이지에서 이어서 조회 (누락 없음)
+   *
+   * @param cursor 이전 응답의 nextCursor (null이면 최신부터)
    */
-  public TweetListResponse getTimeline(UUID userId, LocalDateTime lastTimestamp, int size) {
+  public TweetListResponse getTimeline(UUID userId, String cursor, int size) {
+    size = CassandraPaging.clamp(size);
     log.info("타임라인 조회 시작 (Fan-out on Read) - userId: {}", userId);
 
-    // 크기 제한
-//    size = Math.min(size, 1000);
+    TimelineMergeCursor mergeCursor = cursor == null ? null : TimelineMergeCursor.decode(cursor);
+    LocalDateTime requestedAt = LocalDateTime.now();
 
-    // 1. 팔로잉하는 사용자들 조회 (실제로는 내가 팔로우하는 사람들의 반대 관계를 찾아야 함)
+    // 1. 팔로잉하는 사용자들 조회
     List<UUID> followingIds = new ArrayList<>(getFollowingUserIds(userId));
 
     // 2. 본인도 포함 (본인 트윗도 타임라인에 표시)
@@ -103,11 +133,13 @@ public class TweetFanoutOnReadService {
 
     log.debug("팔로잉 사용자 수: {} (본인 포함)", followingIds.size());
 
-    // 비동기 병렬 조회
-    List<TweetByUser> allTweets = fetchTweetsFromMultipleUsersAsync(followingIds, lastTimestamp, size);
+    // 3. 작성자별 첫 페이지 병렬 조회 후 k-way merge
+    // 한 작성자가 한 페이지에 기여할 수 있는 최대 개수는 size이므로 작성자별 조회 크기도 size로 맞춤
+    OpenResult opened = openAuthorStreamsAsync(followingIds, mergeCursor, size);
+    MergeResult result = mergeLatest(opened.streams(), size);
 
     // 4. 응답 변환
-    List<TweetResponse> tweetResponses = allTweets.stream()
+    List<TweetResponse> tweetResponses = result.tweets().stream()
         .map(tweet -> new TweetResponse(
             tweet.getKey().getTweetId(),
             tweet.getKey().getUserId(),
@@ -116,100 +148,218 @@ public class TweetFanoutOnReadService {
         ))
         .collect(Collectors.toList());
 
-    LocalDateTime nextCursor = allTweets.isEmpty() ? null
-        : allTweets.get(allTweets.size() - 1).getKey().getCreatedAt();
+    // 다음 페이지 커서는 작성자별 병합 위치를 담은 불투명 문자열
+    // 열지 못한 작성자는 이번 요청의 조회 위치를 그대로 남김 (첫 페이지였다면 요청 시각 이하부터)
+    TimelineMergeCursor from = mergeCursor != null ? mergeCursor : new TimelineMergeCursor(requestedAt, Map.of());
+
+    boolean hasMore = result.hasMore() || !opened.unopened().isEmpty();
+    String nextCursor = null;
+    if (hasMore) {
+      LocalDateTime boundary = result.tweets().isEmpty()
+          ? from.getBoundary()
+          : result.tweets().get(result.tweets().size() - 1).getKey().getCreatedAt();
+      // 이전 위치가 새 boundary와 같은 시각이면 유지 (boundary 이하 조회로 바꾸면 같은 시각에 이미 반환한 트윗이 중복됨)
+      Map<UUID, TimelineCursor> positions = new LinkedHashMap<>();
+      from.getAuthorPositions().forEach((authorId, position) -> {
+        if (!position.createdAt().isAfter(boundary)) {
+          positions.put(authorId, position);
+        }
+      });
+      positions.putAll(result.authorPositions());
+      opened.unopened().forEach(authorId -> positions.put(authorId, from.resumePositionFor(authorId)));
+      nextCursor = new TimelineMergeCursor(boundary, positions).encode();
+    }
+
+    TweetListResponse response = new TweetListResponse(tweetResponses, nextCursor, hasMore);
+    // deadline 초과/거절/조회 실패로 빠진 작성자가 있으면 부분 응답임을 표시 (빠진 작성자는 다음 페이지에서 이어서 조회)
+    response.setPartial(opened.partial() || result.partial());
 
     log.info("타임라인 조회 완료 - userId: {}, 반환 트윗 수: {}", userId, tweetResponses.size());
 
-    return new TweetListResponse(tweetResponses, nextCursor, allTweets.size() == size);
+    return response;
   }
 
   /**
-   * 팔로잉하는 사용자 ID 목록 조회
-   * 현재 Repository는 팔로워 조회용이므로, 실제로는 following 관계를 위한 별도 테이블/쿼리 필요
+   * 커서 이후 팔로잉 트윗 병합 조회 (본인 트윗 제외)
+   * - Push 타임라인(user_timeline)이 trim/TTL로 잘린 뒤의 오래된 페이지를 이어서 제공하는 용도
+   * - 모든 작성자를 같은 (created_at, tweet_id) 위치 이후부터 조회하므로 커서 앞뒤로 중복/누락이 없음
+   * - 열지 못한 작성자(deadline 초과/거절/조회 실패)가 있으면 그 작성자의 트윗 위치를 알 수 없으므로
+   *   트윗을 반환하지 않고 partial로 표시 (호출 측은 커서를 앞으로 옮기지 않고 같은 위치부터 다시 조회)
+   * - 병합 중 작성자 다음 페이지 조회가 실패한 경우는 멈춘 지점까지만 반환하고 partial로 표시
+   */
+  public FollowingTweets getFollowingTweetsAfter(UUID userId, TimelineCursor cursor, int size) {
+    size = CassandraPaging.clamp(size);
+    List<UUID> followingIds = getFollowingUserIds(userId);
+
+    Map<UUID, TimelineCursor> positions = new LinkedHashMap<>();
+    followingIds.forEach(authorId -> positions.put(authorId, cursor));
+    TimelineMergeCursor mergeCursor = new TimelineMergeCursor(cursor.createdAt(), positions);
+
+    OpenResult opened = openAuthorStreamsAsync(followingIds, mergeCursor, size);
+    if (!opened.unopened().isEmpty()) {
+      return new FollowingTweets(List.of(), true);
+    }
+    MergeResult result = mergeLatest(opened.streams(), size);
+    return new FollowingTweets(result.tweets(), result.partial());
+  }
+
+  /**
+   * @param tweets 최신순 트윗 목록 (최대 size개, 이 목록의 마지막 항목까지는 모든 팔로잉이 반영됨)
+   * @param partial 일부 작성자를 반영하지 못해 목록이 덜 채워졌으면 true
+   */
+  public record FollowingTweets(List<TweetByUser> tweets, boolean partial) {
+  }
+
+  /**
+   * 팔로잉하는 사용자 ID 목록 조회 (FollowingsCache, miss일 때만 followings_by_user 조회)
    */
   private List<UUID> getFollowingUserIds(UUID userId) {
-    return followingsByUserRepository.findByKeyFollowerId(userId)
-        .stream()
-        .map(follow -> follow.getKey().getFollowedUserId())
-        .toList();
+    return followingsCache.getFollowingIds(userId);
   }
 
   /**
-   * 여러 사용자의 트윗을 비동기로 병렬 조회 (성능 최적화)
+   * 작성자별 스트림 생성 (첫 페이지만 전용 Executor에서 병렬 조회, 이후 페이지는 소비 시점에 지연 조회)
+   *
+   * - 작성자를 최대 maxTasksPerRequest개 묶음으로 나눠 묶음 단위로 제출 (팔로잉 수가 큐 용량보다 많아도 거절되지 않음)
+   * - 요청 단위 deadline 내에 연 작성자만 병합하고, deadline은 Cassandra 문장 타임아웃으로도 전달
+   * - deadline 초과/실패/거절로 열지 못한 작성자는 unopened로 반환하고 partial로 표시
    */
-  private List<TweetByUser> fetchTweetsFromMultipleUsersAsync(List<UUID> userIds, LocalDateTime lastTimestamp, int size) {
-    // 사용자가 너무 많으면 상위 50명만 제한 (성능 고려)
-//    List<UUID> limitedUserIds = userIds.stream()
-//        .limit(50)
-//        .toList();
-    System.out.println(size);
-    List<UUID> limitedUserIds = userIds.stream()
-        .limit(size)
+  private OpenResult openAuthorStreamsAsync(List<UUID> authorIds, TimelineMergeCursor cursor, int authorPageSize) {
+    long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(readDeadlineMs);
+    BoundedFanout.Result<UUID, AuthorTweetStream> opened = BoundedFanout.run(authorIds,
+        authorId -> new AuthorTweetStream(authorId,
+            fetchFirstPage(authorId, cursor, authorPageSize, deadlineNanos), authorPageSize,
+            (id, position) -> fetchUserTweets(id, position, authorPageSize)),
+        fanoutReadExecutor, maxTasksPerRequest, deadlineNanos);
+
+    List<UUID> unopened = authorIds.stream()
+        .filter(authorId -> !opened.completed().containsKey(authorId))
         .toList();
+    if (opened.partial()) {
+      log.warn("타임라인 부분 응답 - 요청 작성자 수: {}, 병합 작성자 수: {}", authorIds.size(), opened.completed().size());
+    }
+    return new OpenResult(new ArrayList<>(opened.completed().values()), unopened, opened.partial());
+  }
 
-    // 각 사용자별로 비동기 조회
-    List<CompletableFuture<List<TweetByUser>>> futures = limitedUserIds.stream()
-        .map(userId -> CompletableFuture.supplyAsync(() -> fetchUserTweets(userId, lastTimestamp, 10))) // 사용자당 10개씩
-        .toList();
+  private record OpenResult(List<AuthorTweetStream> streams, List<UUID> unopened, boolean partial) {
+  }
 
-    // 모든 비동기 작업 완료 대기 및 결과 병합
-    List<TweetByUser> allTweets = new ArrayList<>();
-    for (CompletableFuture<List<TweetByUser>> future : futures) {
+  /**
+   * 작성자별 최신순 스트림을 우선순위 큐로 병합하여 최신 size개 추출
+   */
+  private MergeResult mergeLatest(List<AuthorTweetStream> streams, int size) {
+    PriorityQueue<MergeHead> heap = new PriorityQueue<>(Math.max(1, streams.size()),
+        TimelineCursor.newestFirst((MergeHead head) -> head.tweet().getKey().getCreatedAt(),
+            head -> head.tweet().getKey().getTweetId()));
+    for (AuthorTweetStream stream : streams) {
+      TweetByUser first = stream.next();
+      if (first != null) {
+        heap.add(new MergeHead(first, stream));
+      }
+    }
+
+    List<TweetByUser> merged = new ArrayList<>(size);
+    Map<UUID, TimelineCursor> authorPositions = new LinkedHashMap<>();
+    boolean partial = false;
+    while (merged.size() < size && !heap.isEmpty()) {
+      MergeHead head = heap.poll();
+      merged.add(head.tweet());
+      authorPositions.put(head.stream().getAuthorId(),
+          new TimelineCursor(head.tweet().getKey().getCreatedAt(), head.tweet().getKey().getTweetId()));
+
+      TweetByUser next;
       try {
-        allTweets.addAll(future.get());
-      } catch (InterruptedException | ExecutionException e) {
-        log.error("트윗 조회 중 오류 발생", e);
+        next = head.stream().next();
+      } catch (Exception e) {
+        // 이 작성자의 다음 트윗을 모르므로 더 오래된 트윗을 내보내지 않고 여기서 페이지를 끝냄
+        // (작성자 위치는 방금 반환한 트윗으로 남아 다음 페이지에서 이어서 조회)
+        log.warn("작성자 다음 페이지 조회 실패, 부분 응답 - authorId: {}, error: {}",
+            head.stream().getAuthorId(), e.getMessage());
+        partial = true;
+        break;
+      }
+      if (next != null) {
+        heap.add(new MergeHead(next, head.stream()));
       }
     }
 
-    // 시간순 정렬 (최신순) 후 제한된 개수만 반환
-    return allTweets.stream()
-        .sorted((t1, t2) -> t2.getKey().getCreatedAt().compareTo(t1.getKey().getCreatedAt()))
-        .limit(size)
-        .collect(Collectors.toList());
+    return new MergeResult(merged, authorPositions, partial || !heap.isEmpty(), partial);
+  }
+
+  private record MergeHead(TweetByUser tweet, AuthorTweetStream stream) {
   }
 
   /**
-   * 개별 사용자의 트윗 조회
+   * @param partial 작성자 다음 페이지 조회 실패로 병합을 중간에 멈춘 경우 true (hasMore도 true)
    */
-  private List<TweetByUser> fetchUserTweets(UUID userId, LocalDateTime lastTimestamp, int limit) {
-    try {
-      if (lastTimestamp == null) {
-        return tweetByUserRepository.findLatestTweets(userId)
-            .stream()
-            .limit(limit)
-            .collect(Collectors.toList());
-      } else {
-        return tweetByUserRepository.findTweetsWithCursor(userId, lastTimestamp)
-            .stream()
-            .limit(limit)
-            .collect(Collectors.toList());
-      }
-    } catch (Exception e) {
-      log.error("사용자 트윗 조회 실패 - userId: {}", userId, e);
-      return new ArrayList<>();
+  private record MergeResult(List<TweetByUser> tweets, Map<UUID, TimelineCursor> authorPositions, boolean hasMore,
+                             boolean partial) {
+  }
+
+  /**
+   * 작성자 페이지 조회 키 (boundary 이하 조회 또는 (created_at, tweet_id) 위치 이후 조회)
+   */
+  private record AuthorPageKey(UUID authorId, LocalDateTime boundary, TimelineCursor position, int size) {
+  }
+
+  /**
+   * 병합 커서 기준 작성자의 첫 페이지 조회
+   * - 커서 없음: 작성자 head 캐시
+   * - 이전 페이지에 등장한 작성자: 마지막 (created_at, tweet_id) 이후
+   * - 그 외 작성자: boundary 이하
+   * - 조회 실패는 그대로 전파하여 빈 작성자가 아닌 열지 못한 작성자(partial)로 처리
+   */
+  private List<TweetByUser> fetchFirstPage(UUID authorId, TimelineMergeCursor cursor, int pageSize, long deadlineNanos) {
+    if (cursor == null) {
+      return authorRecentTweetsCache.getLatest(authorId, pageSize);
     }
+    TimelineCursor position = cursor.positionFor(authorId);
+    if (position != null) {
+      return authorPageFlight.execute(new AuthorPageKey(authorId, null, position, pageSize),
+          () -> tweetByUserRepository.findTweetsAfter(authorId, position.createdAt(), position.tweetId(), pageSize,
+              CassandraPaging.pageOf(pageSize, remainingUntil(deadlineNanos))));
+    }
+    LocalDateTime boundary = cursor.boundaryUpperBound();
+    return authorPageFlight.execute(new AuthorPageKey(authorId, boundary, null, pageSize),
+        () -> tweetByUserRepository.findTweetsWithCursor(authorId, boundary, pageSize,
+            CassandraPaging.pageOf(pageSize, remainingUntil(deadlineNanos))));
+  }
+
+  /**
+   * deadline까지 남은 시간 (드라이버 타임아웃은 양수여야 하므로 최소 1ms)
+   */
+  private static Duration remainingUntil(long deadlineNanos) {
+    return Duration.ofNanos(Math.max(TimeUnit.MILLISECONDS.toNanos(1), deadlineNanos - System.nanoTime()));
+  }
+
+  /**
+   * 개별 사용자의 트윗 한 페이지 조회 (최대 pageSize개)
+   * - 최신 페이지는 작성자 head 캐시에서 제공 (모든 조회자가 공유)
+   * - 이후 페이지는 같은 위치의 동시 조회를 single-flight로 병합
+   * - 조회 실패는 빈 페이지(소진)로 바꾸지 않고 전파하여 병합을 부분 응답으로 멈춤
+   */
+  private List<TweetByUser> fetchUserTweets(UUID userId, TimelineCursor cursor, int pageSize) {
+    return cursor == null
+        ? authorRecentTweetsCache.getLatest(userId, pageSize)
+        : authorPageFlight.execute(new AuthorPageKey(userId, null, cursor, pageSize),
+            () -> tweetByUserRepository.findTweetsAfter(userId, cursor.createdAt(), cursor.tweetId(), pageSize));
   }
 
   /**
    * 사용자의 개인 트윗 목록 조회 (기존과 동일)
    */
-  public TweetListResponse getUserTweets(UUID userId, LocalDateTime lastTimestamp, int size) {
-    size = Math.min(size, 50);
+  public TweetListResponse getUserTweets(UUID userId, TimelineCursor cursor, int size) {
+    // 크기 제한 (DoS 방지), 요청 크기만큼만 조회
+    size = CassandraPaging.clamp(size);
 
     List<com.example.demo.domain.tweet.entity.TweetByUser> tweets;
 
-    if (lastTimestamp == null) {
-      tweets = tweetByUserRepository.findLatestTweets(userId)
-          .stream()
-          .limit(size)
-          .collect(Collectors.toList());
+    if (cursor == null) {
+      tweets = authorRecentTweetsCache.getLatest(userId, size);
     } else {
-      tweets = tweetByUserRepository.findTweetsWithCursor(userId, lastTimestamp)
-          .stream()
-          .limit(size)
-          .collect(Collectors.toList());
+      int limit = size;
+      tweets = authorPageFlight.execute(new AuthorPageKey(userId, null, cursor, limit),
+          () -> tweetByUserRepository.findTweetsAfter(userId, cursor.createdAt(), cursor.tweetId(), limit));
     }
 
     List<TweetResponse> tweetResponses = tweets.stream()
@@ -221,8 +371,9 @@ public class TweetFanoutOnReadService {
         ))
         .collect(Collectors.toList());
 
-    LocalDateTime nextCursor = tweets.isEmpty() ? null
-        : tweets.get(tweets.size() - 1).getKey().getCreatedAt();
+    String nextCursor = tweets.isEmpty() ? null
+        : TimelineCursor.encodeLast(tweets.get(tweets.size() - 1).getKey().getCreatedAt(),
+            tweets.get(tweets.size() - 1).getKey().getTweetId());
 
     return new TweetListResponse(tweetResponses, nextCursor, tweets.size() == size);
   }
@@ -231,7 +382,10 @@ public class TweetFanoutOnReadService {
    * 특정 트윗 단건 조회
    */
   public TweetResponse getTweet(UUID tweetId) {
-    Tweet tweet = tweetRepository.findById(tweetId)
+    // L1(Caffeine) → L2(Redis) → Cassandra 순으로 조회
+    // 삭제 직후 캐시에 남은 본문은 삭제 트윗 목록으로 한 번 더 걸러냄
+    Tweet tweet = tweetBodyCache.get(tweetId)
+        .filter(found -> !deletedTweetRegistry.isDeleted(tweetId))
         .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 트윗입니다"));
 
     return TweetResponse.of(tweet);
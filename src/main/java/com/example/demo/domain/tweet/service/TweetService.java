@@ -1,11 +1,17 @@
 package com.example.demo.domain.tweet.service;
 
-import com.example.demo.domain.follow.FollowRepository;
-import com.example.demo.domain.follow.FollowersByUser;
+import com.example.demo.domain.celebrity.service.CelebrityService;
+import com.example.demo.domain.follow.service.FollowerPageReader;
+import com.example.demo.domain.follow.service.FollowerPageReader.FollowerPage;
 import com.example.demo.domain.timeline.UserTimeline;
-import com.example.demo.domain.timeline.UserTimelineRepository;
+import com.example.demo.domain.timeline.cache.TimelineCache;
 import com.example.demo.domain.tweet.entity.Tweet;
 import com.example.demo.domain.tweet.entity.TweetByUser;
+import com.example.demo.domain.tweet.cache.AuthorRecentTweetsCache;
+import com.example.demo.domain.tweet.cache.TweetBodyCache;
+import com.example.demo.domain.tweet.delete.DeletedTweetRegistry;
+import com.example.demo.domain.tweet.delete.TweetDeletePublisher;
+import com.example.demo.domain.tweet.fanout.FanoutJobPublisher;
 import com.example.demo.domain.tweet.repository.TweetByUserRepository;
 import com.example.demo.domain.tweet.repository.TweetRepository;
 import com.example.demo.domain.tweet.request.CreateTweetRequest;
@@ -14,13 +20,20 @@ import com.example.demo.domain.tweet.response.TweetListResponse;
 import com.example.demo.domain.tweet.dto.FanoutRetryMessage;
 import com.example.demo.rabbitmq.RabbitMqService;
 import com.example.demo.util.UUID.UUIDUtil;
+import com.example.demo.util.cassandra.CassandraPaging;
+import com.example.demo.util.concurrent.SingleFlight;
+import com.example.demo.util.cursor.TimelineCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.InsertOptions;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -30,6 +43,7 @@ import java.util.stream.Collectors;
  * 핵심 기능:
  * - 트윗 생성 + Fan-out-on-write 전략
  * - 사용자별 트윗 조회 (커서 기반 페이지네이션)
+ * - 트윗 삭제 (원본 동기 삭제 + 팔로워 타임라인 비동기 정리)
  * - 재시도 메커니즘으로 안정성 보장
  * - 300M DAU 대응 성능 최적화
  */
@@ -40,9 +54,29 @@ public class TweetService {
 
     private final TweetRepository tweetRepository;
     private final TweetByUserRepository tweetByUserRepository;
-    private final FollowRepository followRepository;
-    private final UserTimelineRepository userTimelineRepository;
+    private final FollowerPageReader followerPageReader;
+    private final CassandraOperations cassandraOperations;
+    // 타임라인 쓰기 공통 옵션 (ConsistencyLevel ONE, 행 TTL)
+    private final InsertOptions timelineWriteOptions;
     private final RabbitMqService rabbitMqService;
+    private final CelebrityService celebrityService;
+    private final TimelineCache timelineCache;
+    private final FanoutJobPublisher fanoutJobPublisher;
+    private final DeletedTweetRegistry deletedTweetRegistry;
+    private final TweetDeletePublisher tweetDeletePublisher;
+    private final TweetBodyCache tweetBodyCache;
+    private final AuthorRecentTweetsCache authorRecentTweetsCache;
+
+    // 동기 Fan-out 시 한 번에 조회/저장할 팔로워 수
+    @Value("${fanout.page-size:1000}")
+    private int fanoutPageSize;
+
+    // 참조형 타임라인 행 저장 여부 (본문은 조회 시 TweetBodyCache로 hydration)
+    @Value("${timeline.reference-mode:false}")
+    private boolean referenceMode;
+
+    // 같은 (사용자, 커서, 크기)의 동시 조회는 Cassandra 조회 한 번을 공유
+    private final SingleFlight<UserTweetsKey, List<TweetByUser>> userTweetsFlight = new SingleFlight<>();
 
     /**
      * 새 트윗 생성 + Fan-out-on-write
@@ -75,14 +109,22 @@ public class TweetService {
                 .createdAt(now)
                 .build();
         tweetByUserRepository.save(tweetByUser);
+        authorRecentTweetsCache.prepend(tweetByUser);
 
-        // 3. Fan-out 시도 (실패해도 트윗 생성은 성공)
+        // 3. Fan-out 작업 발행 후 즉시 반환 (팔로워 전달은 FanoutJobConsumer 에서 비동기 처리)
         try {
-            fanOutToFollowers(userId, tweetId, request.getContent(), now);
+            fanoutJobPublisher.publish(userId, tweetId, request.getContent(), now);
         } catch (Exception e) {
-            log.warn("Fan-out 실패, 재시도 큐로 전송 - userId: {}, tweetId: {}, error: {}", 
+            // 브로커 장애 시에는 기존 동기 Fan-out으로 대체 (실패하면 재시도 큐)
+            log.warn("Fan-out 작업 발행 실패, 동기 Fan-out으로 대체 - userId: {}, tweetId: {}, error: {}",
                     userId, tweetId, e.getMessage());
-            sendToRetryQueue(userId, tweetId, request.getContent(), now, 0);
+            try {
+                fanOutToFollowers(userId, tweetId, request.getContent(), now);
+            } catch (Exception fanoutError) {
+                log.warn("Fan-out 실패, 재시도 큐로 전송 - userId: {}, tweetId: {}, error: {}",
+                        userId, tweetId, fanoutError.getMessage());
+                sendToRetryQueue(userId, tweetId, request.getContent(), now, 0);
+            }
         }
 
         log.info("트윗 생성 완료 - userId: {}, tweetId: {}", userId, tweetId);
@@ -94,38 +136,47 @@ public class TweetService {
      * 팔로워들의 타임라인에 새 트윗 복사 (Fan-out-on-write)
      */
     private void fanOutToFollowers(UUID authorId, UUID tweetId, String tweetText, LocalDateTime createdAt) {
-        // 1. 팔로워 목록 조회
-        List<UUID> followerIds = followRepository.findByKeyFollowedUserId(authorId)
-                .stream()
-                .map(follower -> follower.getKey().getFollowerId())
-                .toList();
-
-        if (followerIds.isEmpty()) {
-            log.debug("팔로워 없음 - authorId: {}", authorId);
+        // 0. 이미 셀럽으로 등록된 작성자는 팔로워 조회 없이 celebrity_tweets에만 저장
+        if (celebrityService.isCelebrity(authorId)) {
+            celebrityService.saveCelebrityTweet(authorId, tweetId, tweetText, createdAt);
             return;
         }
 
-        // 2. Celebrity 사용자 체크 (팔로워 1000명 이상)
-//        if (followerIds.size() > 1000) {
-//            log.info("Celebrity 사용자 Fan-out - authorId: {}, 팔로워 수: {}", authorId, followerIds.size());
-//            // 향후 Hybrid Fan-out 전략 적용 예정
-//        }
-
-        // 3. 각 팔로워의 타임라인에 트윗 추가
-        List<UserTimeline> timelineEntries = followerIds.stream()
-                .map(followerId -> UserTimeline.builder()
-                        .followerId(followerId)
-                        .tweetId(tweetId)
-                        .authorId(authorId)
-                        .tweetText(tweetText)
-                        .createdAt(createdAt)  // 원본 시간 사용 (중복 방지)
-                        .build())
-                .collect(Collectors.toList());
-
-        // 4. 배치 저장 (성능 최적화)
-        userTimelineRepository.saveAll(timelineEntries);
-        
-        log.info("Fan-out 완료 - authorId: {}, 팔로워 수: {}", authorId, followerIds.size());
+        // 1. 팔로워를 페이지 단위로 조회하며 페이지마다 바로 저장 (전체 팔로워를 메모리에 올리지 않음)
+        String pagingState = null;
+        long fannedOut = 0;
+        do {
+            FollowerPage page = followerPageReader.readPage(authorId, pagingState, fanoutPageSize);
+            List<UUID> followerIds = page.followerIds();
+            fannedOut += followerIds.size();
+
+            // 2. Celebrity 사용자 체크 (누적 팔로워 수가 임계치 이상이면 나머지는 Push 대신 Pull)
+            if (celebrityService.promoteIfOverThreshold(authorId, fannedOut)) {
+                celebrityService.saveCelebrityTweet(authorId, tweetId, tweetText, createdAt);
+                return;
+            }
+
+            // 3. 이 페이지 팔로워들의 타임라인에 트윗 추가
+            List<UserTimeline> timelineEntries = followerIds.stream()
+                    .map(followerId -> UserTimeline.builder()
+                            .followerId(followerId)
+                            .tweetId(tweetId)
+                            .authorId(authorId)
+                            .tweetText(referenceMode ? null : tweetText)  // null 컬럼은 INSERT에서 제외됨
+                            .createdAt(createdAt)  // 원본 시간 사용 (중복 방지)
+                            .build())
+                    .collect(Collectors.toList());
+
+            // 4. 저장 (timelineWriteOptions의 ConsistencyLevel/TTL 적용)
+            timelineEntries.forEach(entry -> cassandraOperations.insert(entry, timelineWriteOptions));
+
+            // 5. 활성 팔로워의 Hot 타임라인 캐시 갱신
+            timelineCache.push(followerIds, tweetId, authorId, tweetText, createdAt);
+
+            pagingState = page.nextPagingState();
+        } while (pagingState != null);
+
+        log.info("Fan-out 완료 - authorId: {}, 팔로워 수: {}", authorId, fannedOut);
     }
 
     /**
@@ -159,26 +210,59 @@ public class TweetService {
         }
     }
 
+    /**
+     * 트윗 삭제
+     *
+     * 1. 삭제 트윗 목록에 등록 (정리 완료 전까지 타임라인 조회에서 숨김)
+     * 2. 원본(tweets)과 작성자 트윗 목록(tweets_by_user) 행을 동기 삭제
+     * 3. 팔로워 타임라인 정리 작업만 발행하고 반환 (팔로워 수와 무관하게 응답 시간 일정)
+     *
+     * @return 삭제 여부 (트윗이 없거나 작성자가 아니면 false)
+     */
+    public boolean deleteTweet(UUID userId, UUID tweetId) {
+        Optional<Tweet> tweet = tweetRepository.findById(tweetId);
+        if (tweet.isEmpty() || !tweet.get().getUserId().equals(userId)) {
+            return false;
+        }
+
+        // tweets 테이블에는 created_at이 없으므로 작성자 파티션에서 클러스터링 키 확인
+        Optional<TweetByUser> tweetByUser = tweetByUserRepository.findByUserIdAndTweetId(userId, tweetId);
+
+        deletedTweetRegistry.markDeleted(tweetId);
+        tweetRepository.deleteById(tweetId);
+        tweetBodyCache.evict(tweetId);
+        timelineCache.removeEntry(tweetId);
+
+        if (tweetByUser.isEmpty()) {
+            log.warn("작성자 트윗 행이 없어 타임라인 정리 생략 - userId: {}, tweetId: {}", userId, tweetId);
+            return true;
+        }
+        tweetByUserRepository.delete(tweetByUser.get());
+        authorRecentTweetsCache.evict(userId);
+
+        LocalDateTime createdAt = tweetByUser.get().getKey().getCreatedAt();
+        try {
+            tweetDeletePublisher.publish(userId, tweetId, createdAt);
+        } catch (Exception e) {
+            // 정리 작업이 발행되지 않으면 tombstone 이 만료되지 않고 남아 팔로워 타임라인에서 계속 숨김
+            log.error("트윗 삭제 정리 작업 발행 실패 - userId: {}, tweetId: {}", userId, tweetId, e);
+        }
+
+        log.info("트윗 삭제 완료 - userId: {}, tweetId: {}", userId, tweetId);
+        return true;
+    }
+
     /**
      * 사용자의 트윗 목록 조회 (커서 기반 페이지네이션)
      */
-    public TweetListResponse getUserTweets(UUID userId, LocalDateTime lastTimestamp, int size) {
-        // 크기 제한 (DoS 방지)
-        size = Math.min(size, 50);
+    public TweetListResponse getUserTweets(UUID userId, TimelineCursor cursor, int size) {
+        // 크기 제한 (DoS 방지), 요청 크기만큼만 조회
+        int limit = CassandraPaging.clamp(size);
         
-        List<TweetByUser> tweets;
-        
-        if (lastTimestamp == null) {
-            tweets = tweetByUserRepository.findLatestTweets(userId)
-                .stream()
-                .limit(size)
-                .collect(Collectors.toList());
-        } else {
-            tweets = tweetByUserRepository.findTweetsWithCursor(userId, lastTimestamp)
-                .stream()
-                .limit(size)
-                .collect(Collectors.toList());
-        }
+        List<TweetByUser> tweets = userTweetsFlight.execute(new UserTweetsKey(userId, cursor, limit), () ->
+                cursor == null
+                        ? authorRecentTweetsCache.getLatest(userId, limit)
+                        : tweetByUserRepository.findTweetsAfter(userId, cursor.createdAt(), cursor.tweetId(), limit));
         
         List<TweetResponse> tweetResponses = tweets.stream()
             .map(tweet -> new TweetResponse(
@@ -189,9 +273,13 @@ public class TweetService {
             ))
             .collect(Collectors.toList());
         
-        LocalDateTime nextCursor = tweets.isEmpty() ? null 
-            : tweets.get(tweets.size() - 1).getKey().getCreatedAt();
+        String nextCursor = tweets.isEmpty() ? null
+            : TimelineCursor.encodeLast(tweets.get(tweets.size() - 1).getKey().getCreatedAt(),
+                tweets.get(tweets.size() - 1).getKey().getTweetId());
             
-        return new TweetListResponse(tweetResponses, nextCursor, tweets.size() == size);
+        return new TweetListResponse(tweetResponses, nextCursor, tweets.size() == limit);
+    }
+
+    private record UserTweetsKey(UUID userId, TimelineCursor cursor, int size) {
     }
 }
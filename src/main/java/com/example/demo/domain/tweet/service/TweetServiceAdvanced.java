@@ -1,13 +1,15 @@
 package com.example.demo.domain.tweet.service;
 
-import com.datastax.oss.driver.api.core.cql.BatchStatement;
-import com.datastax.oss.driver.api.core.cql.BatchType;
-import com.example.demo.domain.follow.FollowRepository;
-import com.example.demo.domain.follow.FollowersByUser;
-import com.example.demo.domain.timeline.UserTimeline;
+import com.example.demo.domain.celebrity.service.CelebrityService;
+import com.example.demo.domain.follow.service.FollowerPageReader;
+import com.example.demo.domain.follow.service.FollowerPageReader.FollowerPage;
 import com.example.demo.domain.timeline.UserTimelineRepository;
+import com.example.demo.domain.timeline.cache.TimelineCache;
+import com.example.demo.domain.timeline.writer.TimelineFanoutWriter;
+import com.example.demo.domain.tweet.cache.AuthorRecentTweetsCache;
 import com.example.demo.domain.tweet.entity.Tweet;
 import com.example.demo.domain.tweet.entity.TweetByUser;
+import com.example.demo.domain.tweet.fanout.FanoutJobPublisher;
 import com.example.demo.domain.tweet.repository.TweetByUserRepository;
 import com.example.demo.domain.tweet.repository.TweetRepository;
 import com.example.demo.domain.tweet.request.CreateTweetRequest;
@@ -16,23 +18,19 @@ import com.example.demo.domain.tweet.response.TweetListResponse;
 import com.example.demo.domain.tweet.dto.FanoutRetryMessage;
 import com.example.demo.rabbitmq.RabbitMqService;
 import com.example.demo.util.UUID.UUIDUtil;
+import com.example.demo.util.cassandra.CassandraPaging;
+import com.example.demo.util.cursor.TimelineCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.cassandra.core.CassandraTemplate;
-import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.query.Criteria;
 import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
-import java.util.ArrayList;
 
 import static org.springframework.data.cassandra.core.query.Query.query;
 import static org.springframework.data.cassandra.core.query.Criteria.where;
@@ -41,10 +39,10 @@ import static org.springframework.data.cassandra.core.query.Criteria.where;
  * 카산드라 최적화된 트윗 서비스
  * 
  * 핵심 최적화:
- * 1. 배치 처리 (1000개씩 분할)
- * 2. 비동기 병렬 처리 (CompletableFuture)
+ * 1. 파티션별 단건 비동기 INSERT (다중 파티션 배치 제거)
+ * 2. Prepared Statement + token-aware 라우팅
  * 3. ConsistencyLevel ONE 적용
- * 4. CassandraTemplate batchOps() 사용
+ * 4. in-flight 요청 수 제한 (TimelineFanoutWriter)
  * 
  * 예상 성능: 10,000명 팬아웃 16초 → 1-2초
  */
@@ -55,22 +53,18 @@ public class TweetServiceAdvanced {
 
     private final TweetRepository tweetRepository;
     private final TweetByUserRepository tweetByUserRepository;
-    private final FollowRepository followRepository;
+    private final AuthorRecentTweetsCache authorRecentTweetsCache;
+    private final FollowerPageReader followerPageReader;
     private final UserTimelineRepository userTimelineRepository;
     private final RabbitMqService rabbitMqService;
-    private final CassandraTemplate cassandraTemplate;
-    
-    @Qualifier("timelineWriteOptions")
-    private final WriteOptions timelineWriteOptions;
-    
-    @Qualifier("batchWriteOptions")
-    private final WriteOptions batchWriteOptions;
+    private final CelebrityService celebrityService;
+    private final TimelineCache timelineCache;
+    private final FanoutJobPublisher fanoutJobPublisher;
+    private final TimelineFanoutWriter timelineFanoutWriter;
 
-    // 배치 크기 (카산드라 실제 제한 고려: 50-100개가 안전)
-    private static final int BATCH_SIZE = 100;
-    
-    // 고정 ThreadPool로 병렬도 제어 (CPU 코어 수의 2배 권장)
-    private final ExecutorService batchExecutor = Executors.newFixedThreadPool(8);
+    // 동기 Fan-out 시 한 번에 조회/저장할 팔로워 수
+    @Value("${fanout.page-size:1000}")
+    private int fanoutPageSize;
 
     /**
      * 새 트윗 생성 + 최적화된 Fan-out-on-write
@@ -102,14 +96,22 @@ public class TweetServiceAdvanced {
                 .createdAt(now)
                 .build();
         tweetByUserRepository.save(tweetByUser);
+        authorRecentTweetsCache.prepend(tweetByUser);
 
-        // 3. 최적화된 Fan-out 시도
+        // 3. Fan-out 작업 발행 후 즉시 반환 (팔로워 전달은 FanoutJobConsumer 에서 비동기 처리)
         try {
-            optimizedFanOutToFollowers(userId, tweetId, request.getContent(), now);
+            fanoutJobPublisher.publish(userId, tweetId, request.getContent(), now);
         } catch (Exception e) {
-            log.warn("Fan-out 실패, 재시도 큐로 전송 - userId: {}, tweetId: {}, error: {}", 
+            // 브로커 장애 시에는 기존 동기 Fan-out으로 대체 (실패하면 재시도 큐)
+            log.warn("Fan-out 작업 발행 실패, 동기 Fan-out으로 대체 - userId: {}, tweetId: {}, error: {}",
                     userId, tweetId, e.getMessage());
-            sendToRetryQueue(userId, tweetId, request.getContent(), now, 0);
+            try {
+                optimizedFanOutToFollowers(userId, tweetId, request.getContent(), now);
+            } catch (Exception fanoutError) {
+                log.warn("Fan-out 실패, 재시도 큐로 전송 - userId: {}, tweetId: {}, error: {}",
+                        userId, tweetId, fanoutError.getMessage());
+                sendToRetryQueue(userId, tweetId, request.getContent(), now, 0);
+            }
         }
 
         log.info("트윗 생성 완료 - userId: {}, tweetId: {}", userId, tweetId);
@@ -121,88 +123,49 @@ public class TweetServiceAdvanced {
      * 🚀 최적화된 팔로워 타임라인 Fan-out
      * 
      * 최적화 포인트:
-     * 1. 배치 처리: 1000개씩 분할
-     * 2. 비동기 병렬 처리: CompletableFuture
-     * 3. 진짜 배치 Statement 사용
+     * 1. 다중 파티션 배치 대신 팔로워(파티션)별 단건 비동기 INSERT
+     * 2. Prepared Statement 재사용 + token-aware 라우팅
+     * 3. Semaphore 기반 in-flight 제한 (TimelineFanoutWriter)
      * 4. ConsistencyLevel ONE 적용
      */
     private void optimizedFanOutToFollowers(UUID authorId, UUID tweetId, String tweetText, LocalDateTime createdAt) {
         long startTime = System.currentTimeMillis();
-        
-        // 1. 팔로워 목록 조회
-        List<UUID> followerIds = followRepository.findByKeyFollowedUserId(authorId)
-                .stream()
-                .map(follower -> follower.getKey().getFollowerId())
-                .toList();
 
-        if (followerIds.isEmpty()) {
-            log.debug("팔로워 없음 - authorId: {}", authorId);
+        // 0. 셀럽은 팔로워 조회 없이 celebrity_tweets에만 저장 (Hybrid Fan-out)
+        if (celebrityService.isCelebrity(authorId)) {
+            celebrityService.saveCelebrityTweet(authorId, tweetId, tweetText, createdAt);
             return;
         }
-
-        log.info("최적화된 Fan-out 시작 - authorId: {}, 팔로워 수: {}", authorId, followerIds.size());
-
-        // 2. UserTimeline 엔티티 생성
-        List<UserTimeline> timelineEntries = followerIds.stream()
-                .map(followerId -> UserTimeline.builder()
-                        .followerId(followerId)
-                        .tweetId(tweetId)
-                        .authorId(authorId)
-                        .tweetText(tweetText)
-                        .createdAt(createdAt)
-                        .build())
-                .collect(Collectors.toList());
-
-        // 3. 배치 처리 + 비동기 병렬 실행
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
-        
-        for (int i = 0; i < timelineEntries.size(); i += BATCH_SIZE) {
-            int end = Math.min(i + BATCH_SIZE, timelineEntries.size());
-            List<UserTimeline> batch = timelineEntries.subList(i, end);
-            int batchNumber = (i / BATCH_SIZE) + 1;
-            
-            CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                processBatch(batch, batchNumber);
-            }, batchExecutor);
-            futures.add(future);
-        }
-        
-        // 4. 모든 배치 완료 대기
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
         
+        // 1. 팔로워를 페이지 단위로 조회하며 페이지마다 바로 저장 (메모리에는 한 페이지만 유지)
+        String pagingState = null;
+        long fannedOut = 0;
+        int written = 0;
+        do {
+            FollowerPage page = followerPageReader.readPage(authorId, pagingState, fanoutPageSize);
+            List<UUID> followerIds = page.followerIds();
+            fannedOut += followerIds.size();
+
+            // 누적 팔로워 수가 임계치 이상이면 셀럽으로 승격하고 나머지 Push 생략
+            if (celebrityService.promoteIfOverThreshold(authorId, fannedOut)) {
+                celebrityService.saveCelebrityTweet(authorId, tweetId, tweetText, createdAt);
+                return;
+            }
+
+            // 2. 팔로워별 단건 비동기 INSERT (prepared statement, token-aware, in-flight 제한)
+            written += timelineFanoutWriter.writeAll(followerIds, tweetId, authorId, tweetText, createdAt).join();
+
+            // 3. 활성 팔로워의 Hot 타임라인 캐시 갱신
+            timelineCache.push(followerIds, tweetId, authorId, tweetText, createdAt);
+
+            pagingState = page.nextPagingState();
+        } while (pagingState != null);
+
         long endTime = System.currentTimeMillis();
         long elapsedTime = endTime - startTime;
         
-        log.info("최적화된 Fan-out 완료 - authorId: {}, 팔로워 수: {}, 소요시간: {}ms, 배치 수: {}", 
-                authorId, followerIds.size(), elapsedTime, futures.size());
-    }
-
-    /**
-     * 개별 배치 처리 (CassandraTemplate.batchOps() 네이티브 배치 사용)
-     * 
-     * 🚀 최적화 포인트:
-     * 1. Spring Data saveAll() → CassandraTemplate.batchOps().insert()
-     * 2. 진짜 Cassandra BatchStatement 생성 (순차 insert X)
-     * 3. ConsistencyLevel ONE 적용으로 빠른 쓰기
-     * 4. 고정 ThreadPool로 병렬도 제어
-     */
-    private void processBatch(List<UserTimeline> batch, int batchNumber) {
-        long batchStartTime = System.currentTimeMillis();
-        
-        try {
-            // 🚀 CassandraTemplate 네이티브 배치 처리
-            cassandraTemplate.batchOps()
-                    .insert(batch, batchWriteOptions)
-                    .execute();
-            
-            long batchEndTime = System.currentTimeMillis();
-            log.debug("🚀 네이티브 배치 #{} 완료 - 크기: {}, 소요시간: {}ms", 
-                    batchNumber, batch.size(), (batchEndTime - batchStartTime));
-                    
-        } catch (Exception e) {
-            log.error("❌ 배치 #{} 실패 - 크기: {}, error: {}", batchNumber, batch.size(), e.getMessage(), e);
-            throw e;
-        }
+        log.info("최적화된 Fan-out 완료 - authorId: {}, 팔로워 수: {}, 저장 수: {}, 소요시간: {}ms",
+                authorId, fannedOut, written, elapsedTime);
     }
 
     /**
@@ -239,22 +202,16 @@ public class TweetServiceAdvanced {
     /**
      * 사용자의 트윗 목록 조회 (기존 로직과 동일)
      */
-    public TweetListResponse getUserTweets(UUID userId, LocalDateTime lastTimestamp, int size) {
-        // 크기 제한 (DoS 방지)
-        size = Math.min(size, 50);
+    public TweetListResponse getUserTweets(UUID userId, TimelineCursor cursor, int size) {
+        // 크기 제한 (DoS 방지), 요청 크기만큼만 조회
+        size = CassandraPaging.clamp(size);
         
         List<TweetByUser> tweets;
         
-        if (lastTimestamp == null) {
-            tweets = tweetByUserRepository.findLatestTweets(userId)
-                .stream()
-                .limit(size)
-                .collect(Collectors.toList());
+        if (cursor == null) {
+            tweets = authorRecentTweetsCache.getLatest(userId, size);
         } else {
-            tweets = tweetByUserRepository.findTweetsWithCursor(userId, lastTimestamp)
-                .stream()
-                .limit(size)
-                .collect(Collectors.toList());
+            tweets = tweetByUserRepository.findTweetsAfter(userId, cursor.createdAt(), cursor.tweetId(), size);
         }
         
         List<TweetResponse> tweetResponses = tweets.stream()
@@ -266,8 +223,9 @@ public class TweetServiceAdvanced {
             ))
             .collect(Collectors.toList());
         
-        LocalDateTime nextCursor = tweets.isEmpty() ? null 
-            : tweets.get(tweets.size() - 1).getKey().getCreatedAt();
+        String nextCursor = tweets.isEmpty() ? null
+            : TimelineCursor.encodeLast(tweets.get(tweets.size() - 1).getKey().getCreatedAt(),
+                tweets.get(tweets.size() - 1).getKey().getTweetId());
             
         return new TweetListResponse(tweetResponses, nextCursor, tweets.size() == size);
     }
@@ -0,0 +1,226 @@
+package com.example.demo.domain.user.service;
+
+import com.example.demo.config.DataSourceConfig;
+import com.example.demo.domain.user.UserRepository;
+import com.example.demo.util.ShardUtil;
+import com.example.demo.util.bloom.UuidBloomFilter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자 존재 여부 확인 (follow/unfollow 검증용)
+ *
+ * 1. user 테이블(shard0) 전체 user_id로 만든 Bloom Filter 조회 → 음성이면 I/O 없이 "없음"
+ * 2. 양성(존재 가능)이면 확인된 사용자 LRU 캐시 조회
+ * 3. 캐시 miss인 경우에만 MySQL findById (오탐 확인)
+ *
+ * - 새 사용자는 생성 시 register()로 즉시 반영하고 Redis Pub/Sub로 모든 인스턴스의 필터에 전파 (증분 갱신)
+ *   (음성을 DB 확인 없이 "없음"으로 처리하므로, 다른 인스턴스에서 방금 가입한 사용자도 바로 양성이어야 함)
+ * - 주기적으로 전체 재구성하여 전파 메시지 유실분 반영 및 예상 크기 재조정
+ * - 첫 구성 완료 전에는 기존과 동일하게 MySQL 조회
+ */
+@Slf4j
+@Service
+public class UserExistenceService implements MessageListener {
+
+  public static final String REGISTRATION_CHANNEL = "user:bloom:register";
+  private static final String SELECT_USER_IDS =
+      "SELECT user_id FROM user WHERE user_id > ? ORDER BY user_id LIMIT ?";
+
+  private final UserRepository userRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final StringRedisTemplate redisTemplate;
+
+  // 최소 예상 사용자 수 (실제 사용자 수 × 2와 비교해 큰 값으로 생성 → 재구성 전까지 증가분 수용)
+  @Value("${user.bloom.expected-users:1000000}")
+  private long minExpectedUsers;
+
+  @Value("${user.bloom.fpp:0.01}")
+  private double fpp;
+
+  // 재구성 시 user_id 조회 페이지 크기
+  @Value("${user.bloom.load-page-size:10000}")
+  private int loadPageSize;
+
+  private final Map<UUID, Boolean> confirmedUsers;
+
+  private volatile UuidBloomFilter filter;
+  // 재구성 중 생성된 사용자를 새 필터에도 반영하기 위한 참조
+  private volatile UuidBloomFilter building;
+
+  public UserExistenceService(
+      UserRepository userRepository,
+      JdbcTemplate jdbcTemplate,
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${user.bloom.confirmed-cache-size:100000}") int confirmedCacheSize) {
+    this.userRepository = userRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.redisTemplate = redisTemplate;
+    this.confirmedUsers = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+        return size() > confirmedCacheSize;
+      }
+    });
+    listenerContainer.addMessageListener(this, new ChannelTopic(REGISTRATION_CHANNEL));
+  }
+
+  /**
+   * 사용자 존재 여부
+   */
+  public boolean exists(UUID userId) {
+    UuidBloomFilter current = filter;
+    if (current != null && !current.mightContain(userId)) {
+      return false;
+    }
+    if (confirmedUsers.containsKey(userId)) {
+      return true;
+    }
+
+    boolean exists = userRepository.findById(userId).isPresent();
+    if (exists) {
+      confirmedUsers.put(userId, Boolean.TRUE);
+    }
+    return exists;
+  }
+
+  /**
+   * 여러 사용자 존재 여부 일괄 확인
+   * - Bloom Filter 음성은 제외, 확인 캐시에 없는 나머지만 findAllById 한 번으로 조회
+   *
+   * @return 존재하는 사용자 ID
+   */
+  public Set<UUID> findExisting(Collection<UUID> userIds) {
+    UuidBloomFilter current = filter;
+    Set<UUID> existing = new HashSet<>();
+    List<UUID> unconfirmed = new ArrayList<>();
+    for (UUID userId : userIds) {
+      if (current != null && !current.mightContain(userId)) {
+        continue;
+      }
+      if (confirmedUsers.containsKey(userId)) {
+        existing.add(userId);
+      } else {
+        unconfirmed.add(userId);
+      }
+    }
+
+    if (!unconfirmed.isEmpty()) {
+      userRepository.findAllById(unconfirmed).forEach(user -> {
+        existing.add(user.getUserId());
+        confirmedUsers.put(user.getUserId(), Boolean.TRUE);
+      });
+    }
+    return existing;
+  }
+
+  /**
+   * 신규 사용자 반영 (사용자 생성 직후 호출, 다른 인스턴스에도 전파)
+   */
+  public void register(UUID userId) {
+    addToFilters(userId);
+    confirmedUsers.put(userId, Boolean.TRUE);
+    try {
+      redisTemplate.convertAndSend(REGISTRATION_CHANNEL, userId.toString());
+    } catch (Exception e) {
+      log.warn("신규 사용자 Bloom Filter 전파 실패, 다음 재구성 시 반영 - userId: {}, error: {}", userId, e.getMessage());
+    }
+  }
+
+  /**
+   * 다른 인스턴스(자신 포함)가 발행한 신규 사용자 메시지 처리
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      addToFilters(UUID.fromString(body));
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 신규 사용자 메시지 - body: {}", body);
+    }
+  }
+
+  /**
+   * 사용 중인 필터와 재구성 중인 필터 모두에 추가
+   */
+  private void addToFilters(UUID userId) {
+    UuidBloomFilter current = filter;
+    if (current != null) {
+      current.put(userId);
+    }
+    UuidBloomFilter next = building;
+    if (next != null) {
+      next.put(userId);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    rebuild();
+  }
+
+  /**
+   * user 테이블 전체로 Bloom Filter 재구성 후 교체
+   * - user_id keyset 페이지 단위로 읽어 메모리 사용량을 페이지 크기로 제한
+   * - 실패 시 기존 필터 유지
+   */
+  @Scheduled(fixedDelayString = "${user.bloom.rebuild-interval-ms:600000}",
+      initialDelayString = "${user.bloom.rebuild-interval-ms:600000}")
+  public synchronized void rebuild() {
+    long startTime = System.currentTimeMillis();
+    String previousShard = DataSourceConfig.getShard();
+    DataSourceConfig.setShard(ShardUtil.selectUserDataShardKey());
+    try {
+      Long userCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user", Long.class);
+      long expected = Math.max(minExpectedUsers, (userCount == null ? 0 : userCount) * 2);
+      UuidBloomFilter next = UuidBloomFilter.create(expected, fpp);
+      building = next;
+
+      long loaded = 0;
+      String lastUserId = "";
+      while (true) {
+        List<String> userIds = jdbcTemplate.queryForList(SELECT_USER_IDS, String.class, lastUserId, loadPageSize);
+        userIds.forEach(userId -> next.put(UUID.fromString(userId)));
+        loaded += userIds.size();
+        if (userIds.size() < loadPageSize) {
+          break;
+        }
+        lastUserId = userIds.get(userIds.size() - 1);
+      }
+
+      filter = next;
+      log.info("사용자 Bloom Filter 재구성 완료 - 사용자 수: {}, bits: {}, hashes: {}, 소요: {}ms",
+          loaded, next.bitCount(), next.hashCount(), System.currentTimeMillis() - startTime);
+    } catch (Exception e) {
+      log.warn("사용자 Bloom Filter 재구성 실패, 기존 필터 유지 - error: {}", e.getMessage());
+    } finally {
+      building = null;
+      if (previousShard != null) {
+        DataSourceConfig.setShard(previousShard);
+      } else {
+        DataSourceConfig.clearShard();
+      }
+    }
+  }
+}
@@ -16,6 +16,7 @@ import org.springframework.stereotype.Service;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserExistenceService userExistenceService;
 
     public CreateUserResponse create(CreatedUserRequest request) {
         User create = new User(
@@ -30,6 +31,7 @@ public class UserService {
         });
 
         User user = userRepository.save(create);
+        userExistenceService.register(user.getUserId());
 
         return new CreateUserResponse(user.getUserId());
     }
@@ -49,6 +51,7 @@ public class UserService {
                 throw new RuntimeException("Duplicated User UUID");
             });
             User user = userRepository.save(create);
+            userExistenceService.register(user.getUserId());
             return new CreateUserResponse(user.getUserId());
         } finally {
             DataSourceConfig.clearShard();
@@ -16,7 +16,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "user_timelines", indexes = {
-    @Index(name = "idx_timeline_follower_created", columnList = "follower_id, created_at DESC"),
+    @Index(name = "idx_timeline_follower_created", columnList = "follower_id, created_at DESC, tweet_id DESC"),
     @Index(name = "idx_timeline_author", columnList = "author_id"),
     @Index(name = "idx_timeline_tweet", columnList = "tweet_id")
 })
@@ -1,6 +1,8 @@
 package com.example.demo.domain2.timeline_r.repository;
 
 import com.example.demo.domain2.timeline_r.entity.UserTimeline;
+import com.example.demo.domain2.tweet_r.response.TweetResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,29 +14,44 @@ import java.util.UUID;
 
 /**
  * RDB 버전 사용자 타임라인 리포지토리
- * 커서 기반 페이지네이션 지원
+ * Keyset (created_at, tweet_id) 커서 기반 페이지네이션 지원
  */
 @Repository
 public interface RdbUserTimelineRepository extends JpaRepository<UserTimeline, Long> {
 
     /**
      * 팔로워의 최신 타임라인 조회 (첫 페이지)
-     * 
+     *
+     * - LIMIT을 SQL로 전달하고 엔티티 대신 응답 DTO로 바로 projection
+     *
      * @param followerId 팔로워 ID
+     * @param limit 조회할 최대 건수
      * @return 최신 타임라인 목록
      */
-    @Query("SELECT t FROM UserTimeline t WHERE t.followerId = :followerId ORDER BY t.createdAt DESC")
-    List<UserTimeline> findLatestTimeline(@Param("followerId") UUID followerId);
+    @Query("SELECT new com.example.demo.domain2.tweet_r.response.TweetResponse(t.tweetId, t.authorId, t.tweetText, t.createdAt) " +
+           "FROM UserTimeline t WHERE t.followerId = :followerId " +
+           "ORDER BY t.createdAt DESC, t.tweetId DESC")
+    List<TweetResponse> findLatestTimeline(@Param("followerId") UUID followerId, Limit limit);
 
     /**
-     * 커서 기반 타임라인 조회 (다음 페이지)
-     * 
+     * Keyset 기반 타임라인 조회 (다음 페이지)
+     *
+     * (created_at, tweet_id) < (cursorCreatedAt, cursorTweetId) 조건으로 같은 시간의 트윗도 누락 없이 이어서 조회
+     *
      * @param followerId 팔로워 ID
-     * @param cursor 마지막 트윗 시간
+     * @param cursorCreatedAt 마지막 트윗 시간
+     * @param cursorTweetId 마지막 트윗 ID
+     * @param limit 조회할 최대 건수
      * @return 타임라인 목록
      */
-    @Query("SELECT t FROM UserTimeline t WHERE t.followerId = :followerId AND t.createdAt < :cursor ORDER BY t.createdAt DESC")
-    List<UserTimeline> findTimelineWithCursor(@Param("followerId") UUID followerId, @Param("cursor") LocalDateTime cursor);
+    @Query("SELECT new com.example.demo.domain2.tweet_r.response.TweetResponse(t.tweetId, t.authorId, t.tweetText, t.createdAt) " +
+           "FROM UserTimeline t WHERE t.followerId = :followerId " +
+           "AND (t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.tweetId < :cursorTweetId)) " +
+           "ORDER BY t.createdAt DESC, t.tweetId DESC")
+    List<TweetResponse> findTimelineAfterKey(@Param("followerId") UUID followerId,
+                                             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                             @Param("cursorTweetId") UUID cursorTweetId,
+                                             Limit limit);
 
     /**
      * 특정 트윗을 특정 팔로워의 타임라인에서 삭제
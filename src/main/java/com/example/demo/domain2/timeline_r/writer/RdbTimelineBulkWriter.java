@@ -0,0 +1,130 @@
+package com.example.demo.domain2.timeline_r.writer;
+
+import com.example.demo.util.ShardTaskExecutor;
+import com.example.demo.util.ShardTaskExecutor.ShardTaskResult;
+import com.example.demo.util.ShardUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * RDB user_timelines Fan-out 전용 벌크 Writer
+ *
+ * 최적화 포인트:
+ * 1. 팔로워를 followerID 기준 샤드(shard1~3)로 그룹핑
+ * 2. IDENTITY 키 엔티티의 건별 JPA save 대신 multi-row INSERT (VALUES (...),(...)) 청크 단위 저장
+ *    → 청크당 한 번의 round trip
+ * 3. ShardTaskExecutor로 샤드별 전용 풀에서 병렬 실행 (라우팅 키 설정/복원, 샤드 단위 REQUIRES_NEW 트랜잭션)
+ *    → 한 샤드 실패가 다른 샤드 저장에 영향 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RdbTimelineBulkWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO user_timelines (follower_id, tweet_id, author_id, tweet_text, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardTaskExecutor shardTaskExecutor;
+
+    // INSERT 문 하나에 담을 최대 행 수 (max_allowed_packet 및 placeholder 한도 고려)
+    @Value("${fanout.rdb.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 팔로워들의 타임라인에 트윗 한 건 저장 (샤드별 병렬)
+     *
+     * - 모든 샤드 작업이 끝날 때까지 대기
+     * - 하나라도 실패한 샤드가 있으면 성공 건수를 포함한 IllegalStateException 발생
+     *
+     * @return 저장된 팔로워 수
+     */
+    public int writeAll(Collection<UUID> followerIds, UUID tweetId, UUID authorId,
+                        String tweetText, LocalDateTime createdAt) {
+        if (followerIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<UUID>> followersByShard = followerIds.stream()
+                .collect(Collectors.groupingBy(ShardUtil::selectTweetDataShardKeyByUserId,
+                        LinkedHashMap::new, Collectors.toList()));
+
+        Map<String, Supplier<Integer>> tasks = new LinkedHashMap<>();
+        followersByShard.forEach((shardKey, shardFollowers) -> tasks.put(shardKey,
+                () -> insertChunks(shardFollowers, tweetId, authorId, tweetText, createdAt)));
+
+        List<ShardTaskResult<Integer>> results = shardTaskExecutor.executeInEachShard(tasks);
+
+        int written = 0;
+        Throwable failure = null;
+        for (ShardTaskResult<Integer> result : results) {
+            int shardFollowerCount = followersByShard.get(result.shardKey()).size();
+            if (result.isSuccess()) {
+                written += result.value() == null ? 0 : result.value();
+                log.debug("샤드 Fan-out 완료 - shard: {}, 처리건수: {}, 소요: {}ms",
+                        result.shardKey(), shardFollowerCount, result.elapsedMs());
+            } else {
+                failure = result.failure();
+                log.error("샤드 Fan-out 실패 - shard: {}, 팔로워수: {}, 소요: {}ms, error: {}",
+                        result.shardKey(), shardFollowerCount, result.elapsedMs(), failure.getMessage());
+            }
+        }
+
+        if (failure != null) {
+            throw new IllegalStateException(
+                    "RDB 타임라인 Fan-out 일부 실패 - 성공: " + written + "/" + followerIds.size(), failure);
+        }
+        return written;
+    }
+
+    /**
+     * 한 샤드의 팔로워 타임라인을 청크 단위로 저장 (ShardTaskExecutor가 설정한 샤드/트랜잭션 안에서 실행)
+     */
+    private int insertChunks(List<UUID> followers, UUID tweetId, UUID authorId,
+                             String tweetText, LocalDateTime createdAt) {
+        int count = 0;
+        for (int from = 0; from < followers.size(); from += chunkSize) {
+            List<UUID> chunk = followers.subList(from, Math.min(from + chunkSize, followers.size()));
+            count += insertChunk(chunk, tweetId, authorId, tweetText, createdAt);
+        }
+        return count;
+    }
+
+    /**
+     * multi-row INSERT 한 번으로 청크 저장
+     */
+    private int insertChunk(List<UUID> chunk, UUID tweetId, UUID authorId,
+                            String tweetText, LocalDateTime createdAt) {
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER));
+        Timestamp createdAtTimestamp = Timestamp.valueOf(createdAt);
+
+        List<Object> args = new ArrayList<>(chunk.size() * COLUMN_COUNT);
+        for (UUID followerId : chunk) {
+            args.add(followerId.toString());
+            args.add(tweetId.toString());
+            args.add(authorId.toString());
+            args.add(tweetText);
+            args.add(createdAtTimestamp);
+        }
+
+        jdbcTemplate.update(sql, args.toArray());
+        return chunk.size();
+    }
+}
@@ -8,12 +8,11 @@ import com.example.demo.domain2.tweet_r.response.TweetResponse;
 import com.example.demo.domain2.tweet_r.service.RdbCreateTweetShardService;
 import com.example.demo.domain2.tweet_r.service.RdbTweetService;
 import com.example.demo.util.ShardUtil;
+import com.example.demo.util.cursor.TimelineCursor;
 import jakarta.validation.Valid;
-import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -72,18 +71,17 @@ public class RdbTweetController {
     /**
      * 사용자 트윗 목록 조회
      * 
-     * GET /tweets-rdb/{userId}?last={timestamp}&size={size}
+     * GET /tweets-rdb/{userId}?cursor={nextCursor}&size={size}
      * 
      * @param userId 조회할 사용자 ID
-     * @param lastTimestamp 마지막 트윗 시간 (커서 페이지네이션)
+     * @param cursor 이전 응답의 nextCursor (불투명 커서, 없으면 최신부터)
      * @param size 조회할 트윗 수 (기본값: 20, 최대: 50)
      * @return 트윗 목록
      */
     @GetMapping("/{userId}")
     public ApiResponse<TweetListResponse> getUserTweets(
             @PathVariable UUID userId,
-            @RequestParam(value = "last", required = false) 
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastTimestamp,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "size", defaultValue = "20") int size) {
         
         // 트윗 데이터 조회용 샤드 설정
@@ -92,7 +90,7 @@ public class RdbTweetController {
         DataSourceConfig.setShard(tweetDataShardKey);
         
         try {
-            TweetListResponse response = tweetService.getUserTweets(userId, lastTimestamp, size);
+            TweetListResponse response = tweetService.getUserTweets(userId, TimelineCursor.decode(cursor), size);
             
             log.info("RDB 사용자 트윗 조회 API 완료 - userId: {}, 조회된 트윗 수: {}", 
                     userId, response.getTweets().size());
@@ -106,18 +104,17 @@ public class RdbTweetController {
     /**
      * 사용자 타임라인 조회 (팔로우한 사용자들의 트윗)
      * 
-     * GET /tweets-rdb/timeline/{followerId}?last={timestamp}&size={size}
+     * GET /tweets-rdb/timeline/{followerId}?cursor={nextCursor}&size={size}
      * 
      * @param followerId 타임라인을 조회할 사용자 ID (팔로워)
-     * @param lastTimestamp 마지막 트윗 시간 (커서 페이지네이션)
+     * @param cursor 이전 응답의 nextCursor (불투명 커서, 없으면 최신부터)
      * @param size 조회할 트윗 수 (기본값: 20, 최대: 50)
      * @return 타임라인 트윗 목록
      */
     @GetMapping("/timeline/{followerId}")
     public ApiResponse<TweetListResponse> getUserTimeline(
             @PathVariable UUID followerId,
-            @RequestParam(value = "last", required = false) 
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastTimestamp,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "size", defaultValue = "20") int size) {
         
         // 타임라인 데이터 조회용 샤드 설정
@@ -126,7 +123,7 @@ public class RdbTweetController {
         DataSourceConfig.setShard(tweetDataShardKey);
         
         try {
-            TweetListResponse response = tweetService.getUserTimeline(followerId, lastTimestamp, size);
+            TweetListResponse response = tweetService.getUserTimeline(followerId, TimelineCursor.decode(cursor), size);
             
             log.info("RDB 사용자 타임라인 조회 API 완료 - followerId: {}, 조회된 트윗 수: {}", 
                     followerId, response.getTweets().size());
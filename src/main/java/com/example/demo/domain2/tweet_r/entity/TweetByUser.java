@@ -15,7 +15,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "tweets_by_user", indexes = {
-    @Index(name = "idx_tweet_by_user_created", columnList = "user_id, tweet_created_at DESC")
+    @Index(name = "idx_tweet_by_user_created", columnList = "user_id, tweet_created_at DESC, tweet_id DESC")
 })
 @Getter
 @Builder
@@ -2,6 +2,8 @@ package com.example.demo.domain2.tweet_r.repository;
 
 import com.example.demo.domain2.tweet_r.entity.TweetByUser;
 import com.example.demo.domain2.tweet_r.entity.TweetByUserKey;
+import com.example.demo.domain2.tweet_r.response.TweetResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,20 +15,32 @@ import java.util.UUID;
 
 /**
  * RDB 버전 사용자별 트윗 리포지토리
- * 커서 기반 페이지네이션 지원
+ * Keyset (created_at, tweet_id) 커서 기반 페이지네이션 지원
  */
 @Repository
 public interface RdbTweetByUserRepository extends JpaRepository<TweetByUser, TweetByUserKey> {
 
     /**
      * 사용자의 최신 트윗 목록 조회 (첫 페이지)
+     *
+     * - LIMIT을 SQL로 전달하고 엔티티 대신 응답 DTO로 바로 projection
      */
-    @Query("SELECT t FROM TweetByUser t WHERE t.key.userId = :userId ORDER BY t.key.createdAt DESC")
-    List<TweetByUser> findLatestTweets(@Param("userId") UUID userId);
+    @Query("SELECT new com.example.demo.domain2.tweet_r.response.TweetResponse(t.key.tweetId, t.key.userId, t.tweetText, t.key.createdAt) " +
+           "FROM TweetByUser t WHERE t.key.userId = :userId " +
+           "ORDER BY t.key.createdAt DESC, t.key.tweetId DESC")
+    List<TweetResponse> findLatestTweets(@Param("userId") UUID userId, Limit limit);
 
     /**
-     * 커서 기반 트윗 목록 조회 (다음 페이지)
+     * Keyset 기반 트윗 목록 조회 (다음 페이지)
+     *
+     * (created_at, tweet_id) < (cursorCreatedAt, cursorTweetId) 조건으로 같은 시간의 트윗도 누락 없이 이어서 조회
      */
-    @Query("SELECT t FROM TweetByUser t WHERE t.key.userId = :userId AND t.key.createdAt < :cursor ORDER BY t.key.createdAt DESC")
-    List<TweetByUser> findTweetsWithCursor(@Param("userId") UUID userId, @Param("cursor") LocalDateTime cursor);
-} 
\ No newline at end of file
+    @Query("SELECT new com.example.demo.domain2.tweet_r.response.TweetResponse(t.key.tweetId, t.key.userId, t.tweetText, t.key.createdAt) " +
+           "FROM TweetByUser t WHERE t.key.userId = :userId " +
+           "AND (t.key.createdAt < :cursorCreatedAt OR (t.key.createdAt = :cursorCreatedAt AND t.key.tweetId < :cursorTweetId)) " +
+           "ORDER BY t.key.createdAt DESC, t.key.tweetId DESC")
+    List<TweetResponse> findTweetsAfterKey(@Param("userId") UUID userId,
+                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                           @Param("cursorTweetId") UUID cursorTweetId,
+                                           Limit limit);
+}
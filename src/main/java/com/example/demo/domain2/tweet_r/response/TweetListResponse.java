@@ -4,12 +4,11 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * RDB 버전 트윗 목록 응답 DTO
- * 커서 기반 페이지네이션 지원
+ * Keyset (created_at, tweet_id) 불투명 커서 기반 페이지네이션 지원
  */
 @Getter
 @NoArgsConstructor
@@ -17,6 +16,7 @@ import java.util.List;
 public class TweetListResponse {
 
     private List<TweetResponse> tweets;
-    private LocalDateTime nextCursor;
+    // 다음 페이지 요청용 불투명 커서 (마지막 트윗의 created_at, tweet_id)
+    private String nextCursor;
     private boolean hasNext;
 } 
\ No newline at end of file
@@ -2,8 +2,8 @@ package com.example.demo.domain2.tweet_r.service;
 
 import com.example.demo.config.DataSourceConfig;
 import com.example.demo.domain2.follow_r.repository.RdbFollowRepository;
-import com.example.demo.domain2.timeline_r.entity.UserTimeline;
 import com.example.demo.domain2.timeline_r.repository.RdbUserTimelineRepository;
+import com.example.demo.domain2.timeline_r.writer.RdbTimelineBulkWriter;
 import com.example.demo.domain2.tweet_r.entity.Tweet;
 import com.example.demo.domain2.tweet_r.entity.TweetByUser;
 import com.example.demo.domain2.tweet_r.entity.TweetByUserKey;
@@ -14,8 +14,10 @@ import com.example.demo.domain2.tweet_r.response.TweetResponse;
 import com.example.demo.domain2.tweet_r.response.TweetListResponse;
 import com.example.demo.util.ShardUtil;
 import com.example.demo.util.UUID.UUIDUtil;
+import com.example.demo.util.cursor.TimelineCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,7 +25,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * RDB 전용 트윗 비즈니스 로직 서비스 (샤딩 + Fan-out-on-write 적용)
@@ -39,10 +40,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RdbTweetService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final RdbTweetRepository tweetRepository;
     private final RdbTweetByUserRepository tweetByUserRepository;
     private final RdbFollowRepository followRepository;
     private final RdbUserTimelineRepository userTimelineRepository;
+    private final RdbTimelineBulkWriter timelineBulkWriter;
 
     /**
      * 새 트윗 생성 + Fan-out-on-write
@@ -139,22 +143,12 @@ public class RdbTweetService {
 
             log.info("Fan-out 시작 - authorId: {}, 팔로워 수: {}", authorId, followerIds.size());
 
-            // 2. 각 팔로워의 타임라인에 트윗 추가 (followerID 기준 샤딩)
-            int successCount = 0;
-            for (UUID followerId : followerIds) {
-                try {
-                    saveTimelineWithSharding(followerId, tweetId, authorId, tweetText, createdAt);
-                    successCount++;
-                } catch (Exception e) {
-                    log.error("개별 팔로워 Fan-out 실패 - followerId: {}, tweetId: {}, error: {}", 
-                            followerId, tweetId, e.getMessage());
-                    // 개별 실패해도 다른 팔로워들은 계속 처리
-                }
-            }
-            
-            log.info("Fan-out 완료 - authorId: {}, 전체: {}, 성공: {}, 실패: {}", 
-                    authorId, followerIds.size(), successCount, followerIds.size() - successCount);
-                    
+            // 2. 샤드별 multi-row INSERT로 팔로워 타임라인에 트윗 추가 (followerID 기준 샤딩, 샤드 병렬)
+            int successCount = timelineBulkWriter.writeAll(followerIds, tweetId, authorId, tweetText, createdAt);
+
+            log.info("Fan-out 완료 - authorId: {}, 전체: {}, 성공: {}",
+                    authorId, followerIds.size(), successCount);
+
         } catch (Exception e) {
             log.error("Fan-out 전체 실패 - authorId: {}, tweetId: {}, error: {}", 
                     authorId, tweetId, e.getMessage());
@@ -188,111 +182,52 @@ public class RdbTweetService {
     }
 
     /**
-     * 타임라인에 트윗 저장 (followerID 기준 트윗 데이터용 샤딩 - shard1,2,3)
+     * 사용자의 트윗 목록 조회 (Keyset 커서 기반 페이지네이션)
+     *
+     * - size + 1건만 SQL LIMIT으로 조회해 다음 페이지 존재 여부 판단
      */
-    private void saveTimelineWithSharding(UUID followerId, UUID tweetId, UUID authorId, 
-                                        String tweetText, LocalDateTime createdAt) {
-        String shardKey = ShardUtil.selectTweetDataShardKeyByUserId(followerId);
-        String currentShard = DataSourceConfig.getShard();
-        
-        try {
-            DataSourceConfig.setShard(shardKey);
-            
-            UserTimeline timeline = UserTimeline.builder()
-                    .followerId(followerId)
-                    .tweetId(tweetId)
-                    .authorId(authorId)
-                    .tweetText(tweetText)
-                    .createdAt(createdAt)
-                    .build();
-            
-            userTimelineRepository.save(timeline);
-            
-            log.debug("타임라인 저장 완료 - shard: {}, followerId: {}, tweetId: {}", 
-                    shardKey, followerId, tweetId);
-        } catch (Exception e) {
-            log.error("타임라인 저장 실패 - shard: {}, followerId: {}, tweetId: {}, error: {}", 
-                    shardKey, followerId, tweetId, e.getMessage());
-            // Fan-out 실패는 원본 트윗에 영향주지 않음
-        } finally {
-            // 이전 샤드로 복원
-            if (currentShard != null) {
-                DataSourceConfig.setShard(currentShard);
-            } else {
-                DataSourceConfig.clearShard();
-            }
+    public TweetListResponse getUserTweets(UUID userId, TimelineCursor cursor, int size) {
+        // 크기 제한 (DoS 방지)
+        size = Math.min(size, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(size + 1);
+
+        List<TweetResponse> tweets;
+        if (cursor == null) {
+            tweets = tweetByUserRepository.findLatestTweets(userId, limit);
+        } else {
+            tweets = tweetByUserRepository.findTweetsAfterKey(userId, cursor.createdAt(), cursor.tweetId(), limit);
         }
+
+        return toPage(tweets, size);
     }
 
     /**
-     * 사용자의 트윗 목록 조회 (커서 기반 페이지네이션)
+     * 사용자의 타임라인 조회 (팔로우한 사용자들의 트윗, Keyset 커서 기반 페이지네이션)
      */
-    public TweetListResponse getUserTweets(UUID userId, LocalDateTime lastTimestamp, int size) {
+    public TweetListResponse getUserTimeline(UUID followerId, TimelineCursor cursor, int size) {
         // 크기 제한 (DoS 방지)
-        size = Math.min(size, 50);
-        
-        List<TweetByUser> tweets;
-            
-            if (lastTimestamp == null) {
-                tweets = tweetByUserRepository.findLatestTweets(userId)
-                    .stream()
-                    .limit(size)
-                    .collect(Collectors.toList());
-            } else {
-                tweets = tweetByUserRepository.findTweetsWithCursor(userId, lastTimestamp)
-                    .stream()
-                    .limit(size)
-                    .collect(Collectors.toList());
-            }
-            
-            List<TweetResponse> tweetResponses = tweets.stream()
-                .map(tweet -> new TweetResponse(
-                    tweet.getKey().getTweetId(),
-                    tweet.getKey().getUserId(),
-                    tweet.getTweetText(),
-                    tweet.getKey().getCreatedAt()
-                ))
-                .collect(Collectors.toList());
-            
-        LocalDateTime nextCursor = tweets.isEmpty() ? null 
-            : tweets.get(tweets.size() - 1).getKey().getCreatedAt();
-            
-        return new TweetListResponse(tweetResponses, nextCursor, tweets.size() == size);
+        size = Math.min(size, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(size + 1);
+
+        List<TweetResponse> timeline;
+        if (cursor == null) {
+            timeline = userTimelineRepository.findLatestTimeline(followerId, limit);
+        } else {
+            timeline = userTimelineRepository.findTimelineAfterKey(followerId, cursor.createdAt(), cursor.tweetId(), limit);
+        }
+
+        return toPage(timeline, size);
     }
 
     /**
-     * 사용자의 타임라인 조회 (팔로우한 사용자들의 트윗)
+     * size + 1건 조회 결과로 페이지 응답 생성 (초과분 1건은 다음 페이지 존재 여부 판단용)
      */
-    public TweetListResponse getUserTimeline(UUID followerId, LocalDateTime lastTimestamp, int size) {
-        // 크기 제한 (DoS 방지)
-        size = Math.min(size, 50);
-        
-        List<UserTimeline> timeline;
-            
-            if (lastTimestamp == null) {
-                timeline = userTimelineRepository.findLatestTimeline(followerId)
-                    .stream()
-                    .limit(size)
-                    .collect(Collectors.toList());
-            } else {
-                timeline = userTimelineRepository.findTimelineWithCursor(followerId, lastTimestamp)
-                    .stream()
-                    .limit(size)
-                    .collect(Collectors.toList());
-            }
-            
-            List<TweetResponse> tweetResponses = timeline.stream()
-                .map(t -> new TweetResponse(
-                    t.getTweetId(),
-                    t.getAuthorId(),
-                    t.getTweetText(),
-                    t.getCreatedAt()
-                ))
-                .collect(Collectors.toList());
-            
-        LocalDateTime nextCursor = timeline.isEmpty() ? null 
-            : timeline.get(timeline.size() - 1).getCreatedAt();
-            
-        return new TweetListResponse(tweetResponses, nextCursor, timeline.size() == size);
+    private TweetListResponse toPage(List<TweetResponse> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<TweetResponse> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = page.isEmpty() ? null
+                : TimelineCursor.encodeLast(page.get(page.size() - 1).getCreatedAt(), page.get(page.size() - 1).getTweetId());
+        return new TweetListResponse(page, nextCursor, hasNext);
     }
-} 
\ No newline at end of file
+}
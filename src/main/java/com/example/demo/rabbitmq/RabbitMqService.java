@@ -39,6 +39,14 @@ public class RabbitMqService {
         this.rabbitTemplate.convertAndSend(exchangeName,routingKey,messageDto);
     }
 
+    /**
+     * 지정한 Routing Key 로 메세지를 발행 (같은 Direct Exchange 에 바인딩된 다른 Queue 대상)
+     **/
+    public void sendMessage(String routingKey, Object messageDto) {
+        log.debug("message send: routingKey={}, {}", routingKey, messageDto);
+        this.rabbitTemplate.convertAndSend(exchangeName, routingKey, messageDto);
+    }
+
     /**
      * 1. Queue 에서 메세지를 받도록 함.
      * 2. 임의로 messageDto를 Object 타입으로 받았지만, 실제로는 DTO 클래스를 사용하여 타입을 지정.
@@ -6,6 +6,7 @@ import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -30,6 +31,36 @@ public class RabbitMqConfig {
     @Value("${rabbitmq.routing.key}")
     private String routingKey;
 
+    @Value("${rabbitmq.fanout.job-queue}")
+    private String fanoutJobQueueName;
+
+    @Value("${rabbitmq.fanout.job-routing-key}")
+    private String fanoutJobRoutingKey;
+
+    @Value("${rabbitmq.fanout.page-queue}")
+    private String fanoutPageQueueName;
+
+    @Value("${rabbitmq.fanout.page-routing-key}")
+    private String fanoutPageRoutingKey;
+
+    @Value("${rabbitmq.timeline-sync.queue}")
+    private String timelineSyncQueueName;
+
+    @Value("${rabbitmq.timeline-sync.routing-key}")
+    private String timelineSyncRoutingKey;
+
+    @Value("${rabbitmq.tweet-delete.queue}")
+    private String tweetDeleteQueueName;
+
+    @Value("${rabbitmq.tweet-delete.routing-key}")
+    private String tweetDeleteRoutingKey;
+
+    @Value("${rabbitmq.follow-repair.queue}")
+    private String followRepairQueueName;
+
+    @Value("${rabbitmq.follow-repair.routing-key}")
+    private String followRepairRoutingKey;
+
     // org.springframework.amqp.core.Queue
     @Bean
     public Queue queue() {
@@ -53,6 +84,72 @@ public class RabbitMqConfig {
         return BindingBuilder.bind(queue).to(exchange).with(routingKey);
     }
 
+    /**
+     * 비동기 Fan-out 작업 Queue (트윗 1건 = 메세지 1건)
+     */
+    @Bean
+    public Queue fanoutJobQueue() {
+        return new Queue(fanoutJobQueueName);
+    }
+
+    /**
+     * 비동기 Fan-out 팔로워 페이지 Queue (여러 컨슈머가 병렬 처리)
+     */
+    @Bean
+    public Queue fanoutPageQueue() {
+        return new Queue(fanoutPageQueueName);
+    }
+
+    @Bean
+    public Binding fanoutJobBinding(DirectExchange exchange) {
+        return BindingBuilder.bind(fanoutJobQueue()).to(exchange).with(fanoutJobRoutingKey);
+    }
+
+    @Bean
+    public Binding fanoutPageBinding(DirectExchange exchange) {
+        return BindingBuilder.bind(fanoutPageQueue()).to(exchange).with(fanoutPageRoutingKey);
+    }
+
+    /**
+     * 팔로우/언팔로우 후 타임라인 동기화(backfill/purge) Queue
+     */
+    @Bean
+    public Queue timelineSyncQueue() {
+        return new Queue(timelineSyncQueueName);
+    }
+
+    @Bean
+    public Binding timelineSyncBinding(DirectExchange exchange) {
+        return BindingBuilder.bind(timelineSyncQueue()).to(exchange).with(timelineSyncRoutingKey);
+    }
+
+    /**
+     * 트윗 삭제 후 팔로워 타임라인 정리 Queue (팔로워 페이지 단위)
+     */
+    @Bean
+    public Queue tweetDeleteQueue() {
+        return new Queue(tweetDeleteQueueName);
+    }
+
+    @Bean
+    public Binding tweetDeleteBinding(DirectExchange exchange) {
+        return BindingBuilder.bind(tweetDeleteQueue()).to(exchange).with(tweetDeleteRoutingKey);
+    }
+
+    /**
+     * 팔로우 그래프 복구 작업 Queue
+     * single active consumer: 인스턴스가 여러 개여도 복구 작업(전체 테이블 스캔)은 한 번에 하나만 실행
+     */
+    @Bean
+    public Queue followRepairQueue() {
+        return QueueBuilder.durable(followRepairQueueName).singleActiveConsumer().build();
+    }
+
+    @Bean
+    public Binding followRepairBinding(DirectExchange exchange) {
+        return BindingBuilder.bind(followRepairQueue()).to(exchange).with(followRepairRoutingKey);
+    }
+
     /**
      * RabbitMQ 연동을 위한 ConnectionFactory 빈을 생성하여 반환
      **/
@@ -39,7 +39,9 @@ public class SecurityConfig {
                     session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(auth ->
-                    auth.requestMatchers(permitAllPatterns().toArray(new String[0])).permitAll()
+                    // 관리 API (팔로우 그래프 복구 등)는 토큰의 roles에 ROLE_ADMIN이 있어야 호출 가능
+                    auth.requestMatchers("/admin/**").hasRole("ADMIN")
+                    .requestMatchers(permitAllPatterns().toArray(new String[0])).permitAll()
                     .anyRequest().authenticated()
             )
             .exceptionHandling(handler ->
@@ -0,0 +1,147 @@
+package com.example.demo.util;
+
+import com.example.demo.config.DataSourceConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 샤드 인식 작업 실행기
+ *
+ * - 트윗 데이터 샤드(shard1~3)마다 전용 ThreadPool을 두어 한 샤드의 지연이 다른 샤드 작업을 막지 않도록 분리
+ * - 작업 스레드가 직접 라우팅 키(DataSourceConfig.currentShard)를 설정하고 작업 종료 시 이전 값으로 복원
+ *   → 풀 스레드 재사용 시 라우팅 상태가 다음 작업으로 새지 않음
+ * - 샤드별 작업은 각자 REQUIRES_NEW 트랜잭션에서 실행 (트랜잭션 시작 전에 샤드 설정)
+ * - 샤드별 결과/실패/소요 시간을 ShardTaskResult로 반환 → 전체 소요 시간은 sum(shard)가 아닌 max(shard)
+ */
+@Slf4j
+@Component
+public class ShardTaskExecutor {
+
+  private final PlatformTransactionManager transactionManager;
+  private final Map<String, ThreadPoolExecutor> executors = new LinkedHashMap<>();
+
+  public ShardTaskExecutor(
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${shard.executor.pool-size:2}") int poolSize,
+      @Value("${shard.executor.queue-capacity:32}") int queueCapacity) {
+    this.transactionManager = transactionManager;
+
+    for (String shardKey : ShardUtil.tweetDataShardKeys()) {
+      AtomicInteger threadSeq = new AtomicInteger();
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(
+          poolSize, poolSize, 60L, TimeUnit.SECONDS,
+          new ArrayBlockingQueue<>(queueCapacity),
+          runnable -> {
+            Thread thread = new Thread(runnable, shardKey + "-worker-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          },
+          // 큐가 가득 차면 호출 스레드에서 실행 (라우팅 키는 작업이 직접 설정/복원하므로 안전)
+          new ThreadPoolExecutor.CallerRunsPolicy());
+
+      ExecutorServiceMetrics.monitor(meterRegistry, executor, "shardTaskExecutor",
+          List.of(Tag.of("shard", shardKey)));
+      executors.put(shardKey, executor);
+    }
+
+    log.info("ShardTaskExecutor 생성 - shards: {}, pool: {}, queue: {}",
+        executors.keySet(), poolSize, queueCapacity);
+  }
+
+  /**
+   * 샤드별 작업을 각 샤드 전용 풀에서 병렬 실행하고 모든 샤드가 끝날 때까지 대기
+   *
+   * @param tasks 샤드 키 → 해당 샤드에서 트랜잭션 안에 실행할 작업
+   * @return 샤드별 실행 결과 (입력 순서 유지, 실패해도 예외를 던지지 않고 결과에 담음)
+   */
+  public <T> List<ShardTaskResult<T>> executeInEachShard(Map<String, Supplier<T>> tasks) {
+    Map<String, CompletableFuture<ShardTaskResult<T>>> futures = new LinkedHashMap<>();
+    tasks.forEach((shardKey, task) -> {
+      ThreadPoolExecutor executor = executors.get(shardKey);
+      if (executor == null) {
+        throw new IllegalArgumentException("지원하지 않는 샤드 키입니다: " + shardKey);
+      }
+      futures.put(shardKey, CompletableFuture.supplyAsync(() -> runInShard(shardKey, task), executor));
+    });
+
+    List<ShardTaskResult<T>> results = new ArrayList<>(futures.size());
+    futures.forEach((shardKey, future) -> results.add(future.join()));
+    return results;
+  }
+
+  /**
+   * 한 샤드 작업 실행 (트랜잭션 시작 전에 샤드 설정, 종료 후 이전 라우팅 키 복원)
+   */
+  private <T> ShardTaskResult<T> runInShard(String shardKey, Supplier<T> task) {
+    long startNanos = System.nanoTime();
+    String previousShard = DataSourceConfig.getShard();
+    DataSourceConfig.setShard(shardKey);
+    try {
+      TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+      transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+      T value = transactionTemplate.execute(status -> task.get());
+      return ShardTaskResult.success(shardKey, value, elapsedMillis(startNanos));
+    } catch (Exception e) {
+      log.warn("샤드 작업 실패 - shard: {}, error: {}", shardKey, e.getMessage());
+      return ShardTaskResult.failure(shardKey, e, elapsedMillis(startNanos));
+    } finally {
+      if (previousShard != null) {
+        DataSourceConfig.setShard(previousShard);
+      } else {
+        DataSourceConfig.clearShard();
+      }
+    }
+  }
+
+  private static long elapsedMillis(long startNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executors.values().forEach(ThreadPoolExecutor::shutdown);
+  }
+
+  /**
+   * 샤드별 작업 결과
+   *
+   * @param shardKey 샤드 키
+   * @param value 작업 반환값 (실패 시 null)
+   * @param failure 실패 원인 (성공 시 null)
+   * @param elapsedMs 샤드 작업 소요 시간 (트랜잭션 포함)
+   */
+  public record ShardTaskResult<T>(String shardKey, T value, Throwable failure, long elapsedMs) {
+
+    static <T> ShardTaskResult<T> success(String shardKey, T value, long elapsedMs) {
+      return new ShardTaskResult<>(shardKey, value, null, elapsedMs);
+    }
+
+    static <T> ShardTaskResult<T> failure(String shardKey, Throwable failure, long elapsedMs) {
+      return new ShardTaskResult<>(shardKey, null, failure, elapsedMs);
+    }
+
+    public boolean isSuccess() {
+      return failure == null;
+    }
+  }
+}
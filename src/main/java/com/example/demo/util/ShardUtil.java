@@ -1,5 +1,6 @@
 package com.example.demo.util;
 
+import java.util.List;
 import java.util.UUID;
 
 public class ShardUtil {
@@ -12,6 +13,13 @@ public class ShardUtil {
     return "shard0";
   }
 
+  /**
+   * 트윗 데이터용 샤드 키 전체 목록 (shard1, shard2, shard3)
+   */
+  public static List<String> tweetDataShardKeys() {
+    return List.of("shard1", "shard2", "shard3");
+  }
+
   /**
    * 트윗 데이터용 샤드 키 (사용자 ID 기반으로 shard1, shard2, shard3 중 선택)
    * TweetsByUser, UserTimeline 테이블용
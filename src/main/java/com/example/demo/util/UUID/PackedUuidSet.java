@@ -0,0 +1,164 @@
+package com.example.demo.util.UUID;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * UUID 불변 집합 (16바이트 packed 표현)
+ *
+ * - UUID 하나를 long 2개(상위/하위 64비트)로 long[]에 연속 저장 → 객체 헤더/참조 없이 원소당 16바이트
+ * - (상위, 하위) 순으로 정렬해 두므로 contains는 이진 탐색 O(log n)
+ * - 변경 시 새 배열을 만드는 copy-on-write 방식이므로 락 없이 여러 스레드에서 공유 가능
+ */
+public final class PackedUuidSet {
+
+    private static final PackedUuidSet EMPTY = new PackedUuidSet(new long[0]);
+
+    private final long[] bits;
+
+    private PackedUuidSet(long[] bits) {
+        this.bits = bits;
+    }
+
+    public static PackedUuidSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * UUID 목록으로 생성 (중복은 하나만 유지)
+     */
+    public static PackedUuidSet of(Collection<UUID> values) {
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+        UUID[] sorted = values.toArray(new UUID[0]);
+        Arrays.sort(sorted, PackedUuidSet::compare);
+
+        long[] packed = new long[sorted.length * 2];
+        int size = 0;
+        for (UUID value : sorted) {
+            long msb = value.getMostSignificantBits();
+            long lsb = value.getLeastSignificantBits();
+            if (size > 0 && packed[size * 2 - 2] == msb && packed[size * 2 - 1] == lsb) {
+                continue;
+            }
+            packed[size * 2] = msb;
+            packed[size * 2 + 1] = lsb;
+            size++;
+        }
+        return new PackedUuidSet(size * 2 == packed.length ? packed : Arrays.copyOf(packed, size * 2));
+    }
+
+    public int size() {
+        return bits.length / 2;
+    }
+
+    public boolean isEmpty() {
+        return bits.length == 0;
+    }
+
+    /**
+     * 원소 저장에 사용하는 바이트 수 (원소당 16바이트)
+     */
+    public long sizeInBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    public boolean contains(UUID value) {
+        return indexOf(value.getMostSignificantBits(), value.getLeastSignificantBits()) >= 0;
+    }
+
+    /**
+     * value를 추가한 새 집합 (이미 있으면 자기 자신)
+     */
+    public PackedUuidSet with(UUID value) {
+        long msb = value.getMostSignificantBits();
+        long lsb = value.getLeastSignificantBits();
+        int index = indexOf(msb, lsb);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -(index + 1);
+        long[] next = new long[bits.length + 2];
+        System.arraycopy(bits, 0, next, 0, insertAt * 2);
+        next[insertAt * 2] = msb;
+        next[insertAt * 2 + 1] = lsb;
+        System.arraycopy(bits, insertAt * 2, next, insertAt * 2 + 2, bits.length - insertAt * 2);
+        return new PackedUuidSet(next);
+    }
+
+    /**
+     * value를 제거한 새 집합 (없으면 자기 자신)
+     */
+    public PackedUuidSet without(UUID value) {
+        int index = indexOf(value.getMostSignificantBits(), value.getLeastSignificantBits());
+        if (index < 0) {
+            return this;
+        }
+        long[] next = new long[bits.length - 2];
+        System.arraycopy(bits, 0, next, 0, index * 2);
+        System.arraycopy(bits, index * 2 + 2, next, index * 2, bits.length - index * 2 - 2);
+        return new PackedUuidSet(next);
+    }
+
+    public PackedUuidSet withAll(Collection<UUID> values) {
+        if (values.isEmpty()) {
+            return this;
+        }
+        List<UUID> merged = new ArrayList<>(toList());
+        merged.addAll(values);
+        return of(merged);
+    }
+
+    public PackedUuidSet withoutAll(Collection<UUID> values) {
+        PackedUuidSet result = this;
+        for (UUID value : values) {
+            result = result.without(value);
+        }
+        return result;
+    }
+
+    /**
+     * UUID 목록으로 변환 (정렬 순서)
+     */
+    public List<UUID> toList() {
+        List<UUID> values = new ArrayList<>(size());
+        for (int i = 0; i < bits.length; i += 2) {
+            values.add(new UUID(bits[i], bits[i + 1]));
+        }
+        return values;
+    }
+
+    /**
+     * 원소 위치, 없으면 -(삽입 위치 + 1)
+     */
+    private int indexOf(long msb, long lsb) {
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(bits[mid * 2], bits[mid * 2 + 1], msb, lsb);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int compare(UUID a, UUID b) {
+        return compare(a.getMostSignificantBits(), a.getLeastSignificantBits(),
+                b.getMostSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static int compare(long msbA, long lsbA, long msbB, long lsbB) {
+        int cmp = Long.compare(msbA, msbB);
+        return cmp != 0 ? cmp : Long.compare(lsbA, lsbB);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.util.bloom;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * UUID 전용 Bloom Filter
+ *
+ * - mightContain == false 이면 확실히 없음 (false negative 없음), true 이면 fpp 확률로 오탐 가능
+ * - 비트 배열은 AtomicLongArray로 관리하여 조회/추가를 락 없이 여러 스레드에서 동시에 수행
+ * - 해시는 UUID 상위/하위 64비트를 섞은 두 값으로 k개 위치를 만드는 double hashing (h1 + i·h2)
+ */
+public final class UuidBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private UuidBloomFilter(long bitCount, int hashCount) {
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.bits = new AtomicLongArray((int) ((bitCount + Long.SIZE - 1) / Long.SIZE));
+    }
+
+    /**
+     * 예상 원소 수와 목표 오탐률로 비트 수/해시 함수 수 결정
+     * m = -n·ln(p) / (ln2)², k = m/n·ln2
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param fpp 목표 오탐률 (0 < fpp < 1)
+     */
+    public static UuidBloomFilter create(long expectedInsertions, double fpp) {
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("fpp는 0과 1 사이여야 합니다: " + fpp);
+        }
+        long n = Math.max(1, expectedInsertions);
+        long m = Math.max(Long.SIZE, (long) (-n * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        if (m > (long) Integer.MAX_VALUE * Long.SIZE) {
+            throw new IllegalArgumentException("Bloom Filter 크기가 너무 큽니다: " + m + " bits");
+        }
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new UuidBloomFilter(m, k);
+    }
+
+    public void put(UUID value) {
+        long h1 = mix(value.getMostSignificantBits() ^ Long.rotateLeft(value.getLeastSignificantBits(), 32));
+        long h2 = mix(value.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            setBit(Math.floorMod(h1 + i * h2, bitCount));
+        }
+    }
+
+    public boolean mightContain(UUID value) {
+        long h1 = mix(value.getMostSignificantBits() ^ Long.rotateLeft(value.getLeastSignificantBits(), 32));
+        long h2 = mix(value.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(Math.floorMod(h1 + i * h2, bitCount))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    /**
+     * 64비트 비트 혼합 (SplitMix64 finalizer)
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.demo.util.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 만료 시점 miss 폭주(stampede)를 막는 read-through 캐시 (Caffeine 기반)
+ *
+ * 항목 수명:
+ * - fresh: 적재 후 freshFor 동안은 그대로 반환
+ * - stale: 이후 staleFor 동안은 기존 값을 즉시 반환하고 백그라운드에서 한 번만 갱신 (stale-while-revalidate)
+ * - 두 구간이 모두 지난 항목만 제거되어 다음 조회가 DB를 기다림 (키 단위로 한 번만 적재)
+ *
+ * 조기 갱신 (XFetch):
+ * - fresh 구간에서도 age - loadTime·beta·ln(rand) >= freshFor 이면 미리 백그라운드 갱신
+ * - 적재가 오래 걸리는 키일수록, 만료가 가까울수록 먼저 갱신되어 같은 시각에 적재된 키들의 갱신이 분산됨
+ *
+ * hot key 갱신:
+ * - 항목별 조회 수를 세고, refreshHot() 호출 시 조회 수가 기준 이상이면서 fresh 구간 절반이 지난 키를 갱신
+ * - 자주 읽히는 키는 만료에 도달하기 전에 계속 새 값으로 교체됨
+ *
+ * 갱신 결과는 갱신 시작 시점의 항목이 그대로 남아 있을 때만 반영 (그 사이 update/invalidate된 항목은 덮어쓰지 않음)
+ */
+@Slf4j
+public class RefreshAheadCache<K, V> {
+
+    private final String name;
+    private final Function<K, V> loader;
+    private final Executor refreshExecutor;
+    private final long freshNanos;
+    private final double beta;
+    private final Cache<K, Entry<V>> entries;
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Counter staleRefreshCounter;
+    private final Counter earlyRefreshCounter;
+    private final Counter hotRefreshCounter;
+
+    /**
+     * @param name 메트릭 이름 (cache 태그)
+     * @param loader 키 → DB 조회 결과 (호출자 간 공유되므로 변경 불가 값 반환)
+     * @param maximumSize 최대 키 수
+     * @param freshFor 갱신 없이 반환하는 기간
+     * @param staleFor fresh 이후 기존 값을 반환하며 갱신하는 기간
+     * @param beta 조기 갱신 강도 (0이면 조기 갱신 없음, 클수록 일찍 갱신)
+     * @param refreshExecutor 백그라운드 갱신 실행 Executor
+     */
+    public RefreshAheadCache(String name, Function<K, V> loader, long maximumSize, Duration freshFor, Duration staleFor,
+                             double beta, Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.loader = loader;
+        this.refreshExecutor = refreshExecutor;
+        this.freshNanos = freshFor.toNanos();
+        this.beta = beta;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(freshFor.plus(staleFor))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, name);
+        this.staleRefreshCounter = refreshCounter(meterRegistry, name, "stale");
+        this.earlyRefreshCounter = refreshCounter(meterRegistry, name, "early");
+        this.hotRefreshCounter = refreshCounter(meterRegistry, name, "hot");
+    }
+
+    /**
+     * 조회 (제거된 키만 적재를 기다리고, stale/조기 갱신 대상은 기존 값을 바로 반환)
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key, this::load);
+        entry.hits.increment();
+
+        long age = System.nanoTime() - entry.loadedAtNanos;
+        if (age >= freshNanos) {
+            refreshAsync(key, entry, staleRefreshCounter);
+        } else if (beta > 0 && age - entry.loadNanos * beta * Math.log(ThreadLocalRandom.current().nextDouble()) >= freshNanos) {
+            refreshAsync(key, entry, earlyRefreshCounter);
+        }
+        return entry.value;
+    }
+
+    /**
+     * 캐시된 값에 변경 반영 (write-through, 캐시에 없는 키는 무시)
+     * - 적재 시각은 유지하므로 갱신 주기는 그대로
+     */
+    public void update(K key, UnaryOperator<V> change) {
+        entries.asMap().computeIfPresent(key, (k, entry) ->
+                new Entry<>(change.apply(entry.value), entry.loadedAtNanos, entry.loadNanos, entry.hits));
+    }
+
+    /**
+     * 즉시 갱신 요청 (다른 인스턴스의 변경 알림 등, 갱신 전까지 기존 값 반환)
+     */
+    public void refresh(K key) {
+        Entry<V> entry = entries.getIfPresent(key);
+        if (entry != null) {
+            refreshAsync(key, entry, staleRefreshCounter);
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.invalidate(key);
+    }
+
+    /**
+     * 조회 수가 minHits 이상인 키 중 fresh 구간 절반이 지난 키를 백그라운드 갱신 (주기적으로 호출)
+     * - 호출마다 조회 수를 초기화하므로 minHits는 호출 주기 동안의 조회 수 기준
+     *
+     * @return 갱신을 요청한 키 수
+     */
+    public int refreshHot(long minHits) {
+        long now = System.nanoTime();
+        int requested = 0;
+        for (var mapping : entries.asMap().entrySet()) {
+            Entry<V> entry = mapping.getValue();
+            if (entry.hits.sumThenReset() >= minHits && now - entry.loadedAtNanos >= freshNanos / 2) {
+                if (refreshAsync(mapping.getKey(), entry, hotRefreshCounter)) {
+                    requested++;
+                }
+            }
+        }
+        return requested;
+    }
+
+    /**
+     * 키당 하나의 백그라운드 갱신만 실행
+     *
+     * @return 새로 갱신을 시작했으면 true
+     */
+    private boolean refreshAsync(K key, Entry<V> expected, Counter trigger) {
+        if (!refreshing.add(key)) {
+            return false;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Entry<V> fresh = load(key);
+                    entries.asMap().computeIfPresent(key, (k, current) -> current == expected ? fresh : current);
+                } catch (Exception e) {
+                    // 갱신 실패 시 기존 값을 계속 반환 (stale 구간이 끝나면 제거 후 다시 적재)
+                    log.warn("캐시 백그라운드 갱신 실패 - cache: {}, key: {}, error: {}", name, key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+            trigger.increment();
+            return true;
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            return false;
+        }
+    }
+
+    private Entry<V> load(K key) {
+        long start = System.nanoTime();
+        V value = loader.apply(key);
+        long end = System.nanoTime();
+        return new Entry<>(value, end, end - start, new LongAdder());
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String name, String trigger) {
+        return Counter.builder("cache.refresh")
+                .description("캐시 백그라운드 갱신 요청 수")
+                .tag("cache", name)
+                .tag("trigger", trigger)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param loadedAtNanos 적재 완료 시각 (System.nanoTime)
+     * @param loadNanos 적재 소요 시간 (조기 갱신 확률 계산용)
+     * @param hits 마지막 hot key 점검 이후 조회 수
+     */
+    private record Entry<V>(V value, long loadedAtNanos, long loadNanos, LongAdder hits) {
+    }
+}
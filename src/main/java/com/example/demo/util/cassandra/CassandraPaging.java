@@ -0,0 +1,46 @@
+package com.example.demo.util.cassandra;
+
+import org.springframework.data.cassandra.core.cql.QueryOptions;
+
+import java.time.Duration;
+
+/**
+ * Cassandra 페이지 조회 공통 설정
+ *
+ * - 요청 페이지 크기를 CQL LIMIT 바인드 값과 드라이버 page size(fetch size)에 똑같이 적용
+ *   → 한 번의 round trip으로 반환할 만큼만 읽음 (size 5 요청에 20행을 읽거나, size 50 요청이 20행으로 잘리는 문제 방지)
+ */
+public final class CassandraPaging {
+
+    // API 페이지 크기 상한 (DoS 방지)
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private CassandraPaging() {
+    }
+
+    /**
+     * 요청 페이지 크기를 1 ~ MAX_PAGE_SIZE 범위로 보정 (CQL LIMIT은 양수만 허용)
+     */
+    public static int clamp(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * LIMIT과 동일한 드라이버 page size
+     */
+    public static QueryOptions pageOf(int limit) {
+        return QueryOptions.builder()
+                .pageSize(limit)
+                .build();
+    }
+
+    /**
+     * LIMIT과 동일한 드라이버 page size + 문장 타임아웃 (요청 deadline 이후에는 드라이버도 기다리지 않음)
+     */
+    public static QueryOptions pageOf(int limit, Duration timeout) {
+        return QueryOptions.builder()
+                .pageSize(limit)
+                .timeout(timeout)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.util.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 큐 크기가 제한된 ThreadPoolExecutor 생성
+ *
+ * - 큐가 가득 차면 즉시 거절(RejectedExecutionException)하고 "{metricPrefix}.rejected" 카운터 증가
+ * - 데몬 스레드 "{threadPrefix}-N" 사용
+ * - 활성 스레드 수, 큐 적재량, 완료 작업 수 등 기본 메트릭을 executorName으로 등록
+ */
+public final class BoundedExecutors {
+
+    private BoundedExecutors() {
+    }
+
+    /**
+     * @param executorName Executor 메트릭 이름 (빈 이름과 동일하게 사용)
+     * @param metricPrefix 거절 카운터 이름 접두사
+     * @param threadPrefix 스레드 이름 접두사
+     * @param rejectedDescription 거절 카운터 설명
+     */
+    public static ThreadPoolExecutor create(MeterRegistry meterRegistry,
+                                            String executorName,
+                                            String metricPrefix,
+                                            String threadPrefix,
+                                            String rejectedDescription,
+                                            int coreSize,
+                                            int maxSize,
+                                            int queueCapacity) {
+        Counter rejectedCounter = Counter.builder(metricPrefix + ".rejected")
+                .description(rejectedDescription)
+                .register(meterRegistry);
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                coreSize, maxSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadPrefix + "-" + threadSeq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    rejectedCounter.increment();
+                    new ThreadPoolExecutor.AbortPolicy().rejectedExecution(runnable, pool);
+                });
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, executorName, List.of());
+        return executor;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.util.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 요청 하나의 키별 조회를 공유 Executor에서 제한된 동시성으로 실행 (deadline 내 결과만 사용)
+ *
+ * - 키를 최대 maxTasks개 묶음으로 나눠 묶음당 작업 하나만 제출
+ *   → 키 수(팔로잉 수)가 Executor 큐 용량보다 많아도 요청 하나가 큐를 독점하거나 항상 거절되지 않음
+ * - 각 작업은 묶음 안의 키를 순서대로 처리하고, deadline이 지나면 다음 키를 시작하지 않음 (협조적 취소)
+ *   (CompletableFuture.cancel은 실행 중인 작업을 중단시키지 못하므로 플래그로 멈춤)
+ * - deadline까지 끝나지 않았거나, 실패했거나, 거절된 묶음의 키는 결과에서 빠지고 partial로 표시
+ */
+@Slf4j
+public final class BoundedFanout {
+
+    private BoundedFanout() {
+    }
+
+    /**
+     * @param keys 조회 대상 키 (결과는 이 순서를 유지)
+     * @param task 키 하나의 조회 (블로킹 호출 가능)
+     * @param maxTasks 요청 하나가 동시에 점유할 최대 작업 수
+     * @param deadlineNanos 대기 종료 시각 (System.nanoTime 기준)
+     */
+    public static <K, R> Result<K, R> run(List<K> keys, Function<K, R> task, Executor executor,
+                                          int maxTasks, long deadlineNanos) {
+        if (keys.isEmpty()) {
+            return new Result<>(Map.of(), false);
+        }
+
+        Map<K, R> completed = new ConcurrentHashMap<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        boolean rejected = false;
+
+        for (List<K> chunk : chunks(keys, Math.max(1, maxTasks))) {
+            try {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (K key : chunk) {
+                        if (cancelled.get() || System.nanoTime() - deadlineNanos >= 0) {
+                            return;
+                        }
+                        try {
+                            R result = task.apply(key);
+                            if (result != null) {
+                                completed.put(key, result);
+                            }
+                        } catch (Exception e) {
+                            log.warn("병렬 조회 실패 - key: {}, error: {}", key, e.getMessage());
+                        }
+                    }
+                }, executor));
+            } catch (RejectedExecutionException e) {
+                rejected = true;
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("병렬 조회 deadline 초과 - 키 수: {}, 작업 수: {}", keys.size(), futures.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // 키별 실패는 작업 안에서 처리하므로 도달하지 않음
+        } finally {
+            cancelled.set(true);
+        }
+
+        // 대기 종료 시점의 결과만 사용 (이후 도착한 결과는 버림)
+        Map<K, R> ordered = new LinkedHashMap<>();
+        for (K key : keys) {
+            R result = completed.get(key);
+            if (result != null) {
+                ordered.put(key, result);
+            }
+        }
+        return new Result<>(ordered, rejected || ordered.size() < keys.size());
+    }
+
+    /**
+     * 키를 최대 maxTasks개의 연속 묶음으로 분할 (묶음 크기 차이는 최대 1)
+     */
+    private static <K> List<List<K>> chunks(List<K> keys, int maxTasks) {
+        int taskCount = Math.min(maxTasks, keys.size());
+        List<List<K>> chunks = new ArrayList<>(taskCount);
+        int from = 0;
+        for (int i = 0; i < taskCount; i++) {
+            int size = keys.size() / taskCount + (i < keys.size() % taskCount ? 1 : 0);
+            chunks.add(keys.subList(from, from + size));
+            from += size;
+        }
+        return chunks;
+    }
+
+    /**
+     * @param completed deadline 내 완료된 키별 결과 (입력 순서)
+     * @param partial 빠진 키가 있으면 true
+     */
+    public record Result<K, R>(Map<K, R> completed, boolean partial) {
+    }
+}
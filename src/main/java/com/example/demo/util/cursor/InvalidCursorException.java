@@ -0,0 +1,15 @@
+package com.example.demo.util.cursor;
+
+/**
+ * 클라이언트가 보낸 페이지 커서의 형식이 올바르지 않은 경우 (400 Bad Request로 응답)
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
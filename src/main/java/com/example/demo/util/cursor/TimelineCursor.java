@@ -0,0 +1,107 @@
+package com.example.demo.util.cursor;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 트윗 목록/타임라인 공통 Keyset 커서 (created_at, tweet_id)
+ *
+ * - 같은 created_at(밀리초)을 가진 트윗이 페이지 경계에 걸려도 tweet_id로 이어서 조회하므로 누락/중복 없음
+ * - 클라이언트에는 불투명 문자열로만 노출 (내부 형식 변경 시 version으로 구분)
+ *
+ * 직렬화 형식 (URL-safe Base64, 39자):
+ * [version:1][created_at epoch seconds(UTC):8][nanos:4][tweet_id msb:8][tweet_id lsb:8]
+ * (MySQL datetime(6) 마이크로초 정밀도까지 손실 없이 왕복하도록 나노초 단위로 보관)
+ */
+public record TimelineCursor(LocalDateTime createdAt, UUID tweetId) {
+
+    private static final byte VERSION = 1;
+    private static final int BYTES = 1 + Long.BYTES + Integer.BYTES + Long.BYTES * 2;
+
+    // 하위 64비트의 바이트별 부호 비트 (signed byte 비교 → unsigned 비교 변환용)
+    private static final long SIGN_BITS = 0x8080808080808080L;
+
+    public TimelineCursor {
+        if (createdAt == null || tweetId == null) {
+            throw new IllegalArgumentException("커서에는 created_at과 tweet_id가 모두 필요합니다");
+        }
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(BYTES);
+        buffer.put(VERSION);
+        Instant instant = createdAt.toInstant(ZoneOffset.UTC);
+        buffer.putLong(instant.getEpochSecond());
+        buffer.putInt(instant.getNano());
+        buffer.putLong(tweetId.getMostSignificantBits());
+        buffer.putLong(tweetId.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * 커서 문자열 파싱 (null이면 첫 페이지를 의미하므로 null 반환)
+     *
+     * @throws InvalidCursorException 형식이 올바르지 않은 경우
+     */
+    public static TimelineCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("잘못된 커서 형식입니다", e);
+        }
+        if (bytes.length != BYTES) {
+            throw new InvalidCursorException("잘못된 커서 형식입니다");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.get() != VERSION) {
+            throw new InvalidCursorException("지원하지 않는 커서 버전입니다");
+        }
+        long epochSecond = buffer.getLong();
+        int nanos = buffer.getInt();
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw new InvalidCursorException("잘못된 커서 형식입니다");
+        }
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC);
+        return new TimelineCursor(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+
+    /**
+     * 페이지의 마지막 항목으로 다음 페이지 커서 문자열 생성 (빈 페이지면 null)
+     */
+    public static String encodeLast(LocalDateTime createdAt, UUID tweetId) {
+        return createdAt == null ? null : new TimelineCursor(createdAt, tweetId).encode();
+    }
+
+    /**
+     * Cassandra 클러스터링 순서(created_at DESC, tweet_id DESC)와 동일한 최신순 정렬
+     *
+     * 여러 파티션 결과를 애플리케이션에서 병합할 때 사용하며, 병합 결과의 마지막 항목을 커서로 써도
+     * 다음 페이지 쿼리 (created_at, tweet_id) < (?, ?) 와 경계가 정확히 맞도록 uuid 타입 비교 규칙을 따름
+     * (상위 64비트는 unsigned, 하위 64비트는 바이트 단위 signed 비교)
+     */
+    public static <T> Comparator<T> newestFirst(Function<T, LocalDateTime> createdAt, Function<T, UUID> tweetId) {
+        Comparator<T> byCreatedAt = Comparator.comparing(createdAt);
+        Comparator<T> byTweetId = (a, b) -> compareCassandraUuid(tweetId.apply(a), tweetId.apply(b));
+        return byCreatedAt.thenComparing(byTweetId).reversed();
+    }
+
+    private static int compareCassandraUuid(UUID a, UUID b) {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        if (msb != 0) {
+            return msb;
+        }
+        return Long.compareUnsigned(a.getLeastSignificantBits() ^ SIGN_BITS, b.getLeastSignificantBits() ^ SIGN_BITS);
+    }
+}
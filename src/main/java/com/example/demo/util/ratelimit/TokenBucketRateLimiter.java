@@ -0,0 +1,52 @@
+package com.example.demo.util.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 허용량 기반 Token Bucket (블로킹)
+ *
+ * - 최대 1초 분량까지 토큰을 모아 두었다가 사용 (짧은 burst 허용)
+ * - 토큰이 부족하면 필요한 만큼 채워질 때까지 호출 스레드를 대기시킴
+ */
+public class TokenBucketRateLimiter {
+
+    private final double permitsPerSecond;
+    private double availablePermits;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond는 0보다 커야 합니다: " + permitsPerSecond);
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.availablePermits = permitsPerSecond;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * permits개를 사용할 수 있을 때까지 대기 후 차감
+     * (한 번에 요청하는 양이 초당 허용량보다 커도 부족분만큼 대기한 뒤 통과)
+     */
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 토큰을 미리 차감(음수 허용)하고 부족분을 채우는 데 필요한 대기 시간을 반환
+     */
+    private synchronized long reserve(int permits) {
+        long now = System.nanoTime();
+        availablePermits = Math.min(permitsPerSecond,
+                availablePermits + (now - lastRefillNanos) / 1_000_000_000.0 * permitsPerSecond);
+        lastRefillNanos = now;
+
+        availablePermits -= permits;
+        if (availablePermits >= 0) {
+            return 0;
+        }
+        return (long) (-availablePermits / permitsPerSecond * 1_000_000_000L);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demo;
+
+import com.example.demo.util.concurrent.BoundedFanout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BoundedFanout 테스트")
+class BoundedFanoutTest {
+
+    @Test
+    @DisplayName("정상 - 키 수가 Executor 큐 용량보다 많아도 maxTasks개 작업으로 모든 키를 입력 순서대로 처리")
+    void run_KeysExceedQueueCapacity_CompletesAll() {
+        // Given: 스레드 1개, 큐 1칸
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1));
+        List<Integer> keys = IntStream.range(0, 100).boxed().toList();
+
+        try {
+            // When
+            BoundedFanout.Result<Integer, Integer> result = BoundedFanout.run(keys, key -> key * 2, executor, 2,
+                    System.nanoTime() + TimeUnit.SECONDS.toNanos(1));
+
+            // Then
+            assertThat(result.partial()).isFalse();
+            assertThat(result.completed().keySet()).containsExactlyElementsOf(keys);
+            assertThat(result.completed().get(99)).isEqualTo(198);
+            assertThat(executor.getTaskCount()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("부분 - deadline이 지나면 남은 키를 시작하지 않고 partial로 표시")
+    void run_DeadlineExceeded_StopsStartingKeys() throws Exception {
+        // Given: 키 하나에 30ms 걸리는 조회 10개를 작업 하나로 처리
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1));
+        AtomicInteger started = new AtomicInteger();
+        List<Integer> keys = IntStream.range(0, 10).boxed().toList();
+
+        try {
+            // When
+            BoundedFanout.Result<Integer, Integer> result = BoundedFanout.run(keys, key -> {
+                started.incrementAndGet();
+                sleep(30);
+                return key;
+            }, executor, 1, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50));
+            Thread.sleep(200);
+
+            // Then: deadline 이후에는 실행 중이던 키까지만 진행
+            assertThat(result.partial()).isTrue();
+            assertThat(result.completed()).hasSizeLessThan(keys.size());
+            assertThat(started.get()).isLessThanOrEqualTo(3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("부분 - 실패한 키와 거절된 작업의 키는 결과에서 빠지고 partial로 표시")
+    void run_FailureOrRejection_MarksPartial() {
+        // Given
+        Executor rejecting = runnable -> {
+            throw new RejectedExecutionException("큐 포화");
+        };
+        Executor direct = Runnable::run;
+        List<Integer> keys = List.of(1, 2, 3);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+
+        // When
+        BoundedFanout.Result<Integer, Integer> rejected = BoundedFanout.run(keys, key -> key, rejecting, 2, deadline);
+        BoundedFanout.Result<Integer, Integer> failed = BoundedFanout.run(keys, key -> {
+            if (key == 2) {
+                throw new IllegalStateException("조회 실패");
+            }
+            return key;
+        }, direct, 2, deadline);
+
+        // Then
+        assertThat(rejected.partial()).isTrue();
+        assertThat(rejected.completed()).isEmpty();
+        assertThat(failed.partial()).isTrue();
+        assertThat(failed.completed().keySet()).containsExactly(1, 3);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo;
+
+import com.example.demo.util.UUID.PackedUuidSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PackedUuidSet 테스트")
+class PackedUuidSetTest {
+
+    @Test
+    @DisplayName("정상 - 생성 시 중복은 하나만 유지하고 원소당 16바이트 사용")
+    void of_DeduplicatesAndPacks() {
+        // Given
+        List<UUID> ids = IntStream.range(0, 1_000).mapToObj(i -> UUID.randomUUID()).toList();
+        List<UUID> withDuplicates = new ArrayList<>(ids);
+        withDuplicates.addAll(ids.subList(0, 10));
+
+        // When
+        PackedUuidSet set = PackedUuidSet.of(withDuplicates);
+
+        // Then
+        assertThat(set.size()).isEqualTo(1_000);
+        assertThat(set.sizeInBytes()).isEqualTo(16_000L);
+        assertThat(ids).allMatch(set::contains);
+        assertThat(set.toList()).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("정상 - with/without은 원본을 바꾸지 않고 새 집합 반환")
+    void withAndWithout_CopyOnWrite() {
+        // Given
+        UUID existing = UUID.randomUUID();
+        UUID added = UUID.randomUUID();
+        PackedUuidSet original = PackedUuidSet.of(List.of(existing));
+
+        // When
+        PackedUuidSet withAdded = original.with(added);
+        PackedUuidSet withoutExisting = withAdded.without(existing);
+
+        // Then
+        assertThat(original.contains(added)).isFalse();
+        assertThat(withAdded.contains(existing)).isTrue();
+        assertThat(withAdded.contains(added)).isTrue();
+        assertThat(withoutExisting.toList()).containsExactly(added);
+        assertThat(original.with(existing)).isSameAs(original);
+        assertThat(original.without(added)).isSameAs(original);
+    }
+
+    @Test
+    @DisplayName("정상 - 일괄 추가/제거")
+    void withAllAndWithoutAll() {
+        // Given
+        List<UUID> ids = IntStream.range(0, 100).mapToObj(i -> UUID.randomUUID()).toList();
+
+        // When
+        PackedUuidSet set = PackedUuidSet.empty().withAll(ids);
+
+        // Then
+        assertThat(set.size()).isEqualTo(100);
+        assertThat(set.withoutAll(ids.subList(0, 50)).toList()).containsExactlyInAnyOrderElementsOf(ids.subList(50, 100));
+        assertThat(set.withoutAll(ids).isEmpty()).isTrue();
+    }
+}
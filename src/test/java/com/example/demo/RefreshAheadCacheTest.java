@@ -0,0 +1,127 @@
+package com.example.demo;
+
+import com.example.demo.util.cache.RefreshAheadCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RefreshAheadCache 테스트")
+class RefreshAheadCacheTest {
+
+    private static final Duration FRESH_FOR = Duration.ofMillis(20);
+    private static final Duration STALE_FOR = Duration.ofMinutes(1);
+
+    // 제출된 갱신 작업을 쌓아 두고 테스트에서 직접 실행
+    private final Deque<Runnable> queued = new ArrayDeque<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger submitted = new AtomicInteger();
+    private boolean rejectNext;
+
+    private RefreshAheadCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        Executor executor = task -> {
+            submitted.incrementAndGet();
+            if (rejectNext) {
+                rejectNext = false;
+                throw new RejectedExecutionException("큐 포화");
+            }
+            queued.add(task);
+        };
+        cache = new RefreshAheadCache<>("test", key -> key + "-v" + loads.incrementAndGet(), 100,
+                FRESH_FOR, STALE_FOR, 0.0, executor, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("정상 - stale 항목은 기존 값을 바로 반환하고 동시 조회가 많아도 갱신은 한 번만 요청")
+    void get_Stale_ReturnsOldValueAndRefreshesOnce() throws Exception {
+        // Given
+        assertThat(cache.get("k")).isEqualTo("k-v1");
+        assertThat(queued).isEmpty();
+        Thread.sleep(FRESH_FOR.toMillis() + 10);
+
+        // When
+        String first = cache.get("k");
+        String second = cache.get("k");
+        String third = cache.get("k");
+
+        // Then: 갱신 완료 전까지는 기존 값, 갱신 작업은 하나
+        assertThat(first).isEqualTo("k-v1");
+        assertThat(second).isEqualTo("k-v1");
+        assertThat(third).isEqualTo("k-v1");
+        assertThat(queued).hasSize(1);
+        assertThat(loads.get()).isEqualTo(1);
+
+        // When: 갱신 실행
+        queued.poll().run();
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.get("k")).isEqualTo("k-v2");
+        assertThat(queued).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정상 - 갱신 중 update된 항목은 갱신 결과로 덮어쓰지 않음")
+    void refresh_UpdatedDuringRefresh_KeepsUpdate() throws Exception {
+        // Given: stale 갱신 요청 후 완료 전에 write-through 반영
+        cache.get("k");
+        Thread.sleep(FRESH_FOR.toMillis() + 10);
+        cache.get("k");
+        cache.update("k", value -> value + "-updated");
+
+        // When
+        queued.poll().run();
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.get("k")).isEqualTo("k-v1-updated");
+    }
+
+    @Test
+    @DisplayName("정상 - 갱신 중 invalidate된 항목은 갱신 결과로 되살리지 않음")
+    void refresh_InvalidatedDuringRefresh_StaysInvalidated() throws Exception {
+        // Given
+        cache.get("k");
+        Thread.sleep(FRESH_FOR.toMillis() + 10);
+        cache.get("k");
+        cache.invalidate("k");
+
+        // When
+        queued.poll().run();
+
+        // Then: 다음 조회는 갱신 결과(v2)가 아니라 새로 적재한 값
+        assertThat(cache.get("k")).isEqualTo("k-v3");
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("정상 - 거절된 갱신은 진행 중 표시를 해제하여 다음 조회에서 다시 갱신 요청")
+    void get_RefreshRejected_RetriesOnNextGet() throws Exception {
+        // Given
+        cache.get("k");
+        Thread.sleep(FRESH_FOR.toMillis() + 10);
+        rejectNext = true;
+
+        // When
+        String rejected = cache.get("k");
+        String retried = cache.get("k");
+
+        // Then
+        assertThat(rejected).isEqualTo("k-v1");
+        assertThat(retried).isEqualTo("k-v1");
+        assertThat(submitted.get()).isEqualTo(2);
+        assertThat(queued).hasSize(1);
+    }
+}
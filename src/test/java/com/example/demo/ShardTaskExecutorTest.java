@@ -0,0 +1,110 @@
+package com.example.demo;
+
+import com.example.demo.config.DataSourceConfig;
+import com.example.demo.util.ShardTaskExecutor;
+import com.example.demo.util.ShardTaskExecutor.ShardTaskResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ShardTaskExecutor 테스트")
+class ShardTaskExecutorTest {
+
+    private ShardTaskExecutor shardTaskExecutor;
+
+    @BeforeEach
+    void setUp() {
+        shardTaskExecutor = new ShardTaskExecutor(
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 1, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardTaskExecutor.shutdown();
+        DataSourceConfig.clearShard();
+    }
+
+    @Test
+    @DisplayName("정상 - 각 작업은 자기 샤드의 라우팅 키로 실행되고, 호출 스레드의 라우팅 키는 변경되지 않음")
+    void executeInEachShard_RunsWithShardRoutingKey() {
+        // Given
+        Map<String, Supplier<String>> tasks = new LinkedHashMap<>();
+        tasks.put("shard1", DataSourceConfig::getShard);
+        tasks.put("shard2", DataSourceConfig::getShard);
+        tasks.put("shard3", DataSourceConfig::getShard);
+
+        // When
+        List<ShardTaskResult<String>> results = shardTaskExecutor.executeInEachShard(tasks);
+
+        // Then
+        assertThat(results).extracting(ShardTaskResult::shardKey).containsExactly("shard1", "shard2", "shard3");
+        assertThat(results).allSatisfy(result -> assertThat(result.value()).isEqualTo(result.shardKey()));
+        assertThat(DataSourceConfig.getShard()).isNull();
+    }
+
+    @Test
+    @DisplayName("정상 - 샤드 작업은 동시에 실행됨 (전체 시간 = max(shard))")
+    void executeInEachShard_RunsShardsConcurrently() {
+        // Given: 세 샤드 작업이 모두 시작되어야 통과하는 래치
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Supplier<Boolean> task = () -> {
+            allStarted.countDown();
+            try {
+                return allStarted.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        };
+        Map<String, Supplier<Boolean>> tasks = new LinkedHashMap<>();
+        tasks.put("shard1", task);
+        tasks.put("shard2", task);
+        tasks.put("shard3", task);
+
+        // When
+        List<ShardTaskResult<Boolean>> results = shardTaskExecutor.executeInEachShard(tasks);
+
+        // Then
+        assertThat(results).allSatisfy(result -> assertThat(result.value()).isTrue());
+    }
+
+    @Test
+    @DisplayName("예외 - 한 샤드 실패는 결과에 담기고 다른 샤드 결과에 영향 없음")
+    void executeInEachShard_IsolatesFailure() {
+        // Given
+        Map<String, Supplier<Integer>> tasks = new LinkedHashMap<>();
+        tasks.put("shard1", () -> 10);
+        tasks.put("shard2", () -> {
+            throw new IllegalStateException("INSERT 실패");
+        });
+
+        // When
+        List<ShardTaskResult<Integer>> results = shardTaskExecutor.executeInEachShard(tasks);
+
+        // Then
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(0).value()).isEqualTo(10);
+        assertThat(results.get(1).isSuccess()).isFalse();
+        assertThat(results.get(1).failure()).hasMessage("INSERT 실패");
+    }
+
+    @Test
+    @DisplayName("예외 - 존재하지 않는 샤드 키는 거부")
+    void executeInEachShard_UnknownShard_Throws() {
+        assertThatThrownBy(() -> shardTaskExecutor.executeInEachShard(Map.of("shard0", () -> 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
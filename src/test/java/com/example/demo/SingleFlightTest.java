@@ -0,0 +1,98 @@
+package com.example.demo;
+
+import com.example.demo.util.concurrent.SingleFlight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("정상 - 같은 키의 동시 호출은 loader를 한 번만 실행하고 결과를 공유")
+    void execute_SameKey_LoadsOnce() throws Exception {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // When: 첫 호출이 loader 안에서 대기하는 동안 나머지 호출 진입
+            CompletableFuture<Integer> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("hot", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return 42;
+            }), executor);
+            assertThat(loading.await(1, TimeUnit.SECONDS)).isTrue();
+
+            List<CompletableFuture<Integer>> followers = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                followers.add(CompletableFuture.supplyAsync(() -> singleFlight.execute("hot", () -> {
+                    loads.incrementAndGet();
+                    return -1;
+                }), executor));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo(42);
+            for (CompletableFuture<Integer> follower : followers) {
+                assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo(42);
+            }
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(singleFlight.inFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("정상 - 완료 후의 호출은 다시 실행 (결과를 보관하지 않음)")
+    void execute_AfterCompletion_LoadsAgain() {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        singleFlight.execute("key", loads::incrementAndGet);
+        int second = singleFlight.execute("key", loads::incrementAndGet);
+
+        // Then
+        assertThat(second).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예외 - loader 예외는 호출자에게 그대로 전달되고 다음 호출은 다시 실행")
+    void execute_LoaderFailure_Propagates() {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+        // When & Then
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException("조회 실패");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("조회 실패");
+        assertThat(singleFlight.execute("key", () -> 1)).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
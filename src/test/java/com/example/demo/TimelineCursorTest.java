@@ -0,0 +1,65 @@
+package com.example.demo;
+
+import com.example.demo.util.cursor.InvalidCursorException;
+import com.example.demo.util.cursor.TimelineCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TimelineCursor 테스트")
+class TimelineCursorTest {
+
+    @Test
+    @DisplayName("정상 - 인코딩한 커서는 마이크로초 단위까지 그대로 디코딩됨")
+    void encodeDecode_RoundTrip() {
+        // Given
+        TimelineCursor cursor = new TimelineCursor(
+                LocalDateTime.of(2025, 1, 19, 10, 0, 0, 123_456_000), UUID.randomUUID());
+
+        // When
+        TimelineCursor decoded = TimelineCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("정상 - 빈 커서는 첫 페이지(null)로 해석")
+    void decode_Blank_ReturnsNull() {
+        assertThat(TimelineCursor.decode(null)).isNull();
+        assertThat(TimelineCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("예외 - 형식이 잘못된 커서는 InvalidCursorException")
+    void decode_Invalid_Throws() {
+        assertThatThrownBy(() -> TimelineCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> TimelineCursor.decode("2025-01-19T10:00:00"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("정상 - 같은 created_at이면 tweet_id 내림차순으로 정렬")
+    void newestFirst_TieBreaksByTweetId() {
+        // Given
+        LocalDateTime sameTime = LocalDateTime.of(2025, 1, 19, 10, 0, 0);
+        TimelineCursor older = new TimelineCursor(sameTime.minusSeconds(1), UUID.randomUUID());
+        TimelineCursor low = new TimelineCursor(sameTime, UUID.fromString("00000000-0000-0000-0000-000000000001"));
+        TimelineCursor high = new TimelineCursor(sameTime, UUID.fromString("ffffffff-0000-0000-0000-000000000001"));
+
+        List<TimelineCursor> items = new ArrayList<>(List.of(low, older, high));
+
+        // When
+        items.sort(TimelineCursor.newestFirst(TimelineCursor::createdAt, TimelineCursor::tweetId));
+
+        // Then
+        assertThat(items).containsExactly(high, low, older);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo;
+
+import com.example.demo.util.bloom.UuidBloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UuidBloomFilter 테스트")
+class UuidBloomFilterTest {
+
+    @Test
+    @DisplayName("정상 - 추가한 UUID는 항상 존재 가능으로 판단 (false negative 없음)")
+    void mightContain_NoFalseNegatives() {
+        // Given
+        UuidBloomFilter filter = UuidBloomFilter.create(10_000, 0.01);
+        List<UUID> userIds = IntStream.range(0, 10_000).mapToObj(i -> UUID.randomUUID()).toList();
+
+        // When
+        userIds.forEach(filter::put);
+
+        // Then
+        assertThat(userIds).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("정상 - 추가하지 않은 UUID의 오탐률은 목표치 근처로 유지")
+    void mightContain_FalsePositiveRateNearTarget() {
+        // Given
+        UuidBloomFilter filter = UuidBloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put(UUID.randomUUID()));
+
+        // When
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID()))
+                .count();
+
+        // Then: 목표 1%, 여유를 두고 3% 미만
+        assertThat(falsePositives).isLessThan(3_000);
+    }
+
+    @Test
+    @DisplayName("예외 - 잘못된 오탐률은 거부")
+    void create_InvalidFpp_Throws() {
+        assertThatThrownBy(() -> UuidBloomFilter.create(100, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.domain.follow;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.example.demo.domain.follow.response.FollowCountResponse;
+import com.example.demo.domain.follow.service.FollowCountRepairService;
+import com.example.demo.domain.follow.service.FollowCountRepairService.CountRepairResult;
+import com.example.demo.domain.follow.service.FollowCountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 팔로우 카운터 재계산 단위 테스트 (Cassandra 조회는 mock)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FollowCountRepairService 테스트")
+class FollowCountRepairServiceTest {
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private FollowingsByUserRepository followingsByUserRepository;
+
+    @Mock
+    private UserFollowCountRepository userFollowCountRepository;
+
+    @Mock
+    private FollowCountService followCountService;
+
+    @Mock
+    private CqlSession cqlSession;
+
+    @InjectMocks
+    private FollowCountRepairService followCountRepairService;
+
+    private LocalDateTime followedAt;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(followCountRepairService, "pageSize", 1000);
+        followedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+    }
+
+    @Test
+    @DisplayName("정상 - 페이지를 넘어가는 파티션도 전체 행 수로 보정하고, 행이 없는 사용자의 카운터는 0으로 보정")
+    void rebuildCounts_CorrectsDriftedCounters() {
+        // Given: X의 팔로워 행 3개가 두 페이지에 걸쳐 있고 카운터는 2, Y는 행 1개 · 카운터 1, Z는 행 없이 카운터 5
+        UUID x = UUID.randomUUID();
+        UUID y = UUID.randomUUID();
+        UUID z = UUID.randomUUID();
+        Pageable first = PageRequest.of(0, 1000);
+        given(followRepository.findAll(any(Pageable.class))).willReturn(
+                new SliceImpl<>(List.of(follower(x), follower(x)), first, true),
+                new SliceImpl<>(List.of(follower(x), follower(y)), first.next(), false));
+        given(followingsByUserRepository.findAll(any(Pageable.class))).willReturn(new SliceImpl<>(List.of()));
+        Map<UUID, FollowCountResponse> counters = Map.of(
+                x, new FollowCountResponse(x, 2L, 0L),
+                y, new FollowCountResponse(y, 1L, 0L));
+        given(followCountService.getCounts(anyCollection())).willAnswer(invocation -> {
+            Map<UUID, FollowCountResponse> found = new LinkedHashMap<>();
+            ((Collection<UUID>) invocation.getArgument(0)).forEach(id -> found.put(id, counters.get(id)));
+            return found;
+        });
+        given(userFollowCountRepository.findAll(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(counter(z, 5L))));
+        givenNoFollowers(z);
+
+        // When
+        CountRepairResult result = followCountRepairService.rebuildCounts();
+
+        // Then
+        then(followCountService).should().correct(x, 1L, 0L);
+        then(followCountService).should().correct(z, -5L, 0L);
+        then(followCountService).should(never()).correct(eq(y), anyLong(), anyLong());
+        assertThat(result.corrected()).isEqualTo(2);
+    }
+
+    private FollowersByUser follower(UUID followedUserId) {
+        return new FollowersByUser(followedUserId, UUID.randomUUID(), followedAt);
+    }
+
+    private static UserFollowCount counter(UUID userId, long followerCount) {
+        UserFollowCount count = new UserFollowCount();
+        ReflectionTestUtils.setField(count, "userId", userId);
+        ReflectionTestUtils.setField(count, "followerCount", followerCount);
+        return count;
+    }
+
+    /**
+     * 팔로워 파티션 존재 확인 조회 결과 (행 없음)
+     */
+    private void givenNoFollowers(UUID userId) {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        BoundStatement bound = mock(BoundStatement.class);
+        AsyncResultSet resultSet = mock(AsyncResultSet.class);
+        given(cqlSession.prepare(contains("FROM followers_by_user"))).willReturn(statement);
+        given(statement.bind(userId)).willReturn(bound);
+        given(cqlSession.executeAsync(bound)).willReturn(CompletableFuture.completedFuture(resultSet));
+        given(resultSet.one()).willReturn(null);
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.demo.domain.follow;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.example.demo.domain.follow.cache.FollowingsCache;
+import com.example.demo.domain.follow.service.FollowGraphRepairService;
+import com.example.demo.domain.follow.service.FollowGraphRepairService.RepairResult;
+import com.example.demo.domain.follow.service.FollowGraphRepairService.Source;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 팔로우 그래프 복구 단위 테스트 (Cassandra 조회는 mock)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FollowGraphRepairService 테스트")
+class FollowGraphRepairServiceTest {
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private FollowingsByUserRepository followingsByUserRepository;
+
+    @Mock
+    private CqlSession cqlSession;
+
+    @Mock
+    private PreparedStatement existingStatement;
+
+    @Mock
+    private FollowingsCache followingsCache;
+
+    @Captor
+    private ArgumentCaptor<List<FollowingsByUser>> followingsCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<FollowersByUser>> followersCaptor;
+
+    @InjectMocks
+    private FollowGraphRepairService followGraphRepairService;
+
+    private LocalDateTime followedAt;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(followGraphRepairService, "pageSize", 1000);
+        followedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+    }
+
+    @Test
+    @DisplayName("FOLLOWERS 기준 - 역방향 행을 created_at과 함께 upsert하고 followers에 없는 followings 행만 삭제")
+    void rebuild_Followers_UpsertsReversedAndDeletesOrphans() {
+        // Given: followers_by_user에는 A → X 만 존재, followings_by_user에는 A → X 와 고아 행 B → Y
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID x = UUID.randomUUID();
+        UUID y = UUID.randomUUID();
+        FollowingsByUser kept = new FollowingsByUser(a, x, followedAt);
+        FollowingsByUser orphan = new FollowingsByUser(b, y, followedAt);
+
+        given(followRepository.findAll(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(new FollowersByUser(x, a, followedAt))));
+        given(followingsByUserRepository.findAll(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(kept, orphan)));
+        given(cqlSession.prepare(anyString())).willReturn(existingStatement);
+        // followings_by_user에 이미 있는 행인지 (follower_id 파티션), 고아 행인지 (followed_user_id 파티션)
+        givenExisting(a, x, x);
+        givenExisting(x, a, a);
+        givenExisting(y, b, null);
+
+        // When
+        RepairResult result = followGraphRepairService.rebuild(Source.FOLLOWERS);
+
+        // Then
+        then(followingsByUserRepository).should().saveAll(followingsCaptor.capture());
+        assertThat(followingsCaptor.getValue()).singleElement().satisfies(following -> {
+            assertThat(following.getKey().getFollowerId()).isEqualTo(a);
+            assertThat(following.getKey().getFollowedUserId()).isEqualTo(x);
+            assertThat(following.getFollowingAt()).isEqualTo(followedAt);
+        });
+        then(followingsByUserRepository).should().deleteAll(followingsCaptor.capture());
+        assertThat(followingsCaptor.getValue()).containsExactly(orphan);
+        then(cqlSession).should().prepare(contains("FROM followers_by_user"));
+        // 팔로잉 목록이 바뀐 팔로워(고아 행 삭제)만 캐시 무효화
+        then(followingsCache).should().invalidate(Set.of(b));
+        then(followingsCache).shouldHaveNoMoreInteractions();
+        assertThat(result).isEqualTo(new RepairResult(1, 1));
+    }
+
+    @Test
+    @DisplayName("FOLLOWERS 기준 - followings_by_user에 없던 행을 추가한 팔로워의 팔로잉 캐시 무효화")
+    void rebuild_Followers_InvalidatesFollowingsOfAddedRows() {
+        // Given: followers_by_user에는 A → X, followings_by_user에는 대응 행 없음
+        UUID a = UUID.randomUUID();
+        UUID x = UUID.randomUUID();
+
+        given(followRepository.findAll(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(new FollowersByUser(x, a, followedAt))));
+        given(followingsByUserRepository.findAll(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of()));
+        given(cqlSession.prepare(anyString())).willReturn(existingStatement);
+        givenExisting(a, x, null);
+
+        // When
+        RepairResult result = followGraphRepairService.rebuild(Source.FOLLOWERS);
+
+        // Then
+        then(followingsCache).should().invalidate(Set.of(a));
+        assertThat(result).isEqualTo(new RepairResult(1, 0));
+    }
+
+    @Test
+    @DisplayName("FOLLOWINGS 기준 - 역방향 행을 created_at과 함께 upsert하고 followings에 없는 followers 행만 삭제")
+    void rebuild_Followings_UpsertsReversedAndDeletesOrphans() {
+        // Given: followings_by_user에는 A → X 만 존재, followers_by_user에는 A → X, 같은 파티션의 고아 행 B → X
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID x = UUID.randomUUID();
+        FollowersByUser kept = new FollowersByUser(x, a, followedAt);
+        FollowersByUser orphan = new FollowersByUser(x, b, followedAt);
+
+        given(followingsByUserRepository.findAll(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(new FollowingsByUser(a, x, followedAt))));
+        given(followRepository.findAll(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(kept, orphan)));
+        given(cqlSession.prepare(anyString())).willReturn(existingStatement);
+        // followers 행의 source 파티션은 follower_id이므로 A, B 각각 조회
+        givenExisting(a, x, x);
+        givenExisting(b, x, null);
+
+        // When
+        RepairResult result = followGraphRepairService.rebuild(Source.FOLLOWINGS);
+
+        // Then
+        then(followRepository).should().saveAll(followersCaptor.capture());
+        assertThat(followersCaptor.getValue()).singleElement().satisfies(follower -> {
+            assertThat(follower.getKey().getFollowedUserId()).isEqualTo(x);
+            assertThat(follower.getKey().getFollowerId()).isEqualTo(a);
+            assertThat(follower.getFollowedAt()).isEqualTo(followedAt);
+        });
+        then(followRepository).should().deleteAll(followersCaptor.capture());
+        assertThat(followersCaptor.getValue()).containsExactly(orphan);
+        then(cqlSession).should().prepare(contains("FROM followings_by_user"));
+        // followings_by_user는 바뀌지 않으므로 팔로잉 캐시는 그대로
+        then(followingsCache).shouldHaveNoInteractions();
+        assertThat(result).isEqualTo(new RepairResult(1, 1));
+    }
+
+    /**
+     * source 파티션 하나에 대한 IN 조회 결과 (existingId가 null이면 대응 행 없음)
+     */
+    private void givenExisting(UUID partitionId, UUID clusteringId, UUID existingId) {
+        BoundStatement bound = mock(BoundStatement.class);
+        AsyncResultSet resultSet = mock(AsyncResultSet.class);
+        given(existingStatement.bind(partitionId, List.of(clusteringId))).willReturn(bound);
+        given(bound.setPageSize(1)).willReturn(bound);
+        given(cqlSession.executeAsync(bound)).willReturn(CompletableFuture.completedFuture(resultSet));
+        if (existingId == null) {
+            given(resultSet.currentPage()).willReturn(List.of());
+            return;
+        }
+        Row row = mock(Row.class);
+        given(row.getUuid(0)).willReturn(existingId);
+        given(resultSet.currentPage()).willReturn(List.of(row));
+    }
+}
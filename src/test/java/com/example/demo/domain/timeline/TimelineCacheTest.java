@@ -0,0 +1,78 @@
+package com.example.demo.domain.timeline;
+
+import com.example.demo.domain.timeline.cache.CachedTimelineEntry;
+import com.example.demo.domain.timeline.cache.TimelineCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Hot 타임라인 캐시 단위 테스트 (Redis는 mock)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimelineCache 테스트")
+class TimelineCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private TimelineCache timelineCache;
+
+    private UUID followerId;
+    private LocalDateTime createdAt;
+
+    @BeforeEach
+    void setUp() {
+        timelineCache = new TimelineCache(redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(timelineCache, "ttlSeconds", 86_400L);
+        followerId = UUID.randomUUID();
+        createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+    }
+
+    @Test
+    @DisplayName("정상 - 같은 밀리초 트윗은 member 문자열 순서가 아닌 Cassandra uuid 순서로 페이지 경계를 정함")
+    void getLatest_SameMillisecond_OrdersLikeCassandra() throws Exception {
+        // Given: 문자열로는 lowByte80 > lowByte10 이지만 Cassandra uuid 비교(하위 바이트 signed)로는 lowByte10이 더 큼
+        UUID newest = new UUID(1L, 1L);
+        UUID lowByte80 = new UUID(0L, 0x8000000000000000L);
+        UUID lowByte10 = new UUID(0L, 0x1000000000000000L);
+        // 스크립트는 경계 점수의 트윗을 ZSET 순서(member 문자열 역순)로 모두 반환
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("timeline:" + followerId)), eq("2"), eq("86400")))
+                .willReturn(List.of(newest.toString(), lowByte80.toString(), lowByte10.toString()));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyList())).willReturn(List.of(
+                body(newest, createdAt.plusSeconds(1)), body(lowByte80, createdAt), body(lowByte10, createdAt)));
+
+        // When
+        List<UserTimeline> timelines = timelineCache.getLatest(followerId, 2).orElseThrow();
+
+        // Then
+        assertThat(timelines).extracting(timeline -> timeline.getKey().getTweetId())
+                .containsExactly(newest, lowByte10);
+    }
+
+    private String body(UUID tweetId, LocalDateTime tweetCreatedAt) throws Exception {
+        return objectMapper.writeValueAsString(new CachedTimelineEntry(tweetId, UUID.randomUUID(), "트윗", tweetCreatedAt));
+    }
+}
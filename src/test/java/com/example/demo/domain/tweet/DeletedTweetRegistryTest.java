@@ -0,0 +1,83 @@
+package com.example.demo.domain.tweet;
+
+import com.example.demo.domain.tweet.delete.DeletedTweetRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 삭제 트윗 목록 단위 테스트 (정리 완료 전 만료 없음)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeletedTweetRegistry 테스트")
+class DeletedTweetRegistryTest {
+
+    private static final String DELETED_KEY = "tweet:deleted";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private DeletedTweetRegistry registry;
+
+    private UUID tweetId;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        registry = new DeletedTweetRegistry(redisTemplate);
+        ReflectionTestUtils.setField(registry, "tombstoneGraceSeconds", 600L);
+        tweetId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("정상 - 등록 시 만료 없이 저장하고 정리 완료 시 유예 시간 후 만료로 변경")
+    void markCleaned_StartsGracePeriod() {
+        // When
+        registry.markDeleted(tweetId);
+        long before = System.currentTimeMillis();
+        registry.markCleaned(tweetId);
+
+        // Then
+        verify(zSetOperations).add(DELETED_KEY, tweetId.toString(), (double) Long.MAX_VALUE);
+        verify(zSetOperations).add(eq(DELETED_KEY), eq(tweetId.toString()),
+            doubleThat(score -> score >= before + 600_000 && score < before + 601_000));
+        assertThat(registry.isDeleted(tweetId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("예외 - Redis 등록 실패 항목은 메모리에 유지하고 refresh 때 다시 등록")
+    void refresh_RetriesUnsyncedTombstone() {
+        // Given
+        given(zSetOperations.add(DELETED_KEY, tweetId.toString(), (double) Long.MAX_VALUE))
+            .willThrow(new RedisConnectionFailureException("Redis 장애"))
+            .willReturn(true);
+        given(zSetOperations.rangeByScoreWithScores(eq(DELETED_KEY), anyDouble(), anyDouble()))
+            .willReturn(Set.of(new DefaultTypedTuple<>(tweetId.toString(), (double) Long.MAX_VALUE)));
+        registry.markDeleted(tweetId);
+
+        // When
+        registry.refresh();
+
+        // Then
+        verify(zSetOperations, times(2)).add(DELETED_KEY, tweetId.toString(), (double) Long.MAX_VALUE);
+        assertThat(registry.isDeleted(tweetId)).isTrue();
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.demo.domain.tweet;
+
+import com.example.demo.domain.celebrity.service.CelebrityService;
+import com.example.demo.domain.follow.service.FollowCountService;
+import com.example.demo.domain.follow.service.FollowerPageReader;
+import com.example.demo.domain.follow.service.FollowerPageReader.FollowerPage;
+import com.example.demo.domain.timeline.cache.TimelineCache;
+import com.example.demo.domain.timeline.writer.TimelineFanoutWriter;
+import com.example.demo.domain.tweet.dto.FanoutJobMessage;
+import com.example.demo.domain.tweet.dto.FanoutPageMessage;
+import com.example.demo.domain.tweet.fanout.FanoutJobConsumer;
+import com.example.demo.domain.tweet.fanout.FanoutProgressTracker;
+import com.example.demo.rabbitmq.RabbitMqService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 비동기 Fan-out 파이프라인 컨슈머 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FanoutJobConsumer 테스트")
+class FanoutJobConsumerTest {
+
+    private static final String PAGE_ROUTING_KEY = "fanout.page";
+
+    @Mock
+    private FollowerPageReader followerPageReader;
+
+    @Mock
+    private CelebrityService celebrityService;
+
+    @Mock
+    private FollowCountService followCountService;
+
+    @Mock
+    private TimelineFanoutWriter timelineFanoutWriter;
+
+    @Mock
+    private TimelineCache timelineCache;
+
+    @Mock
+    private RabbitMqService rabbitMqService;
+
+    @Mock
+    private FanoutProgressTracker progressTracker;
+
+    @InjectMocks
+    private FanoutJobConsumer fanoutJobConsumer;
+
+    private UUID authorId;
+    private UUID tweetId;
+    private LocalDateTime createdAt;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(fanoutJobConsumer, "pageRoutingKey", PAGE_ROUTING_KEY);
+        ReflectionTestUtils.setField(fanoutJobConsumer, "pageSize", 1000);
+        authorId = UUID.randomUUID();
+        tweetId = UUID.randomUUID();
+        createdAt = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("정상 - 첫 팔로워 페이지를 다음 paging state와 함께 페이지 큐에 발행")
+    void handleJob_DispatchesFirstPageWithPagingState() {
+        // Given
+        given(followerPageReader.readPage(authorId, null, 1000))
+            .willReturn(new FollowerPage(createFollowerIds(1000), "page-2"));
+
+        // When
+        fanoutJobConsumer.handleJob(new FanoutJobMessage(authorId, tweetId, "트윗", createdAt));
+
+        // Then
+        ArgumentCaptor<FanoutPageMessage> captor = ArgumentCaptor.forClass(FanoutPageMessage.class);
+        verify(rabbitMqService).sendMessage(eq(PAGE_ROUTING_KEY), captor.capture());
+        assertThat(captor.getValue().getFollowerIds()).hasSize(1000);
+        assertThat(captor.getValue().getNextPagingState()).isEqualTo("page-2");
+        assertThat(captor.getValue().getDispatchedFollowers()).isEqualTo(1000);
+        verify(progressTracker, never()).dispatchDone(tweetId);
+        verifyNoInteractions(timelineFanoutWriter);
+    }
+
+    @Test
+    @DisplayName("정상 - 페이지 처리 시 다음 페이지를 먼저 발행하고, 마지막 페이지면 발행 완료 기록")
+    void handlePage_DispatchesNextPageBeforeWriting() {
+        // Given
+        List<UUID> followerIds = createFollowerIds(1000);
+        given(followerPageReader.readPage(authorId, "page-2", 1000))
+            .willReturn(new FollowerPage(createFollowerIds(500), null));
+        given(timelineFanoutWriter.writeAll(followerIds, tweetId, authorId, "트윗", createdAt))
+            .willReturn(CompletableFuture.completedFuture(1000));
+
+        // When
+        fanoutJobConsumer.handlePage(new FanoutPageMessage(
+            authorId, tweetId, "트윗", createdAt, followerIds, "page-2", 1000, 0));
+
+        // Then
+        ArgumentCaptor<FanoutPageMessage> captor = ArgumentCaptor.forClass(FanoutPageMessage.class);
+        verify(rabbitMqService).sendMessage(eq(PAGE_ROUTING_KEY), captor.capture());
+        assertThat(captor.getValue().getFollowerIds()).hasSize(500);
+        assertThat(captor.getValue().getDispatchedFollowers()).isEqualTo(1500);
+        verify(progressTracker).dispatchDone(tweetId);
+        verify(progressTracker).pageCompleted(tweetId, 1000, 0);
+    }
+
+    @Test
+    @DisplayName("정상 - 셀럽 작성자는 페이지 발행 없이 celebrity_tweets에만 저장")
+    void handleJob_Celebrity_SkipsPages() {
+        // Given
+        given(celebrityService.isCelebrity(authorId)).willReturn(true);
+
+        // When
+        fanoutJobConsumer.handleJob(new FanoutJobMessage(authorId, tweetId, "트윗", createdAt));
+
+        // Then
+        verify(celebrityService).saveCelebrityTweet(authorId, tweetId, "트윗", createdAt);
+        verify(progressTracker).celebrity(tweetId);
+        verifyNoInteractions(followerPageReader);
+        verify(rabbitMqService, never()).sendMessage(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("정상 - 팔로워 카운터가 임계치 이상이면 팔로워 조회 없이 승격 후 celebrity_tweets에 저장")
+    void handleJob_FollowerCountOverThreshold_PromotesBeforePaging() {
+        // Given
+        given(followCountService.getFollowerCount(authorId)).willReturn(50_000L);
+        given(celebrityService.promoteIfOverThreshold(authorId, 50_000L)).willReturn(true);
+
+        // When
+        fanoutJobConsumer.handleJob(new FanoutJobMessage(authorId, tweetId, "트윗", createdAt));
+
+        // Then
+        verify(celebrityService).saveCelebrityTweet(authorId, tweetId, "트윗", createdAt);
+        verify(progressTracker).celebrity(tweetId);
+        verifyNoInteractions(followerPageReader);
+    }
+
+    @Test
+    @DisplayName("정상 - 페이지 저장 후 Hot 캐시 갱신 및 진행 상황 기록")
+    void handlePage_WritesTimelinesAndRecordsProgress() {
+        // Given
+        List<UUID> followerIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        given(timelineFanoutWriter.writeAll(followerIds, tweetId, authorId, "트윗", createdAt))
+            .willReturn(CompletableFuture.completedFuture(2));
+
+        // When
+        fanoutJobConsumer.handlePage(new FanoutPageMessage(authorId, tweetId, "트윗", createdAt, followerIds, null, 2, 0));
+
+        // Then
+        verify(timelineCache).push(followerIds, tweetId, authorId, "트윗", createdAt);
+        verify(progressTracker).pageCompleted(tweetId, 2, 0);
+    }
+
+    @Test
+    @DisplayName("예외 - 페이지 저장 실패 시 재시도 횟수를 늘려 다시 발행")
+    void handlePage_Failure_Republishes() {
+        // Given
+        List<UUID> followerIds = List.of(UUID.randomUUID());
+        FanoutPageMessage page = new FanoutPageMessage(authorId, tweetId, "트윗", createdAt, followerIds, null, 2, 0);
+        given(timelineFanoutWriter.writeAll(any(), any(), any(), any(), any()))
+            .willReturn(CompletableFuture.failedFuture(new RuntimeException("INSERT 실패")));
+
+        // When
+        fanoutJobConsumer.handlePage(page);
+
+        // Then
+        verify(rabbitMqService).sendMessage(PAGE_ROUTING_KEY, page);
+        assertThat(page.getRetryCount()).isEqualTo(1);
+        verify(progressTracker, never()).pageCompleted(any(), anyLong(), anyLong());
+    }
+
+    private List<UUID> createFollowerIds(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> UUID.randomUUID())
+            .collect(Collectors.toList());
+    }
+}
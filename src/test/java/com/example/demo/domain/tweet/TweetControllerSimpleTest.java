@@ -6,6 +6,7 @@ import com.example.demo.domain.tweet.request.CreateTweetRequest;
 import com.example.demo.domain.tweet.response.TweetResponse;
 import com.example.demo.domain.tweet.response.TweetListResponse;
 import com.example.demo.domain.tweet.service.TweetService;
+import com.example.demo.util.cursor.TimelineCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -122,25 +123,25 @@ class TweetControllerSimpleTest {
     @DisplayName("GET /tweets/{userId} - 커서와 함께 조회 성공")
     void getUserTweets_WithCursor_Success() {
         // Given
-        LocalDateTime cursor = LocalDateTime.of(2025, 1, 19, 10, 0, 0);
+        TimelineCursor cursor = new TimelineCursor(LocalDateTime.of(2025, 1, 19, 10, 0, 0), UUID.randomUUID());
         
         TweetResponse tweet = TweetResponse.builder()
                 .tweetId(UUID.randomUUID())
                 .userId(userId)
                 .content("과거 트윗")
-                .createdAt(cursor.minusHours(1))
+                .createdAt(cursor.createdAt().minusHours(1))
                 .build();
 
         TweetListResponse mockResponse = new TweetListResponse();
         mockResponse.setTweets(Arrays.asList(tweet));
         mockResponse.setHasMore(true);
-        mockResponse.setNextCursor(cursor.minusHours(2));
+        mockResponse.setNextCursor(TimelineCursor.encodeLast(tweet.getCreatedAt(), tweet.getTweetId()));
 
         given(tweetService.getUserTweets(eq(userId), eq(cursor), eq(5)))
                 .willReturn(mockResponse);
 
         // When
-        ApiResponse<TweetListResponse> response = tweetController.getUserTweets(userId, cursor, 5);
+        ApiResponse<TweetListResponse> response = tweetController.getUserTweets(userId, cursor.encode(), 5);
 
         // Then
         assertThat(response).isNotNull();
@@ -148,6 +149,7 @@ class TweetControllerSimpleTest {
         assertThat(response.getMessage()).isEqualTo("사용자 트윗 조회가 완료되었습니다");
         assertThat(response.getData().getTweets()).hasSize(1);
         assertThat(response.getData().isHasMore()).isTrue();
+        assertThat(TimelineCursor.decode(response.getData().getNextCursor()).tweetId()).isEqualTo(tweet.getTweetId());
 
         verify(tweetService).getUserTweets(userId, cursor, 5);
     }
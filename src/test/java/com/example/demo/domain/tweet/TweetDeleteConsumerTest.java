@@ -0,0 +1,124 @@
+package com.example.demo.domain.tweet;
+
+import com.example.demo.domain.celebrity.service.CelebrityService;
+import com.example.demo.domain.follow.service.FollowerPageReader;
+import com.example.demo.domain.follow.service.FollowerPageReader.FollowerPage;
+import com.example.demo.domain.timeline.cache.TimelineCache;
+import com.example.demo.domain.timeline.writer.TimelineFanoutWriter;
+import com.example.demo.domain.tweet.delete.DeletedTweetRegistry;
+import com.example.demo.domain.tweet.delete.TweetDeleteConsumer;
+import com.example.demo.domain.tweet.dto.TweetDeleteMessage;
+import com.example.demo.rabbitmq.RabbitMqService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 트윗 삭제 정리 컨슈머 단위 테스트 (tombstone 만료 시점)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TweetDeleteConsumer 테스트")
+class TweetDeleteConsumerTest {
+
+    private static final String ROUTING_KEY = "tweet.delete";
+
+    @Mock
+    private FollowerPageReader followerPageReader;
+
+    @Mock
+    private CelebrityService celebrityService;
+
+    @Mock
+    private TimelineFanoutWriter timelineFanoutWriter;
+
+    @Mock
+    private TimelineCache timelineCache;
+
+    @Mock
+    private RabbitMqService rabbitMqService;
+
+    @Mock
+    private DeletedTweetRegistry deletedTweetRegistry;
+
+    @InjectMocks
+    private TweetDeleteConsumer tweetDeleteConsumer;
+
+    private UUID authorId;
+    private UUID tweetId;
+    private LocalDateTime createdAt;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tweetDeleteConsumer, "routingKey", ROUTING_KEY);
+        ReflectionTestUtils.setField(tweetDeleteConsumer, "pageSize", 1000);
+        authorId = UUID.randomUUID();
+        tweetId = UUID.randomUUID();
+        createdAt = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("정상 - 중간 페이지는 다음 페이지만 발행하고 tombstone은 유지")
+    void handle_MiddlePage_KeepsTombstone() {
+        // Given
+        List<UUID> followerIds = List.of(UUID.randomUUID());
+        given(followerPageReader.readPage(authorId, null, 1000)).willReturn(new FollowerPage(followerIds, "page-2"));
+        given(timelineFanoutWriter.deleteAll(followerIds, tweetId, createdAt))
+            .willReturn(CompletableFuture.completedFuture(1));
+
+        // When
+        tweetDeleteConsumer.handle(new TweetDeleteMessage(authorId, tweetId, createdAt, null, 0, 0));
+
+        // Then
+        verify(rabbitMqService).sendMessage(eq(ROUTING_KEY), any(TweetDeleteMessage.class));
+        verify(deletedTweetRegistry, never()).markCleaned(any());
+    }
+
+    @Test
+    @DisplayName("정상 - 마지막 페이지 정리가 끝나면 tombstone 만료 시작")
+    void handle_LastPage_MarksCleaned() {
+        // Given
+        List<UUID> followerIds = List.of(UUID.randomUUID());
+        given(followerPageReader.readPage(authorId, "page-2", 1000)).willReturn(new FollowerPage(followerIds, null));
+        given(timelineFanoutWriter.deleteAll(followerIds, tweetId, createdAt))
+            .willReturn(CompletableFuture.completedFuture(1));
+
+        // When
+        tweetDeleteConsumer.handle(new TweetDeleteMessage(authorId, tweetId, createdAt, "page-2", 1000, 0));
+
+        // Then
+        verify(timelineCache).remove(followerIds, tweetId);
+        verify(deletedTweetRegistry).markCleaned(tweetId);
+        verify(rabbitMqService, never()).sendMessage(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("예외 - 최대 재시도 초과 시 재발행하지 않고 tombstone 유지")
+    void handle_RetriesExhausted_KeepsTombstone() {
+        // Given
+        given(followerPageReader.readPage(authorId, "page-2", 1000))
+            .willThrow(new RuntimeException("조회 실패"));
+        TweetDeleteMessage message = new TweetDeleteMessage(authorId, tweetId, createdAt, "page-2", 1000, 3);
+
+        // When
+        tweetDeleteConsumer.handle(message);
+
+        // Then
+        verify(rabbitMqService, never()).sendMessage(anyString(), any());
+        verify(deletedTweetRegistry, never()).markCleaned(any());
+        assertThat(message.getRetryCount()).isEqualTo(3);
+    }
+}
@@ -1,11 +1,17 @@
 package com.example.demo.domain.tweet;
 
-import com.example.demo.domain.follow.FollowRepository;
+import com.example.demo.domain.celebrity.service.CelebrityService;
+import com.example.demo.domain.follow.service.FollowerPageReader;
+import com.example.demo.domain.follow.service.FollowerPageReader.FollowerPage;
 import com.example.demo.domain.follow.FollowersByUser;
 import com.example.demo.domain.follow.FollowersByUserKey;
 
 import com.example.demo.domain.timeline.UserTimelineRepository;
+import com.example.demo.domain.timeline.cache.TimelineCache;
+import com.example.demo.domain.timeline.writer.TimelineFanoutWriter;
+import com.example.demo.domain.tweet.cache.AuthorRecentTweetsCache;
 import com.example.demo.domain.tweet.entity.Tweet;
+import com.example.demo.domain.tweet.fanout.FanoutJobPublisher;
 import com.example.demo.domain.tweet.entity.TweetByUser;
 import com.example.demo.domain.tweet.entity.TweetByUserKey;
 import com.example.demo.domain.tweet.repository.TweetByUserRepository;
@@ -16,6 +22,7 @@ import com.example.demo.domain.tweet.response.TweetListResponse;
 import com.example.demo.domain.tweet.service.TweetServiceAdvanced;
 import com.example.demo.domain.tweet.dto.FanoutRetryMessage;
 import com.example.demo.rabbitmq.RabbitMqService;
+import com.example.demo.util.cursor.TimelineCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,15 +32,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.cassandra.core.CassandraTemplate;
-import org.springframework.data.cassandra.core.CassandraBatchOperations;
-import org.springframework.data.cassandra.core.cql.WriteOptions;
+import org.springframework.amqp.AmqpConnectException;
 import org.springframework.dao.DataAccessException;
 
+import java.net.ConnectException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
@@ -65,7 +72,7 @@ class TweetServiceAdvancedTest {
     private TweetByUserRepository tweetByUserRepository;
     
     @Mock
-    private FollowRepository followRepository;
+    private FollowerPageReader followerPageReader;
     
     @Mock
     private UserTimelineRepository userTimelineRepository;
@@ -74,13 +81,19 @@ class TweetServiceAdvancedTest {
     private RabbitMqService rabbitMqService;
     
     @Mock
-    private CassandraTemplate cassandraTemplate;
-    
+    private TimelineFanoutWriter timelineFanoutWriter;
+
     @Mock
-    private WriteOptions timelineWriteOptions;
-    
+    private FanoutJobPublisher fanoutJobPublisher;
+
+    @Mock
+    private CelebrityService celebrityService;
+
+    @Mock
+    private TimelineCache timelineCache;
+
     @Mock
-    private CassandraBatchOperations batchOperations;
+    private AuthorRecentTweetsCache authorRecentTweetsCache;
 
     @InjectMocks
     private TweetServiceAdvanced tweetServiceAdvanced;
@@ -105,15 +118,38 @@ class TweetServiceAdvancedTest {
     class CreateTweetTest {
 
         @Test
-        @DisplayName("정상 - 팔로워가 없는 경우")
+        @DisplayName("정상 - Fan-out 작업만 발행하고 팔로워 전달 없이 즉시 반환")
+        void createTweet_PublishesFanoutJob_ReturnsImmediately() {
+            // Given
+            given(tweetRepository.save(any(Tweet.class))).willReturn(createMockTweet());
+            given(tweetByUserRepository.save(any(TweetByUser.class))).willReturn(createMockTweetByUser());
+
+            // When
+            TweetResponse response = tweetServiceAdvanced.createTweet(userId, createRequest);
+
+            // Then
+            assertThat(response).isNotNull();
+            assertThat(response.getContent()).isEqualTo(createRequest.getContent());
+            assertThat(response.getUserId()).isEqualTo(userId);
+
+            verify(tweetRepository).save(any(Tweet.class));
+            verify(tweetByUserRepository).save(any(TweetByUser.class));
+            verify(fanoutJobPublisher).publish(eq(userId), any(UUID.class), eq(createRequest.getContent()), any(LocalDateTime.class));
+            verifyNoInteractions(followerPageReader);
+            verifyNoInteractions(timelineFanoutWriter);
+        }
+
+        @Test
+        @DisplayName("정상 - 브로커 장애 시 동기 Fan-out, 팔로워가 없는 경우")
         void createTweet_WithNoFollowers_Success() {
             // Given
             Tweet mockTweet = createMockTweet();
             TweetByUser mockTweetByUser = createMockTweetByUser();
+            givenBrokerDown();
             
             given(tweetRepository.save(any(Tweet.class))).willReturn(mockTweet);
             given(tweetByUserRepository.save(any(TweetByUser.class))).willReturn(mockTweetByUser);
-            given(followRepository.findByKeyFollowedUserId(userId)).willReturn(Collections.emptyList());
+            givenFollowerPage(userId, Collections.emptyList());
 
             // When
             TweetResponse response = tweetServiceAdvanced.createTweet(userId, createRequest);
@@ -125,8 +161,8 @@ class TweetServiceAdvancedTest {
             
             verify(tweetRepository).save(any(Tweet.class));
             verify(tweetByUserRepository).save(any(TweetByUser.class));
-            verify(followRepository).findByKeyFollowedUserId(userId);
-            verifyNoInteractions(cassandraTemplate);
+            verify(followerPageReader).readPage(eq(userId), isNull(), anyInt());
+            verifyNoInteractions(timelineFanoutWriter);
             verifyNoInteractions(rabbitMqService);
         }
 
@@ -134,16 +170,17 @@ class TweetServiceAdvancedTest {
         @DisplayName("정상 - 팔로워가 있는 경우 (소규모)")
         @Timeout(value = 5, unit = TimeUnit.SECONDS)
         void createTweet_WithSmallFollowers_Success() {
-            // Given
+            // Given - 브로커 장애로 동기 Fan-out 경로 실행
+            givenBrokerDown();
             Tweet mockTweet = createMockTweet();
             TweetByUser mockTweetByUser = createMockTweetByUser();
             List<FollowersByUser> followers = createMockFollowers(50); // 50명의 팔로워
             
             given(tweetRepository.save(any(Tweet.class))).willReturn(mockTweet);
             given(tweetByUserRepository.save(any(TweetByUser.class))).willReturn(mockTweetByUser);
-            given(followRepository.findByKeyFollowedUserId(userId)).willReturn(followers);
-            given(cassandraTemplate.batchOps()).willReturn(batchOperations);
-            given(batchOperations.insert(anyList(), eq(timelineWriteOptions))).willReturn(batchOperations);
+            givenFollowerPage(userId, followers);
+            given(timelineFanoutWriter.writeAll(anyCollection(), any(), any(), any(), any()))
+                .willAnswer(invocation -> CompletableFuture.completedFuture(((Collection<?>) invocation.getArgument(0)).size()));
 
             // When
             TweetResponse response = tweetServiceAdvanced.createTweet(userId, createRequest);
@@ -154,26 +191,26 @@ class TweetServiceAdvancedTest {
             
             verify(tweetRepository).save(any(Tweet.class));
             verify(tweetByUserRepository).save(any(TweetByUser.class));
-            verify(followRepository).findByKeyFollowedUserId(userId);
-            verify(cassandraTemplate).batchOps();
-            verify(batchOperations).insert(anyList(), eq(timelineWriteOptions));
-            verify(batchOperations).execute();
+            verify(followerPageReader).readPage(eq(userId), isNull(), anyInt());
+            verify(timelineFanoutWriter).writeAll(argThat(ids -> ids.size() == 50), any(UUID.class),
+                eq(userId), eq(createRequest.getContent()), any(LocalDateTime.class));
         }
 
         @Test
         @DisplayName("정상 - 대규모 팔로워 배치 처리")
         @Timeout(value = 10, unit = TimeUnit.SECONDS)
         void createTweet_WithLargeFollowers_BatchProcessing() {
-            // Given
+            // Given - 브로커 장애로 동기 Fan-out 경로 실행
+            givenBrokerDown();
             Tweet mockTweet = createMockTweet();
             TweetByUser mockTweetByUser = createMockTweetByUser();
             List<FollowersByUser> followers = createMockFollowers(1500); // 1500명의 팔로워 (배치 15개)
             
             given(tweetRepository.save(any(Tweet.class))).willReturn(mockTweet);
             given(tweetByUserRepository.save(any(TweetByUser.class))).willReturn(mockTweetByUser);
-            given(followRepository.findByKeyFollowedUserId(userId)).willReturn(followers);
-            given(cassandraTemplate.batchOps()).willReturn(batchOperations);
-            given(batchOperations.insert(anyList(), eq(timelineWriteOptions))).willReturn(batchOperations);
+            givenFollowerPage(userId, followers);
+            given(timelineFanoutWriter.writeAll(anyCollection(), any(), any(), any(), any()))
+                .willAnswer(invocation -> CompletableFuture.completedFuture(((Collection<?>) invocation.getArgument(0)).size()));
 
             // When
             TweetResponse response = tweetServiceAdvanced.createTweet(userId, createRequest);
@@ -183,12 +220,73 @@ class TweetServiceAdvancedTest {
             
             verify(tweetRepository).save(any(Tweet.class));
             verify(tweetByUserRepository).save(any(TweetByUser.class));
-            verify(followRepository).findByKeyFollowedUserId(userId);
+            verify(followerPageReader).readPage(eq(userId), isNull(), anyInt());
             
-            // 배치 개수 확인 (1500 / 100 = 15개 배치)
-            verify(cassandraTemplate, times(15)).batchOps();
-            verify(batchOperations, times(15)).insert(anyList(), eq(timelineWriteOptions));
-            verify(batchOperations, times(15)).execute();
+            // 다중 파티션 배치 없이 전체 팔로워를 한 번에 Writer로 전달 (팔로워별 단건 INSERT)
+            verify(timelineFanoutWriter).writeAll(argThat(ids -> ids.size() == 1500), any(UUID.class),
+                eq(userId), any(), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("정상 - 팔로워를 페이지 단위로 이어서 조회하며 페이지마다 저장")
+        void createTweet_StreamsFollowerPages() {
+            // Given - 브로커 장애로 동기 Fan-out 경로 실행
+            givenBrokerDown();
+            given(tweetRepository.save(any(Tweet.class))).willReturn(createMockTweet());
+            given(tweetByUserRepository.save(any(TweetByUser.class))).willReturn(createMockTweetByUser());
+            given(followerPageReader.readPage(eq(userId), isNull(), anyInt()))
+                .willReturn(new FollowerPage(toFollowerIds(createMockFollowers(1000)), "page-2"));
+            given(followerPageReader.readPage(eq(userId), eq("page-2"), anyInt()))
+                .willReturn(new FollowerPage(toFollowerIds(createMockFollowers(300)), null));
+            given(timelineFanoutWriter.writeAll(anyCollection(), any(), any(), any(), any()))
+                .willAnswer(invocation -> CompletableFuture.completedFuture(((Collection<?>) invocation.getArgument(0)).size()));
+
+            // When
+            tweetServiceAdvanced.createTweet(userId, createRequest);
+
+            // Then - 페이지마다 한 번씩 저장, 누적 팔로워 수로 셀럽 임계치 확인
+            verify(timelineFanoutWriter).writeAll(argThat(ids -> ids.size() == 1000), any(), any(), any(), any());
+            verify(timelineFanoutWriter).writeAll(argThat(ids -> ids.size() == 300), any(), any(), any(), any());
+            verify(celebrityService).promoteIfOverThreshold(userId, 1000L);
+            verify(celebrityService).promoteIfOverThreshold(userId, 1300L);
+        }
+
+        @Test
+        @DisplayName("정상 - 셀럽 작성자는 팔로워 Fan-out 없이 celebrity_tweets에만 저장")
+        void createTweet_Celebrity_SkipsFanout() {
+            // Given - 브로커 장애로 동기 Fan-out 경로 실행
+            givenBrokerDown();
+            given(tweetRepository.save(any(Tweet.class))).willReturn(createMockTweet());
+            given(tweetByUserRepository.save(any(TweetByUser.class))).willReturn(createMockTweetByUser());
+            given(celebrityService.isCelebrity(userId)).willReturn(true);
+
+            // When
+            TweetResponse response = tweetServiceAdvanced.createTweet(userId, createRequest);
+
+            // Then
+            assertThat(response).isNotNull();
+            verify(celebrityService).saveCelebrityTweet(eq(userId), any(UUID.class), eq(createRequest.getContent()), any(LocalDateTime.class));
+            verifyNoInteractions(followerPageReader);
+            verifyNoInteractions(timelineFanoutWriter);
+        }
+
+        @Test
+        @DisplayName("정상 - 팔로워 수가 임계치를 넘으면 셀럽으로 승격하고 Push 생략")
+        void createTweet_OverThreshold_PromotedToCelebrity() {
+            // Given - 브로커 장애로 동기 Fan-out 경로 실행
+            givenBrokerDown();
+            List<FollowersByUser> followers = createMockFollowers(300);
+            given(tweetRepository.save(any(Tweet.class))).willReturn(createMockTweet());
+            given(tweetByUserRepository.save(any(TweetByUser.class))).willReturn(createMockTweetByUser());
+            givenFollowerPage(userId, followers);
+            given(celebrityService.promoteIfOverThreshold(userId, 300L)).willReturn(true);
+
+            // When
+            tweetServiceAdvanced.createTweet(userId, createRequest);
+
+            // Then
+            verify(celebrityService).saveCelebrityTweet(eq(userId), any(UUID.class), eq(createRequest.getContent()), any(LocalDateTime.class));
+            verifyNoInteractions(timelineFanoutWriter);
         }
 
         @Test
@@ -204,7 +302,7 @@ class TweetServiceAdvancedTest {
             
             verifyNoInteractions(tweetRepository);
             verifyNoInteractions(tweetByUserRepository);
-            verifyNoInteractions(followRepository);
+            verifyNoInteractions(followerPageReader);
         }
 
         @Test
@@ -221,7 +319,7 @@ class TweetServiceAdvancedTest {
             
             verify(tweetRepository).save(any(Tweet.class));
             verifyNoInteractions(tweetByUserRepository);
-            verifyNoInteractions(followRepository);
+            verifyNoInteractions(followerPageReader);
         }
 
         @Test
@@ -240,23 +338,23 @@ class TweetServiceAdvancedTest {
             
             verify(tweetRepository).save(any(Tweet.class));
             verify(tweetByUserRepository).save(any(TweetByUser.class));
-            verifyNoInteractions(followRepository);
+            verifyNoInteractions(followerPageReader);
         }
 
         @Test
         @DisplayName("예외 - Fan-out 실패 시 재시도 큐 전송")
         void createTweet_FanoutFailure_SendToRetryQueue() {
-            // Given
+            // Given - 브로커 장애로 동기 Fan-out 경로 실행
+            givenBrokerDown();
             Tweet mockTweet = createMockTweet();
             TweetByUser mockTweetByUser = createMockTweetByUser();
             List<FollowersByUser> followers = createMockFollowers(100);
             
             given(tweetRepository.save(any(Tweet.class))).willReturn(mockTweet);
             given(tweetByUserRepository.save(any(TweetByUser.class))).willReturn(mockTweetByUser);
-            given(followRepository.findByKeyFollowedUserId(userId)).willReturn(followers);
-            given(cassandraTemplate.batchOps()).willReturn(batchOperations);
-            given(batchOperations.insert(anyList(), eq(timelineWriteOptions))).willReturn(batchOperations);
-            doThrow(new RuntimeException("배치 처리 실패")).when(batchOperations).execute();
+            givenFollowerPage(userId, followers);
+            given(timelineFanoutWriter.writeAll(anyCollection(), any(), any(), any(), any()))
+                .willReturn(CompletableFuture.failedFuture(new RuntimeException("타임라인 INSERT 실패")));
 
             // When
             TweetResponse response = tweetServiceAdvanced.createTweet(userId, createRequest);
@@ -266,24 +364,24 @@ class TweetServiceAdvancedTest {
             
             verify(tweetRepository).save(any(Tweet.class));
             verify(tweetByUserRepository).save(any(TweetByUser.class));
-            verify(followRepository).findByKeyFollowedUserId(userId);
+            verify(followerPageReader).readPage(eq(userId), isNull(), anyInt());
             verify(rabbitMqService).sendMessage(any(FanoutRetryMessage.class));
         }
 
         @Test
         @DisplayName("예외 - Fan-out 실패 + 재시도 큐 전송도 실패")
         void createTweet_FanoutAndRetryQueueFailure_StillSucceeds() {
-            // Given
+            // Given - 브로커 장애로 동기 Fan-out 경로 실행
+            givenBrokerDown();
             Tweet mockTweet = createMockTweet();
             TweetByUser mockTweetByUser = createMockTweetByUser();
             List<FollowersByUser> followers = createMockFollowers(100);
             
             given(tweetRepository.save(any(Tweet.class))).willReturn(mockTweet);
             given(tweetByUserRepository.save(any(TweetByUser.class))).willReturn(mockTweetByUser);
-            given(followRepository.findByKeyFollowedUserId(userId)).willReturn(followers);
-            given(cassandraTemplate.batchOps()).willReturn(batchOperations);
-            given(batchOperations.insert(anyList(), eq(timelineWriteOptions))).willReturn(batchOperations);
-            doThrow(new RuntimeException("배치 처리 실패")).when(batchOperations).execute();
+            givenFollowerPage(userId, followers);
+            given(timelineFanoutWriter.writeAll(anyCollection(), any(), any(), any(), any()))
+                .willReturn(CompletableFuture.failedFuture(new RuntimeException("타임라인 INSERT 실패")));
             doThrow(new RuntimeException("RabbitMQ 전송 실패")).when(rabbitMqService).sendMessage(any());
 
             // When
@@ -294,7 +392,7 @@ class TweetServiceAdvancedTest {
             
             verify(tweetRepository).save(any(Tweet.class));
             verify(tweetByUserRepository).save(any(TweetByUser.class));
-            verify(followRepository).findByKeyFollowedUserId(userId);
+            verify(followerPageReader).readPage(eq(userId), isNull(), anyInt());
             verify(rabbitMqService).sendMessage(any(FanoutRetryMessage.class));
         }
     }
@@ -312,9 +410,9 @@ class TweetServiceAdvancedTest {
                 userId, tweetId, "재시도 트윗", testTime, 1
             );
             
-            given(followRepository.findByKeyFollowedUserId(userId)).willReturn(followers);
-            given(cassandraTemplate.batchOps()).willReturn(batchOperations);
-            given(batchOperations.insert(anyList(), eq(timelineWriteOptions))).willReturn(batchOperations);
+            givenFollowerPage(userId, followers);
+            given(timelineFanoutWriter.writeAll(anyCollection(), any(), any(), any(), any()))
+                .willAnswer(invocation -> CompletableFuture.completedFuture(((Collection<?>) invocation.getArgument(0)).size()));
 
             // When
             assertThatNoException().isThrownBy(() -> 
@@ -322,10 +420,9 @@ class TweetServiceAdvancedTest {
             );
 
             // Then
-            verify(followRepository).findByKeyFollowedUserId(userId);
-            verify(cassandraTemplate, times(2)).batchOps(); // 200명 / 100 = 2배치
-            verify(batchOperations, times(2)).insert(anyList(), eq(timelineWriteOptions));
-            verify(batchOperations, times(2)).execute();
+            verify(followerPageReader).readPage(eq(userId), isNull(), anyInt());
+            verify(timelineFanoutWriter).writeAll(argThat(ids -> ids.size() == 200), eq(tweetId),
+                eq(userId), eq("재시도 트윗"), eq(testTime));
         }
 
         @Test
@@ -337,10 +434,9 @@ class TweetServiceAdvancedTest {
                 userId, tweetId, "재시도 트윗", testTime, 1
             );
             
-            given(followRepository.findByKeyFollowedUserId(userId)).willReturn(followers);
-            given(cassandraTemplate.batchOps()).willReturn(batchOperations);
-            given(batchOperations.insert(anyList(), eq(timelineWriteOptions))).willReturn(batchOperations);
-            doThrow(new RuntimeException("재시도 실패")).when(batchOperations).execute();
+            givenFollowerPage(userId, followers);
+            given(timelineFanoutWriter.writeAll(anyCollection(), any(), any(), any(), any()))
+                .willReturn(CompletableFuture.failedFuture(new RuntimeException("재시도 실패")));
 
             // When & Then - CompletableFuture로 인해 CompletionException으로 래핑될 수 있음
             assertThatThrownBy(() -> tweetServiceAdvanced.retryFanout(retryMessage))
@@ -359,8 +455,8 @@ class TweetServiceAdvancedTest {
         @DisplayName("정상 - 첫 페이지 조회")
         void getUserTweets_FirstPage_Success() {
             // Given
-            List<TweetByUser> mockTweets = createMockTweetsByUser(20);
-            given(tweetByUserRepository.findLatestTweets(userId)).willReturn(mockTweets);
+            List<TweetByUser> mockTweets = createMockTweetsByUser(10);
+            given(authorRecentTweetsCache.getLatest(userId, 10)).willReturn(mockTweets);
 
             // When
             TweetListResponse response = tweetServiceAdvanced.getUserTweets(userId, null, 10);
@@ -370,18 +466,21 @@ class TweetServiceAdvancedTest {
             assertThat(response.getTweets()).hasSize(10);
             assertThat(response.isHasMore()).isTrue();
             assertThat(response.getNextCursor()).isNotNull();
+            TimelineCursor nextCursor = TimelineCursor.decode(response.getNextCursor());
+            assertThat(nextCursor.tweetId()).isEqualTo(mockTweets.get(9).getKey().getTweetId());
+            assertThat(nextCursor.createdAt()).isEqualTo(mockTweets.get(9).getKey().getCreatedAt());
             
-            verify(tweetByUserRepository).findLatestTweets(userId);
-            verify(tweetByUserRepository, never()).findTweetsWithCursor(any(), any());
+            verify(authorRecentTweetsCache).getLatest(userId, 10);
+            verify(tweetByUserRepository, never()).findTweetsAfter(any(), any(), any(), anyInt());
         }
 
         @Test
         @DisplayName("정상 - 커서 기반 페이지 조회")
         void getUserTweets_WithCursor_Success() {
             // Given
-            LocalDateTime cursor = testTime.minusDays(1);
+            TimelineCursor cursor = new TimelineCursor(testTime.minusDays(1), UUID.randomUUID());
             List<TweetByUser> mockTweets = createMockTweetsByUser(5);
-            given(tweetByUserRepository.findTweetsWithCursor(userId, cursor)).willReturn(mockTweets);
+            given(tweetByUserRepository.findTweetsAfter(userId, cursor.createdAt(), cursor.tweetId(), 10)).willReturn(mockTweets);
 
             // When
             TweetListResponse response = tweetServiceAdvanced.getUserTweets(userId, cursor, 10);
@@ -391,16 +490,16 @@ class TweetServiceAdvancedTest {
             assertThat(response.getTweets()).hasSize(5);
             assertThat(response.isHasMore()).isFalse();
             
-            verify(tweetByUserRepository).findTweetsWithCursor(userId, cursor);
-            verify(tweetByUserRepository, never()).findLatestTweets(any());
+            verify(tweetByUserRepository).findTweetsAfter(userId, cursor.createdAt(), cursor.tweetId(), 10);
+            verify(authorRecentTweetsCache, never()).getLatest(any(), anyInt());
         }
 
         @Test
         @DisplayName("정상 - 크기 제한 적용")
         void getUserTweets_SizeLimitApplied() {
             // Given
-            List<TweetByUser> mockTweets = createMockTweetsByUser(100);
-            given(tweetByUserRepository.findLatestTweets(userId)).willReturn(mockTweets);
+            List<TweetByUser> mockTweets = createMockTweetsByUser(50);
+            given(authorRecentTweetsCache.getLatest(userId, 50)).willReturn(mockTweets);
 
             // When
             TweetListResponse response = tweetServiceAdvanced.getUserTweets(userId, null, 200); // 200 요청
@@ -409,13 +508,14 @@ class TweetServiceAdvancedTest {
             assertThat(response).isNotNull();
             assertThat(response.getTweets()).hasSize(50); // 최대 50개로 제한
             assertThat(response.isHasMore()).isTrue();
+            verify(authorRecentTweetsCache).getLatest(userId, 50); // LIMIT도 50으로 조회
         }
 
         @Test
         @DisplayName("정상 - 빈 결과")
         void getUserTweets_EmptyResult() {
             // Given
-            given(tweetByUserRepository.findLatestTweets(userId)).willReturn(Collections.emptyList());
+            given(authorRecentTweetsCache.getLatest(userId, 10)).willReturn(Collections.emptyList());
 
             // When
             TweetListResponse response = tweetServiceAdvanced.getUserTweets(userId, null, 10);
@@ -431,7 +531,7 @@ class TweetServiceAdvancedTest {
         @DisplayName("예외 - Repository 조회 실패")
         void getUserTweets_RepositoryFailure() {
             // Given
-            given(tweetByUserRepository.findLatestTweets(userId))
+            given(authorRecentTweetsCache.getLatest(userId, 10))
                 .willThrow(new DataAccessException("DB 조회 실패") {});
 
             // When & Then
@@ -449,16 +549,17 @@ class TweetServiceAdvancedTest {
         @DisplayName("메모리 효율성 - 대량 팔로워 처리")
         @Timeout(value = 15, unit = TimeUnit.SECONDS)
         void createTweet_LargeFollowersMemoryEfficient() {
-            // Given - 10,000명의 팔로워 (극한 상황)
+            // Given - 10,000명의 팔로워 (극한 상황), 브로커 장애로 동기 Fan-out 경로 실행
+            givenBrokerDown();
             Tweet mockTweet = createMockTweet();
             TweetByUser mockTweetByUser = createMockTweetByUser();
             List<FollowersByUser> followers = createMockFollowers(10000);
             
             given(tweetRepository.save(any(Tweet.class))).willReturn(mockTweet);
             given(tweetByUserRepository.save(any(TweetByUser.class))).willReturn(mockTweetByUser);
-            given(followRepository.findByKeyFollowedUserId(userId)).willReturn(followers);
-            given(cassandraTemplate.batchOps()).willReturn(batchOperations);
-            given(batchOperations.insert(anyList(), eq(timelineWriteOptions))).willReturn(batchOperations);
+            givenFollowerPage(userId, followers);
+            given(timelineFanoutWriter.writeAll(anyCollection(), any(), any(), any(), any()))
+                .willAnswer(invocation -> CompletableFuture.completedFuture(((Collection<?>) invocation.getArgument(0)).size()));
 
             // When
             TweetResponse response = tweetServiceAdvanced.createTweet(userId, createRequest);
@@ -466,32 +567,34 @@ class TweetServiceAdvancedTest {
             // Then
             assertThat(response).isNotNull();
             
-            // 배치 개수 확인 (10,000 / 100 = 100개 배치)
-            verify(cassandraTemplate, times(100)).batchOps();
-            verify(batchOperations, times(100)).insert(anyList(), eq(timelineWriteOptions));
-            verify(batchOperations, times(100)).execute();
+            verify(timelineFanoutWriter).writeAll(argThat(ids -> ids.size() == 10000), any(UUID.class),
+                eq(userId), any(), any(LocalDateTime.class));
         }
 
         @Test
         @DisplayName("타임아웃 - 배치 처리 시간 초과")
         @Timeout(value = 3, unit = TimeUnit.SECONDS)
         void createTweet_BatchProcessingTimeout() {
-            // Given
+            // Given - 브로커 장애로 동기 Fan-out 경로 실행
+            givenBrokerDown();
             Tweet mockTweet = createMockTweet();
             TweetByUser mockTweetByUser = createMockTweetByUser();
             List<FollowersByUser> followers = createMockFollowers(1000);
             
             given(tweetRepository.save(any(Tweet.class))).willReturn(mockTweet);
             given(tweetByUserRepository.save(any(TweetByUser.class))).willReturn(mockTweetByUser);
-            given(followRepository.findByKeyFollowedUserId(userId)).willReturn(followers);
-            given(cassandraTemplate.batchOps()).willReturn(batchOperations);
-            given(batchOperations.insert(anyList(), eq(timelineWriteOptions))).willReturn(batchOperations);
-            
-            // 처리 지연 시뮬레이션
-            willAnswer(invocation -> {
-                Thread.sleep(500); // 각 배치마다 500ms 지연
-                return null;
-            }).given(batchOperations).execute();
+            givenFollowerPage(userId, followers);
+
+            // 처리 지연 시뮬레이션 (in-flight 요청이 500ms 뒤에 모두 완료)
+            given(timelineFanoutWriter.writeAll(anyCollection(), any(), any(), any(), any()))
+                .willAnswer(invocation -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        Thread.sleep(500);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return 1000;
+                }));
 
             // When & Then - 타임아웃 내에 완료되어야 함 (비동기 처리로 인해)
             assertThatNoException().isThrownBy(() -> 
@@ -508,16 +611,18 @@ class TweetServiceAdvancedTest {
         @DisplayName("동시성 - 여러 스레드에서 동시 트윗 생성")
         @Timeout(value = 10, unit = TimeUnit.SECONDS)
         void createTweet_ConcurrentExecution() {
-            // Given
+            // Given - 브로커 장애로 동기 Fan-out 경로 실행
+            givenBrokerDown();
             Tweet mockTweet = createMockTweet();
             TweetByUser mockTweetByUser = createMockTweetByUser();
             List<FollowersByUser> followers = createMockFollowers(500);
             
             given(tweetRepository.save(any(Tweet.class))).willReturn(mockTweet);
             given(tweetByUserRepository.save(any(TweetByUser.class))).willReturn(mockTweetByUser);
-            given(followRepository.findByKeyFollowedUserId(any())).willReturn(followers);
-            given(cassandraTemplate.batchOps()).willReturn(batchOperations);
-            given(batchOperations.insert(anyList(), eq(timelineWriteOptions))).willReturn(batchOperations);
+            given(followerPageReader.readPage(any(), isNull(), anyInt()))
+                .willReturn(new FollowerPage(toFollowerIds(followers), null));
+            given(timelineFanoutWriter.writeAll(anyCollection(), any(), any(), any(), any()))
+                .willAnswer(invocation -> CompletableFuture.completedFuture(((Collection<?>) invocation.getArgument(0)).size()));
 
             // When - 5개 스레드에서 동시 실행
             List<UUID> userIds = IntStream.range(0, 5)
@@ -537,6 +642,22 @@ class TweetServiceAdvancedTest {
     }
 
     // Helper Methods
+    private void givenFollowerPage(UUID authorId, List<FollowersByUser> followers) {
+        given(followerPageReader.readPage(eq(authorId), isNull(), anyInt()))
+            .willReturn(new FollowerPage(toFollowerIds(followers), null));
+    }
+
+    private List<UUID> toFollowerIds(List<FollowersByUser> followers) {
+        return followers.stream()
+            .map(follower -> follower.getKey().getFollowerId())
+            .collect(Collectors.toList());
+    }
+
+    private void givenBrokerDown() {
+        willThrow(new AmqpConnectException(new ConnectException("RabbitMQ 연결 실패")))
+            .given(fanoutJobPublisher).publish(any(), any(), any(), any());
+    }
+
     private Tweet createMockTweet() {
         return Tweet.builder()
             .tweetId(tweetId)
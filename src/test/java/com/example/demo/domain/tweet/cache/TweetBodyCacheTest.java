@@ -0,0 +1,178 @@
+package com.example.demo.domain.tweet.cache;
+
+import com.example.demo.domain.tweet.entity.Tweet;
+import com.example.demo.domain.tweet.repository.TweetRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 트윗 본문 2단계 캐시 단위 테스트 (L1은 실제 Caffeine, L2/Cassandra는 mock)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TweetBodyCache 테스트")
+class TweetBodyCacheTest {
+
+    @Mock
+    private TweetRepository tweetRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private TweetBodyCache tweetBodyCache;
+
+    @BeforeEach
+    void setUp() {
+        tweetBodyCache = new TweetBodyCache(tweetRepository, redisTemplate, objectMapper,
+                new SimpleMeterRegistry(), listenerContainer, 1_048_576L, 300L);
+        ReflectionTestUtils.setField(tweetBodyCache, "multiGetChunkSize", 100);
+        ReflectionTestUtils.setField(tweetBodyCache, "redisTtlSeconds", 86_400L);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("정상 - L1 hit, L2 hit, 없는 트윗이 섞여도 L1 miss만 MGET 한 번, L2 miss만 Cassandra 한 번 조회")
+    void getAll_MixedTiers_LooksUpEachTierOnce() throws Exception {
+        // Given: l1은 이전 조회로 L1에 적재, l2는 Redis에만, db는 Cassandra에만, missing은 어디에도 없음
+        Tweet l1 = tweet("L1 트윗");
+        Tweet l2 = tweet("L2 트윗");
+        Tweet db = tweet("DB 트윗");
+        UUID missing = UUID.randomUUID();
+
+        given(valueOperations.multiGet(List.of(key(l1.getTweetId())))).willReturn(List.of(json(l1)));
+        tweetBodyCache.get(l1.getTweetId());
+
+        given(valueOperations.multiGet(List.of(key(l2.getTweetId()), key(missing), key(db.getTweetId()))))
+                .willReturn(Arrays.asList(json(l2), null, null));
+        given(tweetRepository.findAllById(List.of(missing, db.getTweetId()))).willReturn(List.of(db));
+
+        // When
+        Map<UUID, Tweet> result = tweetBodyCache.getAll(List.of(l1.getTweetId(), l2.getTweetId(), missing, db.getTweetId()));
+
+        // Then
+        assertThat(result).containsOnlyKeys(l1.getTweetId(), l2.getTweetId(), db.getTweetId());
+        assertThat(result.get(l1.getTweetId()).getTweetText()).isEqualTo("L1 트윗");
+        assertThat(result.get(l2.getTweetId()).getTweetText()).isEqualTo("L2 트윗");
+        assertThat(result.get(db.getTweetId()).getTweetText()).isEqualTo("DB 트윗");
+        then(valueOperations).should().multiGet(List.of(key(l1.getTweetId())));
+        then(valueOperations).should().multiGet(List.of(key(l2.getTweetId()), key(missing), key(db.getTweetId())));
+        then(valueOperations).shouldHaveNoMoreInteractions();
+        then(tweetRepository).should().findAllById(List.of(missing, db.getTweetId()));
+        // Cassandra에서 찾은 트윗만 L2에 파이프라인으로 적재
+        then(redisTemplate).should().executePipelined(any(RedisCallback.class));
+
+        // When: 다시 조회하면 L2/Cassandra에서 찾은 트윗도 L1에서 반환
+        Map<UUID, Tweet> cached = tweetBodyCache.getAll(List.of(l1.getTweetId(), l2.getTweetId(), db.getTweetId()));
+
+        // Then
+        assertThat(cached).containsOnlyKeys(l1.getTweetId(), l2.getTweetId(), db.getTweetId());
+        then(valueOperations).shouldHaveNoMoreInteractions();
+        then(tweetRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("정상 - evict는 L1에서 제거하고 L2를 삭제 표시로 덮어쓴 뒤 다른 인스턴스에 무효화 메시지를 발행")
+    void evict_RemovesBothTiersAndPublishesInvalidation() throws Exception {
+        // Given: L2 hit로 L1에 적재된 트윗
+        Tweet tweet = tweet("삭제될 트윗");
+        String key = key(tweet.getTweetId());
+        given(valueOperations.multiGet(List.of(key)))
+                .willReturn(List.of(json(tweet)))
+                .willReturn(List.of(""));
+        assertThat(tweetBodyCache.get(tweet.getTweetId())).isPresent();
+
+        // When
+        tweetBodyCache.evict(tweet.getTweetId());
+
+        // Then
+        then(valueOperations).should().set(key, "", Duration.ofSeconds(86_400L));
+        then(redisTemplate).should().convertAndSend(TweetBodyCache.INVALIDATION_CHANNEL, tweet.getTweetId().toString());
+
+        // L1에서도 제거되어 다음 조회는 L2까지 내려가고, 삭제 표시를 만나면 Cassandra 조회 없이 없음
+        assertThat(tweetBodyCache.get(tweet.getTweetId())).isEmpty();
+        then(valueOperations).should(times(2)).multiGet(List.of(key));
+        then(tweetRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("정상 - Cassandra 적재 도중 삭제(evict)되면 L1에 되살리지 않고 L2는 SET NX로만 적재")
+    void getAll_EvictedDuringLoad_DoesNotResurrect() throws Exception {
+        // Given: Cassandra 조회가 끝나기 전에 다른 요청이 트윗을 삭제
+        Tweet tweet = tweet("삭제 경합 트윗");
+        String key = key(tweet.getTweetId());
+        given(valueOperations.multiGet(List.of(key)))
+                .willReturn(Arrays.asList((String) null))
+                .willReturn(List.of(""));
+        given(tweetRepository.findAllById(List.of(tweet.getTweetId()))).willAnswer(invocation -> {
+            tweetBodyCache.evict(tweet.getTweetId());
+            return List.of(tweet);
+        });
+
+        // When
+        tweetBodyCache.get(tweet.getTweetId());
+
+        // Then: L2 적재는 삭제 표시를 덮어쓰지 않는 SET NX
+        ArgumentCaptor<RedisCallback<Object>> pipeline = ArgumentCaptor.forClass(RedisCallback.class);
+        then(redisTemplate).should().executePipelined(pipeline.capture());
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        given(connection.stringCommands()).willReturn(stringCommands);
+        pipeline.getValue().doInRedis(connection);
+        then(stringCommands).should().set(eq(key.getBytes(StandardCharsets.UTF_8)), any(byte[].class),
+                any(Expiration.class), eq(SetOption.ifAbsent()));
+
+        // L1에 남지 않았으므로 다음 조회는 L2 삭제 표시를 보고 없음으로 처리
+        assertThat(tweetBodyCache.get(tweet.getTweetId())).isEmpty();
+        then(valueOperations).should(times(2)).multiGet(List.of(key));
+        then(tweetRepository).should(times(1)).findAllById(any());
+    }
+
+    private static Tweet tweet(String text) {
+        return Tweet.builder()
+                .tweetId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .tweetText(text)
+                .build();
+    }
+
+    private String json(Tweet tweet) throws Exception {
+        return objectMapper.writeValueAsString(new CachedTweet(tweet.getTweetId(), tweet.getUserId(), tweet.getTweetText()));
+    }
+
+    private static String key(UUID tweetId) {
+        return "tweet:body:" + tweetId;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.demo.domain.tweet.merge;
+
+import com.example.demo.domain.tweet.entity.TweetByUser;
+import com.example.demo.util.cursor.TimelineCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AuthorTweetStream 테스트")
+class AuthorTweetStreamTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private final UUID authorId = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 19, 10, 0);
+
+    @Test
+    @DisplayName("정상 - 현재 페이지를 모두 소비한 뒤에만 마지막 트윗 위치로 다음 페이지를 조회")
+    void next_FullPages_FetchesLazilyFromLastPosition() {
+        // Given: 최신순 트윗 5개 (페이지 크기 2)
+        List<TweetByUser> tweets = IntStream.range(0, 5)
+                .mapToObj(i -> tweet(now.minusMinutes(i)))
+                .toList();
+        List<TimelineCursor> requested = new ArrayList<>();
+        AuthorTweetStream stream = new AuthorTweetStream(authorId, tweets.subList(0, 2), PAGE_SIZE, (id, cursor) -> {
+            requested.add(cursor);
+            int from = tweets.indexOf(tweets.stream()
+                    .filter(tweet -> tweet.getKey().getTweetId().equals(cursor.tweetId()))
+                    .findFirst()
+                    .orElseThrow()) + 1;
+            return tweets.subList(from, Math.min(from + PAGE_SIZE, tweets.size()));
+        });
+
+        // When & Then: 첫 페이지 소비 중에는 조회하지 않음
+        assertThat(stream.next()).isSameAs(tweets.get(0));
+        assertThat(stream.next()).isSameAs(tweets.get(1));
+        assertThat(requested).isEmpty();
+
+        // 이후 페이지는 직전 페이지 마지막 (created_at, tweet_id) 이후부터 조회
+        assertThat(stream.next()).isSameAs(tweets.get(2));
+        assertThat(stream.next()).isSameAs(tweets.get(3));
+        assertThat(stream.next()).isSameAs(tweets.get(4));
+        assertThat(stream.next()).isNull();
+        assertThat(requested).containsExactly(position(tweets.get(1)), position(tweets.get(3)));
+    }
+
+    @Test
+    @DisplayName("정상 - 페이지가 pageSize보다 작으면 소진된 것으로 보고 더 조회하지 않음")
+    void next_ShortPage_Exhausted() {
+        // Given
+        TweetByUser only = tweet(now);
+        List<TimelineCursor> requested = new ArrayList<>();
+        AuthorTweetStream stream = new AuthorTweetStream(authorId, List.of(only), PAGE_SIZE, (id, cursor) -> {
+            requested.add(cursor);
+            return List.of();
+        });
+
+        // When & Then
+        assertThat(stream.next()).isSameAs(only);
+        assertThat(stream.next()).isNull();
+        assertThat(stream.next()).isNull();
+        assertThat(requested).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정상 - 가득 찬 페이지 뒤 빈 페이지를 받으면 null을 반환하고 이후 다시 조회하지 않음")
+    void next_EmptyNextPage_StopsFetching() {
+        // Given
+        List<TweetByUser> firstPage = List.of(tweet(now), tweet(now.minusMinutes(1)));
+        List<TimelineCursor> requested = new ArrayList<>();
+        AuthorTweetStream stream = new AuthorTweetStream(authorId, firstPage, PAGE_SIZE, (id, cursor) -> {
+            requested.add(cursor);
+            return List.of();
+        });
+
+        // When
+        stream.next();
+        stream.next();
+
+        // Then
+        assertThat(stream.next()).isNull();
+        assertThat(stream.next()).isNull();
+        assertThat(requested).hasSize(1);
+        assertThat(stream.getAuthorId()).isEqualTo(authorId);
+    }
+
+    @Test
+    @DisplayName("예외 - 다음 페이지 조회 실패는 소진으로 처리하지 않고 전파, 다시 호출하면 같은 위치부터 조회")
+    void next_FetchFails_PropagatesAndRetriesSamePosition() {
+        // Given
+        List<TweetByUser> firstPage = List.of(tweet(now), tweet(now.minusMinutes(1)));
+        TweetByUser older = tweet(now.minusMinutes(2));
+        List<TimelineCursor> requested = new ArrayList<>();
+        AuthorTweetStream stream = new AuthorTweetStream(authorId, firstPage, PAGE_SIZE, (id, cursor) -> {
+            requested.add(cursor);
+            if (requested.size() == 1) {
+                throw new IllegalStateException("조회 실패");
+            }
+            return List.of(older);
+        });
+        stream.next();
+        stream.next();
+
+        // When & Then
+        assertThatThrownBy(stream::next).isInstanceOf(IllegalStateException.class);
+        assertThat(stream.next()).isSameAs(older);
+        assertThat(requested).containsExactly(position(firstPage.get(1)), position(firstPage.get(1)));
+    }
+
+    private TweetByUser tweet(LocalDateTime createdAt) {
+        return TweetByUser.builder()
+                .userId(authorId)
+                .tweetId(UUID.randomUUID())
+                .tweetText("tweet")
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static TimelineCursor position(TweetByUser tweet) {
+        return new TimelineCursor(tweet.getKey().getCreatedAt(), tweet.getKey().getTweetId());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.domain.tweet.merge;
+
+import com.example.demo.util.cursor.InvalidCursorException;
+import com.example.demo.util.cursor.TimelineCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TimelineMergeCursor 테스트")
+class TimelineMergeCursorTest {
+
+    private static final Comparator<TimelineCursor> NEWEST_FIRST =
+            TimelineCursor.newestFirst(TimelineCursor::createdAt, TimelineCursor::tweetId);
+
+    private final LocalDateTime boundary = LocalDateTime.of(2025, 1, 19, 10, 0, 0, 123_000_000);
+
+    @Test
+    @DisplayName("정상 - 인코딩한 커서는 boundary와 작성자별 위치를 순서까지 그대로 디코딩")
+    void encodeDecode_RoundTrip() {
+        // Given
+        Map<UUID, TimelineCursor> positions = new LinkedHashMap<>();
+        positions.put(UUID.randomUUID(), new TimelineCursor(boundary, UUID.randomUUID()));
+        positions.put(UUID.randomUUID(), new TimelineCursor(boundary.plusSeconds(5), UUID.randomUUID()));
+        positions.put(UUID.randomUUID(), new TimelineCursor(boundary.plusMinutes(1), UUID.randomUUID()));
+        TimelineMergeCursor cursor = new TimelineMergeCursor(boundary, positions);
+
+        // When
+        TimelineMergeCursor decoded = TimelineMergeCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded.getBoundary()).isEqualTo(boundary);
+        assertThat(decoded.getAuthorPositions()).containsExactlyEntriesOf(positions);
+    }
+
+    @Test
+    @DisplayName("정상 - 위치가 없는 커서도 그대로 디코딩")
+    void encodeDecode_NoPositions() {
+        // When
+        TimelineMergeCursor decoded = TimelineMergeCursor.decode(new TimelineMergeCursor(boundary, Map.of()).encode());
+
+        // Then
+        assertThat(decoded.getBoundary()).isEqualTo(boundary);
+        assertThat(decoded.getAuthorPositions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예외 - 형식이 잘못되었거나 잘린 커서는 InvalidCursorException")
+    void decode_Invalid_Throws() {
+        // Given
+        Map<UUID, TimelineCursor> positions = Map.of(UUID.randomUUID(), new TimelineCursor(boundary, UUID.randomUUID()));
+        String encoded = new TimelineMergeCursor(boundary, positions).encode();
+
+        // When & Then
+        assertThatThrownBy(() -> TimelineMergeCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> TimelineMergeCursor.decode(encoded.substring(0, encoded.length() - 4)))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("정상 - 위치가 있는 작성자는 그 위치에서, 없는 작성자는 boundary 이하 전체에서 이어서 조회")
+    void resumePositionFor_WithAndWithoutPosition() {
+        // Given
+        UUID known = UUID.randomUUID();
+        TimelineCursor knownPosition = new TimelineCursor(boundary, UUID.randomUUID());
+        TimelineMergeCursor cursor = new TimelineMergeCursor(boundary, Map.of(known, knownPosition));
+
+        // When
+        TimelineCursor resumed = cursor.resumePositionFor(UUID.randomUUID());
+
+        // Then: 위치 이후 = boundary 시각의 모든 트윗은 포함, boundary보다 최신 트윗은 제외
+        assertThat(cursor.resumePositionFor(known)).isEqualTo(knownPosition);
+        for (int i = 0; i < 100; i++) {
+            TimelineCursor atBoundary = new TimelineCursor(boundary, UUID.randomUUID());
+            TimelineCursor newer = new TimelineCursor(boundary.plusNanos(1_000_000), UUID.randomUUID());
+            assertThat(NEWEST_FIRST.compare(resumed, atBoundary)).isNegative();
+            assertThat(NEWEST_FIRST.compare(newer, resumed)).isNegative();
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.example.demo.domain.tweet.service;
+
+import com.example.demo.domain.follow.FollowRepository;
+import com.example.demo.domain.follow.cache.FollowingsCache;
+import com.example.demo.domain.tweet.cache.AuthorRecentTweetsCache;
+import com.example.demo.domain.tweet.cache.TweetBodyCache;
+import com.example.demo.domain.tweet.delete.DeletedTweetRegistry;
+import com.example.demo.domain.tweet.entity.TweetByUser;
+import com.example.demo.domain.tweet.merge.TimelineMergeCursor;
+import com.example.demo.domain.tweet.repository.TweetByUserRepository;
+import com.example.demo.domain.tweet.repository.TweetRepository;
+import com.example.demo.domain.tweet.response.TweetListResponse;
+import com.example.demo.domain.tweet.response.TweetResponse;
+import com.example.demo.util.cursor.TimelineCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Fan-out on Read 타임라인 병합 단위 테스트 (작성자별 조회는 mock, Executor는 작은 실제 ThreadPool)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TweetFanoutOnReadService 병합 테스트")
+class TweetFanoutOnReadMergeTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int QUEUE_CAPACITY = 4;
+    private static final int MAX_TASKS_PER_REQUEST = 2;
+
+    @Mock
+    private TweetRepository tweetRepository;
+
+    @Mock
+    private TweetByUserRepository tweetByUserRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private FollowingsCache followingsCache;
+
+    @Mock
+    private TweetBodyCache tweetBodyCache;
+
+    @Mock
+    private AuthorRecentTweetsCache authorRecentTweetsCache;
+
+    @Mock
+    private DeletedTweetRegistry deletedTweetRegistry;
+
+    private ThreadPoolExecutor executor;
+    private TweetFanoutOnReadService service;
+    private UUID userId;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(2, 2, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY));
+        service = new TweetFanoutOnReadService(tweetRepository, tweetByUserRepository, followRepository,
+                followingsCache, tweetBodyCache, authorRecentTweetsCache, deletedTweetRegistry, executor);
+        ReflectionTestUtils.setField(service, "readDeadlineMs", 2000L);
+        ReflectionTestUtils.setField(service, "maxTasksPerRequest", MAX_TASKS_PER_REQUEST);
+        userId = UUID.randomUUID();
+        // created_at은 밀리초 정밀도로 저장되므로 커서 왕복 시 값이 바뀌지 않도록 초 단위로 맞춤
+        now = LocalDateTime.now().withNano(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("정상 - 팔로잉 수가 Executor 큐 용량보다 많아도 모든 작성자를 병합 (부분 응답 아님)")
+    void getTimeline_FollowingsExceedQueueCapacity_MergesAllAuthors() {
+        // Given: 큐 용량의 150배 팔로잉, 작성자마다 서로 다른 시각의 트윗 1개
+        List<UUID> followings = IntStream.range(0, QUEUE_CAPACITY * 150)
+                .mapToObj(i -> UUID.randomUUID())
+                .toList();
+        Map<UUID, TweetByUser> heads = new HashMap<>();
+        List<UUID> authors = new ArrayList<>(followings);
+        authors.add(userId);
+        for (int i = 0; i < authors.size(); i++) {
+            heads.put(authors.get(i), tweet(authors.get(i), now.minusSeconds(i)));
+        }
+
+        AtomicInteger openedAuthors = new AtomicInteger();
+        given(followingsCache.getFollowingIds(userId)).willReturn(followings);
+        given(authorRecentTweetsCache.getLatest(any(), eq(PAGE_SIZE))).willAnswer(invocation -> {
+            openedAuthors.incrementAndGet();
+            return List.of(heads.get(invocation.<UUID>getArgument(0)));
+        });
+
+        // When
+        TweetListResponse response = service.getTimeline(userId, null, PAGE_SIZE);
+
+        // Then: 요청 하나는 maxTasksPerRequest개 작업만 제출하고 모든 작성자를 연 뒤 최신 20개 반환
+        assertThat(response.isPartial()).isFalse();
+        assertThat(openedAuthors.get()).isEqualTo(authors.size());
+        assertThat(executor.getTaskCount()).isEqualTo(MAX_TASKS_PER_REQUEST);
+        assertThat(response.getTweets())
+                .extracting(TweetResponse::getTweetId)
+                .containsExactlyElementsOf(authors.subList(0, PAGE_SIZE).stream()
+                        .map(authorId -> heads.get(authorId).getKey().getTweetId())
+                        .toList());
+        assertThat(response.isHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("부분 응답 - deadline까지 열지 못한 작성자는 다음 커서에 위치를 남겨 다음 페이지에서 이어서 조회")
+    void getTimeline_DeadlineExceeded_CarriesUnopenedAuthorToNextCursor() {
+        // Given: slow 작성자의 첫 페이지 조회가 deadline보다 오래 걸림
+        ReflectionTestUtils.setField(service, "readDeadlineMs", 100L);
+        UUID fast = UUID.randomUUID();
+        UUID slow = UUID.randomUUID();
+        TweetByUser fastTweet = tweet(fast, now.minusMinutes(1));
+        TweetByUser slowTweet = tweet(slow, now);
+        CountDownLatch release = new CountDownLatch(1);
+
+        given(followingsCache.getFollowingIds(userId)).willReturn(List.of(fast, slow));
+        given(authorRecentTweetsCache.getLatest(any(), eq(PAGE_SIZE))).willAnswer(invocation -> {
+            UUID authorId = invocation.getArgument(0);
+            if (authorId.equals(slow)) {
+                release.await(5, TimeUnit.SECONDS);
+                return List.of(slowTweet);
+            }
+            return authorId.equals(fast) ? List.of(fastTweet) : List.of();
+        });
+
+        TweetListResponse first;
+        try {
+            // When
+            first = service.getTimeline(userId, null, PAGE_SIZE);
+        } finally {
+            release.countDown();
+        }
+
+        // Then: fast 트윗만 반환되지만 slow는 boundary(fast 트윗 시각)보다 최신 위치로 커서에 남음
+        assertThat(first.isPartial()).isTrue();
+        assertThat(first.getTweets()).extracting(TweetResponse::getTweetId)
+                .containsExactly(fastTweet.getKey().getTweetId());
+        assertThat(first.isHasMore()).isTrue();
+        TimelineCursor slowPosition = TimelineMergeCursor.decode(first.getNextCursor()).positionFor(slow);
+        assertThat(slowPosition).isNotNull();
+        assertThat(slowPosition.createdAt()).isAfter(slowTweet.getKey().getCreatedAt());
+
+        // When: 다음 페이지
+        given(tweetByUserRepository.findTweetsAfter(any(), any(), any(), eq(PAGE_SIZE), any(QueryOptions.class)))
+                .willAnswer(invocation -> slow.equals(invocation.getArgument(0)) ? List.of(slowTweet) : List.of());
+        TweetListResponse second = service.getTimeline(userId, first.getNextCursor(), PAGE_SIZE);
+
+        // Then: boundary보다 최신인 slow 트윗도 누락 없이 이어서 반환
+        assertThat(second.isPartial()).isFalse();
+        assertThat(second.getTweets()).extracting(TweetResponse::getTweetId)
+                .containsExactly(slowTweet.getKey().getTweetId());
+    }
+
+    @Test
+    @DisplayName("정상 - created_at이 같은 트윗이 여러 작성자와 페이지 경계에 걸쳐도 누락/중복 없이 최신순으로 이어짐")
+    void getTimeline_TiesAcrossAuthorsAndPages_NoGapsOrDuplicates() {
+        // Given: x, y의 트윗 5개가 같은 시각 t, 페이지 크기 2 → 동률 구간이 세 페이지에 걸침
+        UUID x = UUID.randomUUID();
+        UUID y = UUID.randomUUID();
+        LocalDateTime t = now.minusMinutes(1);
+        Map<UUID, List<TweetByUser>> store = new TreeMap<>();
+        store.put(x, List.of(tweet(x, t, 6), tweet(x, t, 2), tweet(x, t.minusSeconds(1), 9)));
+        store.put(y, List.of(tweet(y, t, 5), tweet(y, t, 4), tweet(y, t, 3)));
+        store.put(userId, List.of(tweet(userId, t.minusSeconds(2), 7)));
+        givenTweetStore(List.of(x, y), store);
+
+        // When
+        List<UUID> returned = readAllPages(2);
+
+        // Then
+        assertThat(returned).containsExactlyElementsOf(newestFirst(store));
+    }
+
+    @Test
+    @DisplayName("정상 - 트윗이 먼저 소진된 작성자가 있어도 남은 작성자의 트윗을 끝까지 이어서 반환")
+    void getTimeline_AuthorsRunOut_ContinuesWithRemainingAuthors() {
+        // Given: a는 최신 트윗 1개, b는 5개, 본인은 없음
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        Map<UUID, List<TweetByUser>> store = new TreeMap<>();
+        store.put(a, List.of(tweet(a, now.minusSeconds(1), 1)));
+        store.put(b, IntStream.range(0, 5).mapToObj(i -> tweet(b, now.minusSeconds(2 + i), 1)).toList());
+        store.put(userId, List.of());
+        givenTweetStore(List.of(a, b), store);
+
+        // When
+        TweetListResponse first = service.getTimeline(userId, null, 3);
+        TweetListResponse second = service.getTimeline(userId, first.getNextCursor(), 3);
+
+        // Then
+        List<UUID> expected = newestFirst(store);
+        assertThat(first.getTweets()).extracting(TweetResponse::getTweetId).containsExactlyElementsOf(expected.subList(0, 3));
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.getTweets()).extracting(TweetResponse::getTweetId).containsExactlyElementsOf(expected.subList(3, 6));
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("정상 - 두 번째 페이지는 첫 페이지 바로 다음 트윗부터 누락/중복 없이 시작")
+    void getTimeline_SecondPage_ContinuesWithoutGapsOrDuplicates() {
+        // Given: 작성자 3명의 트윗이 시간상 교차 (일부는 같은 시각)
+        List<UUID> followings = List.of(UUID.randomUUID(), UUID.randomUUID());
+        Map<UUID, List<TweetByUser>> store = new TreeMap<>();
+        List<UUID> authors = new ArrayList<>(followings);
+        authors.add(userId);
+        for (int a = 0; a < authors.size(); a++) {
+            UUID authorId = authors.get(a);
+            int offset = a;
+            store.put(authorId, IntStream.range(0, 4)
+                    .mapToObj(i -> tweet(authorId, now.minusSeconds(i * 2L + offset % 2), offset))
+                    .toList());
+        }
+        givenTweetStore(followings, store);
+
+        // When
+        TweetListResponse first = service.getTimeline(userId, null, 5);
+        TweetListResponse second = service.getTimeline(userId, first.getNextCursor(), 5);
+
+        // Then
+        List<UUID> expected = newestFirst(store);
+        assertThat(first.getTweets()).extracting(TweetResponse::getTweetId).containsExactlyElementsOf(expected.subList(0, 5));
+        assertThat(second.getTweets()).extracting(TweetResponse::getTweetId).containsExactlyElementsOf(expected.subList(5, 10));
+    }
+
+    @Test
+    @DisplayName("부분 응답 - 작성자 다음 페이지 조회가 실패하면 소진으로 처리하지 않고 위치를 남겨 다음 페이지에서 이어서 조회")
+    void getTimeline_LazyPageFails_MarksPartialAndResumes() {
+        // Given: 작성자 x 한 명의 트윗 4개, 페이지 크기 2 → 첫 페이지 마지막 트윗 이후 다음 페이지 조회가 한 번 실패
+        UUID x = UUID.randomUUID();
+        Map<UUID, List<TweetByUser>> store = new TreeMap<>();
+        store.put(x, IntStream.range(0, 4).mapToObj(i -> tweet(x, now.minusSeconds(i), 1)).toList());
+        store.put(userId, List.of());
+        givenTweetStore(List.of(x), store);
+        Map<UUID, List<TweetByUser>> sorted = new HashMap<>(store);
+        willThrow(new IllegalStateException("Cassandra 조회 실패"))
+                .willAnswer(invocation -> after(sorted, invocation.getArgument(0),
+                        invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)))
+                .given(tweetByUserRepository).findTweetsAfter(any(), any(), any(), anyInt());
+
+        // When
+        TweetListResponse first = service.getTimeline(userId, null, 2);
+        TweetListResponse second = service.getTimeline(userId, first.getNextCursor(), 2);
+
+        // Then: 첫 페이지는 부분 응답이지만 다음 커서가 남고, 두 번째 페이지가 누락 없이 이어짐
+        List<UUID> expected = newestFirst(store);
+        assertThat(first.isPartial()).isTrue();
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getTweets()).extracting(TweetResponse::getTweetId).containsExactlyElementsOf(expected.subList(0, 2));
+        assertThat(second.isPartial()).isFalse();
+        assertThat(second.getTweets()).extracting(TweetResponse::getTweetId).containsExactlyElementsOf(expected.subList(2, 4));
+        assertThat(second.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("부분 응답 - 깊은 페이지에서 열지 못한 작성자가 있으면 트윗을 반환하지 않아 커서가 그 작성자를 건너뛰지 않음")
+    void getFollowingTweetsAfter_UnopenedAuthor_ReturnsNothingAndPartial() {
+        // Given: slow 작성자의 조회가 deadline보다 오래 걸림
+        ReflectionTestUtils.setField(service, "readDeadlineMs", 100L);
+        UUID fast = UUID.randomUUID();
+        UUID slow = UUID.randomUUID();
+        TimelineCursor cursor = new TimelineCursor(now, UUID.randomUUID());
+        TweetByUser fastTweet = tweet(fast, now.minusMinutes(2));
+        TweetByUser slowTweet = tweet(slow, now.minusMinutes(1));
+        CountDownLatch release = new CountDownLatch(1);
+
+        given(followingsCache.getFollowingIds(userId)).willReturn(List.of(fast, slow));
+        given(tweetByUserRepository.findTweetsAfter(any(), any(), any(), eq(PAGE_SIZE), any(QueryOptions.class)))
+                .willAnswer(invocation -> {
+                    if (slow.equals(invocation.getArgument(0))) {
+                        release.await(5, TimeUnit.SECONDS);
+                        return List.of(slowTweet);
+                    }
+                    return List.of(fastTweet);
+                });
+
+        TweetFanoutOnReadService.FollowingTweets result;
+        try {
+            // When
+            result = service.getFollowingTweetsAfter(userId, cursor, PAGE_SIZE);
+        } finally {
+            release.countDown();
+        }
+
+        // Then: fast 트윗만 반환하면 다음 커서가 slow 트윗(더 최신)을 건너뛰게 되므로 아무것도 반환하지 않음
+        assertThat(result.partial()).isTrue();
+        assertThat(result.tweets()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정상 - 깊은 페이지에서 모든 작성자를 열면 같은 커서 이후 트윗을 최신순으로 병합")
+    void getFollowingTweetsAfter_AllOpened_MergesNewestFirst() {
+        // Given
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        TimelineCursor cursor = new TimelineCursor(now, UUID.randomUUID());
+        Map<UUID, List<TweetByUser>> store = new TreeMap<>();
+        store.put(a, List.of(tweet(a, now.minusSeconds(1), 1), tweet(a, now.minusSeconds(3), 1)));
+        store.put(b, List.of(tweet(b, now.minusSeconds(2), 1)));
+        givenTweetStore(List.of(a, b), store);
+
+        // When
+        TweetFanoutOnReadService.FollowingTweets result = service.getFollowingTweetsAfter(userId, cursor, PAGE_SIZE);
+
+        // Then
+        assertThat(result.partial()).isFalse();
+        assertThat(result.tweets()).extracting(tweet -> tweet.getKey().getTweetId())
+                .containsExactlyElementsOf(newestFirst(store));
+    }
+
+    /**
+     * 작성자별 트윗을 메모리에 두고 head 캐시/위치 이후/boundary 이하 조회를 Cassandra 정렬 규칙대로 흉내냄
+     */
+    private void givenTweetStore(List<UUID> followings, Map<UUID, List<TweetByUser>> store) {
+        Comparator<TweetByUser> order = newestFirstOrder();
+        Map<UUID, List<TweetByUser>> sorted = new HashMap<>();
+        store.forEach((authorId, tweets) -> sorted.put(authorId, tweets.stream().sorted(order).toList()));
+
+        given(followingsCache.getFollowingIds(userId)).willReturn(followings);
+        lenient().when(authorRecentTweetsCache.getLatest(any(), anyInt())).thenAnswer(invocation ->
+                limit(sorted.get(invocation.<UUID>getArgument(0)).stream(), invocation.getArgument(1)));
+        lenient().when(tweetByUserRepository.findTweetsAfter(any(), any(), any(), anyInt(), any(QueryOptions.class)))
+                .thenAnswer(invocation -> after(sorted, invocation.getArgument(0),
+                        invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        lenient().when(tweetByUserRepository.findTweetsAfter(any(), any(), any(), anyInt()))
+                .thenAnswer(invocation -> after(sorted, invocation.getArgument(0),
+                        invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        lenient().when(tweetByUserRepository.findTweetsWithCursor(any(), any(), anyInt(), any(QueryOptions.class)))
+                .thenAnswer(invocation -> {
+                    LocalDateTime before = invocation.getArgument(1);
+                    return limit(sorted.get(invocation.<UUID>getArgument(0)).stream()
+                            .filter(tweet -> tweet.getKey().getCreatedAt().isBefore(before)), invocation.getArgument(2));
+                });
+    }
+
+    private static List<TweetByUser> after(Map<UUID, List<TweetByUser>> sorted, UUID authorId,
+                                           LocalDateTime createdAt, UUID tweetId, int limit) {
+        TweetByUser position = TweetByUser.builder().userId(authorId).tweetId(tweetId).createdAt(createdAt).build();
+        return limit(sorted.get(authorId).stream()
+                .filter(tweet -> newestFirstOrder().compare(position, tweet) < 0), limit);
+    }
+
+    private static List<TweetByUser> limit(Stream<TweetByUser> tweets, int limit) {
+        return tweets.limit(limit).toList();
+    }
+
+    private List<UUID> readAllPages(int size) {
+        List<UUID> returned = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page < 100; page++) {
+            TweetListResponse response = service.getTimeline(userId, cursor, size);
+            response.getTweets().forEach(tweet -> returned.add(tweet.getTweetId()));
+            if (!response.isHasMore()) {
+                return returned;
+            }
+            cursor = response.getNextCursor();
+        }
+        throw new AssertionError("페이지가 끝나지 않음");
+    }
+
+    private static List<UUID> newestFirst(Map<UUID, List<TweetByUser>> store) {
+        return store.values().stream()
+                .flatMap(List::stream)
+                .sorted(newestFirstOrder())
+                .map(tweet -> tweet.getKey().getTweetId())
+                .toList();
+    }
+
+    private static Comparator<TweetByUser> newestFirstOrder() {
+        return TimelineCursor.newestFirst(tweet -> tweet.getKey().getCreatedAt(), tweet -> tweet.getKey().getTweetId());
+    }
+
+    /**
+     * tweet_id 정렬 순서를 직접 정한 트윗 (sequence가 클수록 같은 시각 안에서 먼저 반환)
+     */
+    private static TweetByUser tweet(UUID authorId, LocalDateTime createdAt, long sequence) {
+        return TweetByUser.builder()
+                .userId(authorId)
+                .tweetId(new UUID(sequence, UUID.randomUUID().getLeastSignificantBits()))
+                .tweetText("tweet")
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static TweetByUser tweet(UUID authorId, LocalDateTime createdAt) {
+        return TweetByUser.builder()
+                .userId(authorId)
+                .tweetId(UUID.randomUUID())
+                .tweetText("tweet")
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -281,7 +281,7 @@ class TweetFanoutOnReadServiceTest {
     log.info("=== 생성된 더미 데이터 검증 ===");
 
     // User A 타임라인 확인 (Fan-out on Write)
-    List<UserTimeline> userATimeline = userTimelineRepository.findLatestTimeline(USER_A);
+    List<UserTimeline> userATimeline = userTimelineRepository.findLatestTimeline(USER_A, 20);
     log.info("User A 타임라인 개수: {}", userATimeline.size());
 
     // User A 팔로잉 확인 (Fan-out on Read 용)
@@ -0,0 +1,91 @@
+package com.example.demo.domain.user;
+
+import com.example.demo.domain.user.service.UserExistenceService;
+import com.example.demo.util.bloom.UuidBloomFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 사용자 존재 여부 Bloom Filter 인스턴스 간 전파 단위 테스트 (두 인스턴스를 각각 생성)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserExistenceService 테스트")
+class UserExistenceServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private UserExistenceService creator;
+    private UserExistenceService other;
+
+    @BeforeEach
+    void setUp() {
+        creator = instance();
+        other = instance();
+    }
+
+    @Test
+    @DisplayName("정상 - 다른 인스턴스에서 가입한 사용자도 전파 메시지를 받으면 Bloom 음성으로 거절하지 않음")
+    void register_BroadcastsToOtherInstances() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        given(userRepository.findById(userId)).willReturn(Optional.of(mock(User.class)));
+
+        // When
+        creator.register(userId);
+
+        // Then: 생성한 인스턴스는 바로 반영하고 전파 메시지 발행
+        assertThat(creator.exists(userId)).isTrue();
+        then(redisTemplate).should().convertAndSend(UserExistenceService.REGISTRATION_CHANNEL, userId.toString());
+
+        // When: 다른 인스턴스가 메시지 수신
+        other.onMessage(new DefaultMessage(
+                UserExistenceService.REGISTRATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                userId.toString().getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then: Bloom 양성 → DB 확인 후 존재
+        assertThat(other.exists(userId)).isTrue();
+        then(userRepository).should().findById(userId);
+    }
+
+    @Test
+    @DisplayName("정상 - 전파 메시지를 받기 전 Bloom 음성은 DB 조회 없이 없음")
+    void exists_BloomNegative_SkipsDatabase() {
+        // When & Then
+        assertThat(other.exists(UUID.randomUUID())).isFalse();
+        then(userRepository).should(never()).findById(any());
+    }
+
+    private UserExistenceService instance() {
+        UserExistenceService service = new UserExistenceService(userRepository, jdbcTemplate, redisTemplate,
+                listenerContainer, 1000);
+        ReflectionTestUtils.setField(service, "filter", UuidBloomFilter.create(1000, 0.01));
+        return service;
+    }
+}